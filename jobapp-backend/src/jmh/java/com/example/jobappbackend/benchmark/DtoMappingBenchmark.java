@@ -0,0 +1,73 @@
+package com.example.jobappbackend.benchmark;
+
+import com.example.jobappbackend.dto.OfferResponse;
+import com.example.jobappbackend.dto.UserResponse;
+import com.example.jobappbackend.model.Offer;
+import com.example.jobappbackend.model.User;
+import com.example.jobappbackend.repository.ApplicationRepository;
+import com.example.jobappbackend.repository.OfferRepository;
+import com.example.jobappbackend.repository.UserRepository;
+import com.example.jobappbackend.service.OfferService;
+import com.example.jobappbackend.service.UserService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Entity to DTO mapping in {@link OfferService} (offer feed) and {@link UserService} (user list),
+ * with repositories stubbed to return in-memory entities.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class DtoMappingBenchmark {
+
+    /** Number of mapped entities. */
+    @Param({"20", "500", "5000"})
+    public int size;
+
+    private OfferService offerService;
+    private UserService userService;
+
+    @Setup
+    public void setUp() {
+        User student = Fixtures.student(1);
+        List<Offer> offers = Fixtures.offers(size);
+        List<User> users = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            users.add(Fixtures.student(i));
+        }
+
+        UserRepository userRepository = Fixtures.repository(UserRepository.class, Map.of(
+                "findByUsername", Fixtures.returningOptional(student),
+                "findAll", Fixtures.returning(users)));
+        OfferRepository offerRepository = Fixtures.repository(OfferRepository.class, Map.of(
+                "findOpen", Fixtures.returning(offers)));
+        ApplicationRepository applicationRepository = Fixtures.repository(ApplicationRepository.class, Map.of(
+                "findOpenAppliedOfferIds", Fixtures.returning(Set.of())));
+
+        offerService = new OfferService(offerRepository, userRepository, applicationRepository, null, null);
+        userService = new UserService(userRepository, offerRepository, applicationRepository, null, null, null);
+    }
+
+    @Benchmark
+    public List<OfferResponse> offerFeed() {
+        return offerService.getAllOffers("student1");
+    }
+
+    @Benchmark
+    public List<UserResponse> userList() {
+        return userService.getAllUsers();
+    }
+}
@@ -0,0 +1,111 @@
+package com.example.jobappbackend.benchmark;
+
+import com.example.jobappbackend.model.Offer;
+import com.example.jobappbackend.model.User;
+
+import java.lang.reflect.Proxy;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+
+/**
+ * Realistic in-memory data and repository stubs shared by the benchmarks,
+ * so that they measure application code and not the database.
+ */
+final class Fixtures {
+
+    /** Secret with the length required by {@code JwtService}. */
+    static final String JWT_SECRET = "benchmark-secret-0123456789abcdefghij";
+
+    /** Token lifetime used by the benchmarks (one day, as configured in production). */
+    static final long JWT_EXPIRATION_MS = 86_400_000L;
+
+    private Fixtures() {
+    }
+
+    /** A student with every profile field filled. */
+    static User student(long id) {
+        User user = new User();
+        user.setId(id);
+        user.setUsername("student" + id);
+        user.setEmail("student" + id + "@students.example.com");
+        user.setPassword("$2a$10$abcdefghijklmnopqrstuuPZ6q6Z4yW8qf0P8dKpD8e5x6fU8u9aG");
+        user.setRole("STUDENT");
+        user.setFirstName("Firstname" + id);
+        user.setLastName("Lastname" + id);
+        user.setAddress(id + " Rue de la Station, 7000 Mons");
+        user.setPhoneNumber("+32 470 00 00 " + (id % 100));
+        return user;
+    }
+
+    /** A company account. */
+    static User company(long id) {
+        User user = student(id);
+        user.setUsername("company" + id);
+        user.setEmail("jobs@company" + id + ".example.com");
+        user.setRole("COMPANY");
+        user.setCompanyName("Company " + id + " SA");
+        return user;
+    }
+
+    /** Offers with descriptions of about 1.5 KB, spread over 20 companies. */
+    static List<Offer> offers(int count) {
+        List<User> companies = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            companies.add(company(10_000 + i));
+        }
+        String description = "We are looking for a motivated intern to join our engineering team. ".repeat(22);
+        List<Offer> offers = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            Offer offer = new Offer();
+            offer.setId((long) i + 1);
+            offer.setTitle("Software engineering internship #" + i);
+            offer.setDescription(description);
+            offer.setLogoUrl("https://cdn.example.com/logos/company-" + (i % 20) + ".png");
+            offer.setWebsiteUrl("https://company" + (i % 20) + ".example.com/careers");
+            offer.setCreatedAt(LocalDateTime.of(2025, 1, 1, 9, 0).plusHours(i));
+            offer.setCreatedBy(companies.get(i % 20));
+            offers.add(offer);
+        }
+        return offers;
+    }
+
+    /**
+     * Creates a repository whose listed methods return fixed answers.
+     * Any other method fails, so a benchmark cannot silently measure a missing stub.
+     *
+     * @param type    the repository interface
+     * @param answers answers by method name, computed from the call arguments
+     * @return the stub
+     */
+    static <T> T repository(Class<T> type, Map<String, Function<Object[], Object>> answers) {
+        Object stub = Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type}, (proxy, method, args) -> {
+            Function<Object[], Object> answer = answers.get(method.getName());
+            if (answer != null) {
+                return answer.apply(args);
+            }
+            if (method.getDeclaringClass() == Object.class) {
+                return switch (method.getName()) {
+                    case "hashCode" -> System.identityHashCode(proxy);
+                    case "equals" -> proxy == args[0];
+                    default -> type.getSimpleName() + " stub";
+                };
+            }
+            throw new UnsupportedOperationException(method.getName() + " is not stubbed");
+        });
+        return type.cast(stub);
+    }
+
+    /** Answer returning the given value whatever the arguments. */
+    static Function<Object[], Object> returning(Object value) {
+        return args -> value;
+    }
+
+    /** Answer returning an Optional of the given value whatever the arguments. */
+    static Function<Object[], Object> returningOptional(Object value) {
+        return args -> Optional.ofNullable(value);
+    }
+}
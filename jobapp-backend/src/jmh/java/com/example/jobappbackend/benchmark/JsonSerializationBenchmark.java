@@ -0,0 +1,68 @@
+package com.example.jobappbackend.benchmark;
+
+import com.example.jobappbackend.dto.OfferResponse;
+import com.example.jobappbackend.dto.UserResponse;
+import com.example.jobappbackend.model.Offer;
+import com.example.jobappbackend.model.User;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JSON serialization of the offer feed and of the admin user list, with the same
+ * Jackson configuration as Spring MVC (Java time module, ISO dates).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JsonSerializationBenchmark {
+
+    /** Number of elements in the serialized list. */
+    @Param({"20", "500", "5000"})
+    public int size;
+
+    private ObjectWriter writer;
+    private List<OfferResponse> offers;
+    private List<UserResponse> users;
+
+    @Setup
+    public void setUp() {
+        writer = Jackson2ObjectMapperBuilder.json().build().writer();
+
+        offers = new ArrayList<>(size);
+        for (Offer offer : Fixtures.offers(size)) {
+            offers.add(new OfferResponse(offer.getId(), offer.getTitle(), offer.getDescription(),
+                    offer.getLogoUrl(), offer.getWebsiteUrl(), offer.getCreatedAt(),
+                    offer.getCreatedBy().getCompanyName(), offer.getId() % 3 == 0));
+        }
+
+        users = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            User user = Fixtures.student(i);
+            users.add(new UserResponse(user.getId(), user.getUsername(), user.getEmail(), user.getRole(),
+                    user.getFirstName(), user.getLastName(), user.getAddress(), user.getCompanyName(),
+                    user.getPhoneNumber()));
+        }
+    }
+
+    @Benchmark
+    public byte[] offerFeed() throws Exception {
+        return writer.writeValueAsBytes(offers);
+    }
+
+    @Benchmark
+    public byte[] userList() throws Exception {
+        return writer.writeValueAsBytes(users);
+    }
+}
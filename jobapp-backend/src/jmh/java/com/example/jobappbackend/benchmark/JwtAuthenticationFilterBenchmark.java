@@ -0,0 +1,57 @@
+package com.example.jobappbackend.benchmark;
+
+import com.example.jobappbackend.config.JwtAuthenticationFilter;
+import com.example.jobappbackend.model.User;
+import com.example.jobappbackend.repository.UserRepository;
+import com.example.jobappbackend.service.JwtService;
+import com.example.jobappbackend.service.UserService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link JwtAuthenticationFilter} end to end for a request carrying a valid Bearer token:
+ * token parsing, user lookup (stubbed repository) and security context setup.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JwtAuthenticationFilterBenchmark {
+
+    private JwtAuthenticationFilter filter;
+    private String authorization;
+
+    @Setup
+    public void setUp() {
+        JwtService jwtService = new JwtService(Fixtures.JWT_SECRET, Fixtures.JWT_EXPIRATION_MS);
+        User user = Fixtures.student(42);
+        UserRepository userRepository = Fixtures.repository(UserRepository.class,
+                Map.of("findByUsername", Fixtures.returningOptional(user)));
+        UserService userService = new UserService(userRepository, null, null, null, null, null);
+        filter = new JwtAuthenticationFilter(jwtService, userService);
+        authorization = "Bearer " + jwtService.generateToken(user);
+    }
+
+    @Benchmark
+    public Object authenticatedRequest() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/offers");
+        request.addHeader("Authorization", authorization);
+        try {
+            filter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+            return SecurityContextHolder.getContext().getAuthentication();
+        } finally {
+            SecurityContextHolder.clearContext();
+        }
+    }
+}
@@ -0,0 +1,178 @@
+package com.example.jobappbackend.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.function.Supplier;
+
+/**
+ * The user journeys played by the virtual users, each step being timed in its {@link StepStats}.
+ * <p>
+ * Accounts follow the conventions of the dataset generator: {@code student<n>} and
+ * {@code company<n>}, with company {@code n} having user ID {@code n}. Reads go to the MVC
+ * endpoints, or to their non-blocking counterparts when the read prefix is {@code /reactive}.
+ */
+final class Journeys {
+
+    private final HttpClient client;
+    private final String baseUrl;
+    private final String readPrefix;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final int students;
+    private final int companies;
+    private final String password;
+    private final byte[] cv;
+    private final byte[] motivation;
+    private final Map<String, StepStats> steps = new LinkedHashMap<>();
+
+    Journeys(HttpClient client, String baseUrl, String readPrefix, int students, int companies, String password, int attachmentKb) {
+        this.client = client;
+        this.baseUrl = baseUrl;
+        this.readPrefix = readPrefix;
+        this.students = students;
+        this.companies = companies;
+        this.password = password;
+        SplittableRandom random = new SplittableRandom(7);
+        this.cv = randomBytes(random, attachmentKb * 1024);
+        this.motivation = randomBytes(random, attachmentKb * 512);
+        for (String step : List.of("student.login", "student.offers", "student.offer", "student.apply",
+                "company.login", "company.offers")) {
+            steps.put(step, new StepStats(step));
+        }
+    }
+
+    /** @return the statistics of every step, in journey order */
+    List<StepStats> getSteps() {
+        return new ArrayList<>(steps.values());
+    }
+
+    /**
+     * Student journey: log in, browse the offers, open one and apply with a CV and a letter.
+     * A student applying twice to the same offer is rejected by the API and counted as an error.
+     */
+    void student(SplittableRandom random) {
+        String token = login("student.login", "student" + (1 + random.nextInt(students)));
+        if (token == null) {
+            return;
+        }
+        HttpResponse<byte[]> feed = timed("student.offers", 200,
+                () -> get(readPrefix + "/offers", token));
+        List<Long> offerIds = feed == null ? List.of() : ids(feed.body());
+        if (offerIds.isEmpty()) {
+            return;
+        }
+        long offerId = offerIds.get(random.nextInt(offerIds.size()));
+        timed("student.offer", 200, () -> get(readPrefix + "/offers/" + offerId, token));
+        timed("student.apply", 200, () -> apply(offerId, token));
+    }
+
+    /** Company journey: log in and list the company's own offers. */
+    void company(SplittableRandom random) {
+        int companyId = 1 + random.nextInt(companies);
+        String token = login("company.login", "company" + companyId);
+        if (token != null) {
+            timed("company.offers", 200, () -> get(readPrefix + "/company/offers?userId=" + companyId, token));
+        }
+    }
+
+    private String login(String step, String username) {
+        String body = "{\"username\":\"" + username + "\",\"password\":\"" + password + "\"}";
+        HttpResponse<byte[]> response = timed(step, 200, () -> HttpRequest.newBuilder(uri("/auth/login"))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(body))
+                .build());
+        if (response == null || response.statusCode() != 200) {
+            return null;
+        }
+        try {
+            return objectMapper.readTree(response.body()).path("token").asText(null);
+        } catch (IOException e) {
+            return null;
+        }
+    }
+
+    private HttpRequest get(String path, String token) {
+        return HttpRequest.newBuilder(uri(path))
+                .header("Authorization", "Bearer " + token)
+                .GET()
+                .build();
+    }
+
+    private HttpRequest apply(long offerId, String token) {
+        String boundary = "----jobapp-load-test-boundary";
+        ByteArrayOutputStream body = new ByteArrayOutputStream(cv.length + motivation.length + 512);
+        part(body, boundary, "cv", "cv.pdf", cv);
+        part(body, boundary, "motivation", "motivation.pdf", motivation);
+        body.writeBytes(("--" + boundary + "--\r\n").getBytes(StandardCharsets.US_ASCII));
+        return HttpRequest.newBuilder(uri("/offers/" + offerId + "/apply"))
+                .header("Authorization", "Bearer " + token)
+                .header("Content-Type", "multipart/form-data; boundary=" + boundary)
+                .POST(HttpRequest.BodyPublishers.ofByteArray(body.toByteArray()))
+                .build();
+    }
+
+    private static void part(ByteArrayOutputStream body, String boundary, String name, String fileName, byte[] content) {
+        body.writeBytes(("--" + boundary + "\r\n"
+                + "Content-Disposition: form-data; name=\"" + name + "\"; filename=\"" + fileName + "\"\r\n"
+                + "Content-Type: application/pdf\r\n\r\n").getBytes(StandardCharsets.US_ASCII));
+        body.writeBytes(content);
+        body.writeBytes("\r\n".getBytes(StandardCharsets.US_ASCII));
+    }
+
+    /**
+     * Sends a request and records its latency in the step.
+     *
+     * @return the response, or null when the request failed without a response
+     */
+    private HttpResponse<byte[]> timed(String step, int expectedStatus, Supplier<HttpRequest> request) {
+        HttpRequest built = request.get();
+        long start = System.nanoTime();
+        try {
+            HttpResponse<byte[]> response = client.send(built, HttpResponse.BodyHandlers.ofByteArray());
+            steps.get(step).record(System.nanoTime() - start, response.statusCode() == expectedStatus);
+            return response;
+        } catch (IOException e) {
+            steps.get(step).record(System.nanoTime() - start, false);
+            return null;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return null;
+        }
+    }
+
+    private List<Long> ids(byte[] json) {
+        List<Long> ids = new ArrayList<>();
+        try {
+            for (JsonNode offer : objectMapper.readTree(json)) {
+                ids.add(offer.path("id").asLong());
+            }
+        } catch (IOException e) {
+            return List.of();
+        }
+        return ids;
+    }
+
+    private URI uri(String path) {
+        return URI.create(baseUrl + path);
+    }
+
+    private static byte[] randomBytes(SplittableRandom random, int size) {
+        byte[] bytes = new byte[size];
+        for (int i = 0; i < size; i++) {
+            bytes[i] = (byte) random.nextInt(256);
+        }
+        return bytes;
+    }
+}
@@ -0,0 +1,251 @@
+package com.example.jobappbackend.loadtest;
+
+import com.example.jobappbackend.JobappBackendApplication;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.testcontainers.containers.PostgreSQLContainer;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.net.http.HttpClient;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Local end-to-end load test of the main user journeys.
+ * <p>
+ * Unless {@code loadtest.base-url} points to a running instance, the harness starts everything
+ * itself: a PostgreSQL (the one at {@code loadtest.jdbc-url}, or a Testcontainers one), an
+ * {@link SmtpSink} receiving the application mails, and the application with the {@code seed}
+ * profile to load a reproducible dataset. Virtual users then play the student and company
+ * journeys in a closed loop for the configured duration, and the latency of each step is
+ * reported (p50/p90/p99/p99.9/max) on the console and in {@code loadtest.report-dir}.
+ * <p>
+ * With {@code loadtest.thread-modes=platform,virtual}, the application is started once per
+ * request-handling mode on a freshly seeded database, and the runs are compared side by side.
+ * With {@code loadtest.read-prefix=/reactive}, the reads go to the non-blocking endpoints.
+ * <p>
+ * Run with {@code ./gradlew loadTest -Ploadtest.concurrency=32 -Ploadtest.duration-seconds=120}.
+ */
+public final class LoadTestHarness {
+
+    private LoadTestHarness() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        Settings settings = new Settings();
+        List<AutoCloseable> resources = new ArrayList<>();
+        try {
+            if (!settings.baseUrl.isBlank()) {
+                Journeys journeys = run(settings, settings.baseUrl);
+                report(journeys.getSteps(), settings, null, settings.reportDir);
+            } else {
+                SmtpSink smtpSink = new SmtpSink();
+                resources.add(smtpSink);
+                if (settings.jdbcUrl.isBlank()) {
+                    PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:16-alpine");
+                    postgres.start();
+                    resources.add(postgres::stop);
+                    settings.jdbcUrl = postgres.getJdbcUrl();
+                    settings.jdbcUsername = postgres.getUsername();
+                    settings.jdbcPassword = postgres.getPassword();
+                }
+
+                Map<String, Run> results = new LinkedHashMap<>();
+                for (String mode : settings.threadModes) {
+                    boolean virtual = "virtual".equals(mode);
+                    if (virtual && Runtime.version().feature() < 21) {
+                        throw new IllegalStateException("The virtual thread mode requires Java 21 (build with -PjavaVersion=21)");
+                    }
+                    long mailsBefore = smtpSink.getMessageCount();
+                    try (ConfigurableApplicationContext app = start(settings, smtpSink, virtual)) {
+                        String baseUrl = "http://localhost:" + app.getEnvironment().getProperty("local.server.port");
+                        System.out.printf("%n=== %s threads ===%n", mode);
+                        Journeys journeys = run(settings, baseUrl);
+                        Path reportDir = settings.threadModes.size() > 1 ? settings.reportDir.resolve(mode) : settings.reportDir;
+                        report(journeys.getSteps(), settings, smtpSink.getMessageCount() - mailsBefore, reportDir);
+                        results.put(mode, new Run(journeys.getSteps(), settings.measuredSeconds));
+                    }
+                }
+                if (results.size() > 1) {
+                    compare(results, settings);
+                }
+            }
+        } finally {
+            for (int i = resources.size() - 1; i >= 0; i--) {
+                resources.get(i).close();
+            }
+        }
+        System.exit(0);
+    }
+
+    /**
+     * Starts the application on a freshly seeded database, with mails going to the sink.
+     *
+     * @param virtual whether requests are handled on virtual threads
+     */
+    private static ConfigurableApplicationContext start(Settings settings, SmtpSink smtpSink, boolean virtual) {
+        return SpringApplication.run(JobappBackendApplication.class,
+                "--spring.profiles.active=seed",
+                "--spring.threads.virtual.enabled=" + virtual,
+                "--server.port=0",
+                "--spring.datasource.url=" + settings.jdbcUrl,
+                "--spring.datasource.username=" + settings.jdbcUsername,
+                "--spring.datasource.password=" + settings.jdbcPassword,
+                "--spring.datasource.hikari.maximum-pool-size=" + settings.dbPoolSize,
+                "--spring.r2dbc.url=" + settings.jdbcUrl.replaceFirst("^jdbc:", "r2dbc:").replaceFirst("\\?.*$", ""),
+                "--spring.r2dbc.username=" + settings.jdbcUsername,
+                "--spring.r2dbc.password=" + settings.jdbcPassword,
+                "--spring.r2dbc.pool.max-size=" + settings.dbPoolSize,
+                "--spring.mail.host=127.0.0.1",
+                "--spring.mail.port=" + smtpSink.getPort(),
+                "--spring.mail.username=",
+                "--spring.mail.password=",
+                "--spring.mail.properties.mail.smtp.auth=false",
+                "--spring.mail.properties.mail.smtp.starttls.enable=false",
+                "--jobapp.seed.exit-when-done=false",
+                "--jobapp.seed.truncate=true",
+                "--jobapp.seed.password=" + settings.password,
+                "--jobapp.seed.companies=" + settings.companies,
+                "--jobapp.seed.students=" + settings.students,
+                "--jobapp.seed.offers-per-company=" + settings.offersPerCompany,
+                "--jobapp.seed.applications=" + settings.applications);
+    }
+
+    /** Plays the journeys against the given instance and returns their statistics. */
+    private static Journeys run(Settings settings, String baseUrl) throws InterruptedException {
+        HttpClient client = HttpClient.newBuilder()
+                .connectTimeout(Duration.ofSeconds(10))
+                .executor(Executors.newFixedThreadPool(Math.max(4, settings.concurrency / 4)))
+                .build();
+        Journeys journeys = new Journeys(client, baseUrl, settings.readPrefix, settings.students,
+                settings.companies, settings.password, settings.attachmentKb);
+        System.out.printf("Load test against %s: %d virtual users, %d s warm-up, %d s measured%n",
+                baseUrl, settings.concurrency, settings.warmupSeconds, settings.durationSeconds);
+        settings.measuredSeconds = run(journeys, settings) / 1e9;
+        return journeys;
+    }
+
+    /**
+     * Runs the virtual users, each one choosing a company or student journey at every iteration.
+     *
+     * @return the measured duration (after the warm-up), in nanoseconds
+     */
+    private static long run(Journeys journeys, Settings settings) throws InterruptedException {
+        long warmupEnd = System.nanoTime() + TimeUnit.SECONDS.toNanos(settings.warmupSeconds);
+        long end = warmupEnd + TimeUnit.SECONDS.toNanos(settings.durationSeconds);
+        ExecutorService users = Executors.newFixedThreadPool(settings.concurrency);
+        for (int i = 0; i < settings.concurrency; i++) {
+            SplittableRandom random = new SplittableRandom(1000L + i);
+            users.execute(() -> {
+                while (System.nanoTime() < end && !Thread.currentThread().isInterrupted()) {
+                    if (random.nextDouble() < settings.companyShare) {
+                        journeys.company(random);
+                    } else {
+                        journeys.student(random);
+                    }
+                }
+            });
+        }
+
+        TimeUnit.NANOSECONDS.sleep(Math.max(0, warmupEnd - System.nanoTime()));
+        journeys.getSteps().forEach(StepStats::reset);
+        long measuredStart = System.nanoTime();
+        users.shutdown();
+        if (!users.awaitTermination(settings.durationSeconds + 300, TimeUnit.SECONDS)) {
+            users.shutdownNow();
+        }
+        return System.nanoTime() - measuredStart;
+    }
+
+    /**
+     * Prints the summary table and writes it with the full distributions to the report directory.
+     *
+     * @param mails the number of mails received during the run, or null when unknown
+     */
+    private static void report(List<StepStats> steps, Settings settings, Long mails, Path reportDir)
+            throws IOException {
+        Files.createDirectories(reportDir);
+        try (PrintStream summary = new PrintStream(Files.newOutputStream(reportDir.resolve("summary.txt")))) {
+            for (PrintStream out : List.of(System.out, summary)) {
+                out.printf("%-22s %9s %7s %9s %9s %9s %9s %9s %9s%n",
+                        "step", "count", "errors", "req/s", "p50 ms", "p90 ms", "p99 ms", "p99.9 ms", "max ms");
+                for (StepStats step : steps) {
+                    step.printSummary(out, settings.measuredSeconds);
+                }
+                if (mails != null) {
+                    out.printf("mails received by the SMTP sink: %d%n", mails);
+                }
+            }
+        }
+        for (StepStats step : steps) {
+            try (PrintStream out = new PrintStream(Files.newOutputStream(reportDir.resolve(step.getName() + ".hgrm")))) {
+                step.printDistribution(out);
+            }
+        }
+        System.out.println("Reports written to " + reportDir.toAbsolutePath());
+    }
+
+    /** Prints and writes the throughput and p99 of each step, one column pair per thread mode. */
+    private static void compare(Map<String, Run> results, Settings settings) throws IOException {
+        Files.createDirectories(settings.reportDir);
+        try (PrintStream file = new PrintStream(Files.newOutputStream(settings.reportDir.resolve("comparison.txt")))) {
+            for (PrintStream out : List.of(System.out, file)) {
+                out.printf("%nComparison at %d virtual users%n%-22s", settings.concurrency, "step");
+                for (String mode : results.keySet()) {
+                    out.printf(" %16s %16s", mode + " req/s", mode + " p99 ms");
+                }
+                out.println();
+                List<String> steps = results.values().iterator().next().steps().stream().map(StepStats::getName).toList();
+                for (int i = 0; i < steps.size(); i++) {
+                    out.printf("%-22s", steps.get(i));
+                    for (Run run : results.values()) {
+                        StepStats step = run.steps().get(i);
+                        out.printf(" %16.1f %16.2f", step.getCount() / run.seconds(), step.getPercentileMillis(99));
+                    }
+                    out.println();
+                }
+            }
+        }
+    }
+
+    /** The statistics of one run and its measured duration in seconds. */
+    private record Run(List<StepStats> steps, double seconds) {
+    }
+
+    /** Harness settings, read from the {@code loadtest.*} system properties. */
+    private static final class Settings {
+        private final int concurrency = Integer.getInteger("loadtest.concurrency", 16);
+        private final long warmupSeconds = Long.getLong("loadtest.warmup-seconds", 15);
+        private final long durationSeconds = Long.getLong("loadtest.duration-seconds", 60);
+        private final double companyShare = Double.parseDouble(System.getProperty("loadtest.company-share", "0.2"));
+        private final int companies = Integer.getInteger("loadtest.companies", 50);
+        private final int students = Integer.getInteger("loadtest.students", 5000);
+        private final int offersPerCompany = Integer.getInteger("loadtest.offers-per-company", 10);
+        private final long applications = Long.getLong("loadtest.applications", 50_000);
+        private final int attachmentKb = Integer.getInteger("loadtest.attachment-kb", 100);
+        private final int dbPoolSize = Integer.getInteger("loadtest.db-pool-size", 20);
+        private final String password = System.getProperty("loadtest.password", "password");
+        private final Path reportDir = Path.of(System.getProperty("loadtest.report-dir", "build/reports/loadtest"));
+        private final String baseUrl = System.getProperty("loadtest.base-url", "");
+        /** "" for the MVC reads, "/reactive" for the non-blocking ones. */
+        private final String readPrefix = System.getProperty("loadtest.read-prefix", "");
+        private final List<String> threadModes =
+                List.of(System.getProperty("loadtest.thread-modes", "platform").split("\\s*,\\s*"));
+        private String jdbcUrl = System.getProperty("loadtest.jdbc-url", "");
+        private String jdbcUsername = System.getProperty("loadtest.jdbc-username", "postgres");
+        private String jdbcPassword = System.getProperty("loadtest.jdbc-password", "postgres");
+
+        /** Measured duration of the last run, in seconds. */
+        private double measuredSeconds;
+    }
+}
@@ -0,0 +1,184 @@
+package com.example.jobappbackend.loadtest;
+
+import org.testcontainers.containers.PostgreSQLContainer;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the time to first request of the application in the normal mode and in the
+ * fast-startup variants (lazy initialization, Spring AOT, AppCDS).
+ * <p>
+ * Each variant starts the extracted application jar in its own JVM against the same PostgreSQL
+ * (the one at {@code startup.jdbc-url}, or a Testcontainers one). The time to first request is
+ * measured from the process start to the first response of {@code /actuator/health}. A first,
+ * unmeasured start in the normal mode creates the schema. The variants start in turn, so that a
+ * drift of the machine load affects them alike. The median and the minimum of
+ * {@code startup.runs} starts are reported on the console and in {@code startup.report-dir}.
+ * <p>
+ * Run with {@code ./gradlew startupReport -Paot}, which builds the AOT jar and the CDS archive first.
+ */
+public final class StartupReport {
+
+    private static final Duration START_TIMEOUT = Duration.ofMinutes(3);
+
+    private StartupReport() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        String java = System.getProperty("startup.java", "java");
+        Path jar = Path.of(System.getProperty("startup.jar"));
+        Path cdsArchive = Path.of(System.getProperty("startup.cds-archive"));
+        boolean aot = Boolean.getBoolean("startup.aot");
+        int runs = Integer.getInteger("startup.runs", 5);
+        Path reportDir = Path.of(System.getProperty("startup.report-dir", "build/reports/startup"));
+        String jdbcUrl = System.getProperty("startup.jdbc-url", "");
+        String jdbcUsername = System.getProperty("startup.jdbc-username", "postgres");
+        String jdbcPassword = System.getProperty("startup.jdbc-password", "postgres");
+
+        PostgreSQLContainer<?> postgres = null;
+        if (jdbcUrl.isBlank()) {
+            postgres = new PostgreSQLContainer<>("postgres:16-alpine");
+            postgres.start();
+            jdbcUrl = postgres.getJdbcUrl();
+            jdbcUsername = postgres.getUsername();
+            jdbcPassword = postgres.getPassword();
+        }
+        try {
+            List<String> appArgs = List.of(
+                    "--spring.datasource.url=" + jdbcUrl,
+                    "--spring.datasource.username=" + jdbcUsername,
+                    "--spring.datasource.password=" + jdbcPassword,
+                    "--spring.r2dbc.url=" + jdbcUrl.replaceFirst("^jdbc:", "r2dbc:").replaceFirst("\\?.*$", ""),
+                    "--spring.r2dbc.username=" + jdbcUsername,
+                    "--spring.r2dbc.password=" + jdbcPassword,
+                    "--spring.mail.host=127.0.0.1");
+
+            List<Variant> variants = new ArrayList<>();
+            variants.add(new Variant("normal", List.of(), List.of()));
+            variants.add(new Variant("fast-startup", List.of(), List.of("--spring.profiles.active=fast-startup")));
+            if (aot) {
+                variants.add(new Variant("fast-startup + AOT", List.of("-Dspring.aot.enabled=true"),
+                        List.of("--spring.profiles.active=fast-startup")));
+            }
+            if (Files.exists(cdsArchive)) {
+                List<String> cdsOptions = new ArrayList<>(List.of("-XX:SharedArchiveFile=" + cdsArchive));
+                if (aot) {
+                    cdsOptions.add("-Dspring.aot.enabled=true");
+                }
+                variants.add(new Variant(aot ? "fast-startup + AOT + CDS" : "fast-startup + CDS", cdsOptions,
+                        List.of("--spring.profiles.active=fast-startup")));
+            }
+
+            Files.createDirectories(reportDir);
+            System.out.println("Creating the schema with a first start in the normal mode");
+            start(java, jar, variants.get(0), appArgs, reportDir.resolve("schema.log"));
+
+            List<long[]> results = new ArrayList<>();
+            for (int v = 0; v < variants.size(); v++) {
+                results.add(new long[runs]);
+            }
+            for (int i = 0; i < runs; i++) {
+                for (int v = 0; v < variants.size(); v++) {
+                    Variant variant = variants.get(v);
+                    Path log = reportDir.resolve(variant.fileName() + "-" + (i + 1) + ".log");
+                    results.get(v)[i] = start(java, jar, variant, appArgs, log);
+                    System.out.printf("%-26s run %d: %d ms%n", variant.name(), i + 1, results.get(v)[i]);
+                }
+            }
+            results.forEach(Arrays::sort);
+
+            try (PrintStream summary = new PrintStream(Files.newOutputStream(reportDir.resolve("summary.txt")))) {
+                for (PrintStream out : List.of(System.out, summary)) {
+                    out.printf("%nTime to first request (%d runs, %s)%n%-26s %10s %10s %10s%n",
+                            runs, Runtime.version(), "variant", "median ms", "min ms", "vs normal");
+                    long baseline = results.get(0)[runs / 2];
+                    for (int i = 0; i < variants.size(); i++) {
+                        long median = results.get(i)[runs / 2];
+                        out.printf("%-26s %10d %10d %9.0f%%%n", variants.get(i).name(), median, results.get(i)[0],
+                                100.0 * (median - baseline) / baseline);
+                    }
+                }
+            }
+            System.out.println("Reports written to " + reportDir.toAbsolutePath());
+        } finally {
+            if (postgres != null) {
+                postgres.stop();
+            }
+        }
+    }
+
+    /**
+     * Starts the application, waits for its first response and stops it.
+     *
+     * @return the time from the process start to the first response, in milliseconds
+     */
+    private static long start(String java, Path jar, Variant variant, List<String> appArgs, Path log)
+            throws IOException, InterruptedException {
+        int port = freePort();
+        List<String> command = new ArrayList<>();
+        command.add(java);
+        command.addAll(variant.jvmOptions());
+        command.add("-jar");
+        command.add(jar.toString());
+        command.add("--server.port=" + port);
+        command.addAll(appArgs);
+        command.addAll(variant.appArgs());
+
+        HttpClient client = HttpClient.newBuilder().connectTimeout(Duration.ofMillis(200)).build();
+        HttpRequest health = HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/actuator/health")).build();
+
+        long startNanos = System.nanoTime();
+        Process process = new ProcessBuilder(command)
+                .directory(jar.getParent().toFile())
+                .redirectErrorStream(true)
+                .redirectOutput(log.toFile())
+                .start();
+        try {
+            long deadline = startNanos + START_TIMEOUT.toNanos();
+            while (System.nanoTime() < deadline) {
+                if (!process.isAlive()) {
+                    throw new IllegalStateException(variant.name() + " exited with " + process.exitValue() + ", see " + log);
+                }
+                try {
+                    client.send(health, HttpResponse.BodyHandlers.discarding());
+                    return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos);
+                } catch (IOException notListeningYet) {
+                    Thread.sleep(10);
+                }
+            }
+            throw new IllegalStateException(variant.name() + " did not answer within " + START_TIMEOUT + ", see " + log);
+        } finally {
+            process.destroy();
+            if (!process.waitFor(30, TimeUnit.SECONDS)) {
+                process.destroyForcibly().waitFor();
+            }
+        }
+    }
+
+    private static int freePort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+
+    /** A way of starting the application: JVM options and application arguments. */
+    private record Variant(String name, List<String> jvmOptions, List<String> appArgs) {
+
+        String fileName() {
+            return name.replaceAll("[^a-zA-Z0-9]+", "-");
+        }
+    }
+}
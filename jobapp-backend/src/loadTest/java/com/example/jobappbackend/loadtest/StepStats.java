@@ -0,0 +1,85 @@
+package com.example.jobappbackend.loadtest;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.io.PrintStream;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Latencies and errors of one journey step, recorded by all virtual users.
+ * Latencies are kept in an HdrHistogram in microseconds with 3 significant digits.
+ */
+final class StepStats {
+
+    private final String name;
+    private final Histogram latencies = new ConcurrentHistogram(TimeUnit.MINUTES.toMicros(5), 3);
+    private final AtomicLong errors = new AtomicLong();
+
+    StepStats(String name) {
+        this.name = name;
+    }
+
+    String getName() {
+        return name;
+    }
+
+    /**
+     * @param nanos   the step duration
+     * @param success whether the response had the expected status
+     */
+    void record(long nanos, boolean success) {
+        latencies.recordValue(Math.min(TimeUnit.NANOSECONDS.toMicros(nanos), latencies.getHighestTrackableValue()));
+        if (!success) {
+            errors.incrementAndGet();
+        }
+    }
+
+    /** Forgets the values recorded during the warm-up. */
+    void reset() {
+        latencies.reset();
+        errors.set(0);
+    }
+
+    /** @return the number of recorded requests */
+    long getCount() {
+        return latencies.getTotalCount();
+    }
+
+    /**
+     * @param percentile the percentile, between 0 and 100
+     * @return the latency at this percentile, in milliseconds
+     */
+    double getPercentileMillis(double percentile) {
+        return millis(latencies.getValueAtPercentile(percentile));
+    }
+
+    /**
+     * Prints one line of the summary table.
+     *
+     * @param out            the output
+     * @param elapsedSeconds the measured duration
+     */
+    void printSummary(PrintStream out, double elapsedSeconds) {
+        long count = latencies.getTotalCount();
+        out.printf("%-22s %9d %7d %9.1f %9.2f %9.2f %9.2f %9.2f %9.2f%n",
+                name, count, errors.get(), count / elapsedSeconds,
+                millis(latencies.getValueAtPercentile(50)), millis(latencies.getValueAtPercentile(90)),
+                millis(latencies.getValueAtPercentile(99)), millis(latencies.getValueAtPercentile(99.9)),
+                millis(latencies.getMaxValue()));
+    }
+
+    /**
+     * Writes the full percentile distribution, readable by the HdrHistogram plotter.
+     *
+     * @param out the output
+     */
+    void printDistribution(PrintStream out) {
+        latencies.outputPercentileDistribution(out, 1000.0);
+    }
+
+    private static double millis(long micros) {
+        return micros / 1000.0;
+    }
+}
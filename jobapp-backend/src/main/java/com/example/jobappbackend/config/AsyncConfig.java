@@ -0,0 +1,139 @@
+package com.example.jobappbackend.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.TaskDecorator;
+import org.springframework.scheduling.annotation.EnableAsync;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Configuration class for the executors running background work.
+ * Each executor is bounded so that a burst of jobs cannot exhaust threads or memory.
+ * <p>
+ * Actuator publishes the pool and queue of each executor bean ({@code executor.queued},
+ * {@code executor.active}, ... tagged with the bean name).
+ */
+@Configuration
+@EnableAsync
+public class AsyncConfig {
+
+    /**
+     * Executor running large user deletions outside of the request thread.
+     *
+     * @param poolSize      number of deletions running at the same time.
+     * @param queueCapacity number of deletions waiting for a free thread.
+     * @return a bounded ThreadPoolTaskExecutor.
+     */
+    @Bean
+    public ThreadPoolTaskExecutor deletionTaskExecutor(
+            @Value("${jobapp.deletion.pool-size:1}") int poolSize,
+            @Value("${jobapp.deletion.queue-capacity:50}") int queueCapacity
+    ) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("user-deletion-");
+        executor.initialize();
+        return executor;
+    }
+
+    /**
+     * Executor spreading BCrypt hashing of bulk-provisioned users across CPU cores.
+     * When the queue is full, the submitting thread hashes the password itself,
+     * which slows the producer down instead of failing.
+     *
+     * @param threads       number of hashing threads (0 = number of available processors).
+     * @param queueCapacity number of hashes waiting for a free thread.
+     * @return a bounded ThreadPoolTaskExecutor.
+     */
+    @Bean
+    public ThreadPoolTaskExecutor passwordHashingTaskExecutor(
+            @Value("${jobapp.provisioning.hash-threads:0}") int threads,
+            @Value("${jobapp.provisioning.batch-size:1000}") int queueCapacity
+    ) {
+        int poolSize = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.setThreadNamePrefix("password-hashing-");
+        executor.initialize();
+        return executor;
+    }
+
+    /**
+     * Executor running the asynchronous listeners of the domain events (audit, counters).
+     * When the queue is full, the publishing thread runs the listener itself.
+     *
+     * @param poolSize      number of listeners running at the same time.
+     * @param queueCapacity number of events waiting for a free thread.
+     * @param meterRegistry registry of the queue wait timer.
+     * @return a bounded ThreadPoolTaskExecutor.
+     */
+    @Bean
+    public ThreadPoolTaskExecutor domainEventTaskExecutor(
+            @Value("${jobapp.events.pool-size:2}") int poolSize,
+            @Value("${jobapp.events.queue-capacity:10000}") int queueCapacity,
+            MeterRegistry meterRegistry
+    ) {
+        return eventExecutor("domain-event-", poolSize, queueCapacity, meterRegistry);
+    }
+
+    /**
+     * Executor sending the notification emails of the domain events.
+     * When the queue is full, the publishing thread sends the email itself.
+     *
+     * @param poolSize      number of emails sent at the same time.
+     * @param queueCapacity number of emails waiting for a free thread.
+     * @param meterRegistry registry of the queue wait timer.
+     * @return a bounded ThreadPoolTaskExecutor.
+     */
+    @Bean
+    public ThreadPoolTaskExecutor notificationTaskExecutor(
+            @Value("${jobapp.events.notification.pool-size:4}") int poolSize,
+            @Value("${jobapp.events.notification.queue-capacity:500}") int queueCapacity,
+            MeterRegistry meterRegistry
+    ) {
+        return eventExecutor("notification-", poolSize, queueCapacity, meterRegistry);
+    }
+
+    /**
+     * Builds an executor for event listeners, draining its queue on shutdown and recording
+     * how long each task waited in the {@code jobapp.events.queue.wait} timer.
+     */
+    private static ThreadPoolTaskExecutor eventExecutor(String threadNamePrefix, int poolSize, int queueCapacity,
+                                                        MeterRegistry meterRegistry) {
+        Timer queueWait = Timer.builder("jobapp.events.queue.wait")
+                .description("Time spent by an event listener waiting for a free thread")
+                .tag("executor", threadNamePrefix.substring(0, threadNamePrefix.length() - 1))
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        TaskDecorator timing = task -> {
+            long queuedAt = System.nanoTime();
+            return () -> {
+                queueWait.record(System.nanoTime() - queuedAt, TimeUnit.NANOSECONDS);
+                task.run();
+            };
+        };
+
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.setTaskDecorator(timing);
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        executor.setThreadNamePrefix(threadNamePrefix);
+        executor.initialize();
+        return executor;
+    }
+}
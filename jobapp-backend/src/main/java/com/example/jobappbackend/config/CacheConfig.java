@@ -0,0 +1,22 @@
+package com.example.jobappbackend.config;
+
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Configuration class for the in-process caches (Caffeine, see {@code spring.cache.*}).
+ * <p>
+ * Each node caches on its own; writes are propagated to the other nodes by the
+ * {@link com.example.jobappbackend.service.CacheInvalidationBus}. The expiry set in the
+ * cache spec bounds how long an entry can stay stale if an invalidation is ever missed.
+ */
+@Configuration
+@EnableCaching
+public class CacheConfig {
+
+    /** Offers by ID, as returned by {@code OfferService#getOfferById}. */
+    public static final String OFFERS = "offers";
+
+    /** Users by username, as looked up for each authenticated request. */
+    public static final String USERS = "users";
+}
@@ -0,0 +1,59 @@
+package com.example.jobappbackend.config;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.web.servlet.config.annotation.AsyncSupportConfigurer;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+/**
+ * Configuration class for the streamed exports ({@code StreamingResponseBody}).
+ * <p>
+ * An export holds a database connection and a cursor for as long as the client reads it,
+ * up to {@code spring.mvc.async.request-timeout}. Exports therefore run on their own small
+ * pool, set as the MVC async executor, so that they cannot take the threads or the connections
+ * of the rest of the application. When the pool and its queue are full, the export is refused
+ * with 503 (see {@code GlobalExceptionHandler}) and the client retries later.
+ */
+@Configuration
+public class ExportConfig implements WebMvcConfigurer {
+
+    private final AsyncTaskExecutor exportTaskExecutor;
+
+    public ExportConfig(@Qualifier("exportTaskExecutor") AsyncTaskExecutor exportTaskExecutor) {
+        this.exportTaskExecutor = exportTaskExecutor;
+    }
+
+    /**
+     * Executor writing the streamed exports to the clients.
+     *
+     * @param poolSize      number of exports running at the same time.
+     * @param queueCapacity number of exports waiting for a free thread.
+     * @return a bounded ThreadPoolTaskExecutor.
+     */
+    @Bean
+    public static ThreadPoolTaskExecutor exportTaskExecutor(
+            @Value("${jobapp.export.pool-size:4}") int poolSize,
+            @Value("${jobapp.export.queue-capacity:16}") int queueCapacity
+    ) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("export-");
+        executor.initialize();
+        return executor;
+    }
+
+    /**
+     * Runs the MVC async work, i.e. the streamed exports, on {@link #exportTaskExecutor}
+     * instead of the application task executor.
+     */
+    @Override
+    public void configureAsyncSupport(AsyncSupportConfigurer configurer) {
+        configurer.setTaskExecutor(exportTaskExecutor);
+    }
+}
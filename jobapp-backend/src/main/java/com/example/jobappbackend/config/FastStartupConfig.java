@@ -0,0 +1,30 @@
+package com.example.jobappbackend.config;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.springframework.boot.LazyInitializationExcludeFilter;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+
+/**
+ * Configuration class for the {@code fast-startup} profile, which turns on lazy initialization.
+ * <p>
+ * Lazy initialization is safe for controllers, services and repositories: they have no startup
+ * side effect and fail the same way on first use. Filters, the security chain, lifecycle beans
+ * and event listeners are created at startup in any case.
+ */
+@Configuration
+@Profile("fast-startup")
+public class FastStartupConfig {
+
+    /**
+     * Keeps the entity manager factory eager, so that its background bootstrap starts with the
+     * context instead of being paid by the first request.
+     *
+     * @return the filter of the beans excluded from lazy initialization.
+     */
+    @Bean
+    public static LazyInitializationExcludeFilter eagerStartupBeans() {
+        return LazyInitializationExcludeFilter.forBeanTypes(EntityManagerFactory.class);
+    }
+}
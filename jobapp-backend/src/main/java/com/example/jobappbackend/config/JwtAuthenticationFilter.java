@@ -36,12 +36,26 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
                                     FilterChain filterChain)
             throws ServletException, IOException {
 
+        RequestTimings.enter(RequestTimings.AUTH);
+        try {
+            authenticate(request);
+        } finally {
+            RequestTimings.exit();
+        }
+        filterChain.doFilter(request, response);
+    }
+
+    /**
+     * Sets the authentication context from the Bearer token of the request, if it is valid.
+     *
+     * @param request the current request
+     */
+    private void authenticate(HttpServletRequest request) {
         final String authHeader = request.getHeader("Authorization");
         final String jwt;
         String username = null;
 
         if (authHeader == null || !authHeader.startsWith("Bearer ") || authHeader.length() <= 7) {
-            filterChain.doFilter(request, response);
             return;
         }
 
@@ -49,7 +63,6 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         try {
             username = jwtService.extractUsername(jwt);
         } catch (Exception e) {
-            filterChain.doFilter(request, response);
             return;
         }
 
@@ -69,7 +82,5 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
                 SecurityContextHolder.getContext().setAuthentication(authToken);
             }
         }
-
-        filterChain.doFilter(request, response);
     }
 }
@@ -0,0 +1,28 @@
+package com.example.jobappbackend.config;
+
+import io.micrometer.core.aop.TimedAspect;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Configuration class for application metrics.
+ * <p>
+ * HTTP endpoints, repositories, the Hikari pool and the executors are timed by Spring Boot
+ * Actuator; this class makes {@code @Timed} effective on the services.
+ */
+@Configuration
+public class MetricsConfig {
+
+    /**
+     * Aspect recording a timer for every method of the classes annotated with {@code @Timed},
+     * tagged with the class, the method and the exception thrown, if any.
+     *
+     * @param registry the meter registry.
+     * @return the timed aspect.
+     */
+    @Bean
+    public TimedAspect timedAspect(MeterRegistry registry) {
+        return new TimedAspect(registry);
+    }
+}
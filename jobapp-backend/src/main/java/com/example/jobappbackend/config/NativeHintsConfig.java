@@ -0,0 +1,138 @@
+package com.example.jobappbackend.config;
+
+import com.example.jobappbackend.dto.ApplicationResponse;
+import com.example.jobappbackend.dto.AuthRequest;
+import com.example.jobappbackend.dto.AuthResponse;
+import com.example.jobappbackend.dto.AvailabilityResponse;
+import com.example.jobappbackend.dto.BulkImportResponse;
+import com.example.jobappbackend.dto.ChangePasswordRequest;
+import com.example.jobappbackend.dto.DeletionJobResponse;
+import com.example.jobappbackend.dto.EntityChange;
+import com.example.jobappbackend.dto.ImportRecordError;
+import com.example.jobappbackend.dto.OfferRequest;
+import com.example.jobappbackend.dto.OfferResponse;
+import com.example.jobappbackend.dto.PageResponse;
+import com.example.jobappbackend.dto.ProfilingRecordingResponse;
+import com.example.jobappbackend.dto.RegisterRequest;
+import com.example.jobappbackend.dto.UserResponse;
+import com.example.jobappbackend.dto.UserSummaryResponse;
+import com.example.jobappbackend.jfr.ApplicationSubmissionEvent;
+import com.example.jobappbackend.jfr.MailDispatchEvent;
+import com.example.jobappbackend.jfr.OfferFeedEvent;
+import com.example.jobappbackend.jfr.PasswordCheckEvent;
+import com.example.jobappbackend.jfr.TokenVerificationEvent;
+import com.example.jobappbackend.model.Application;
+import com.example.jobappbackend.model.Offer;
+import com.example.jobappbackend.model.User;
+import com.example.jobappbackend.repository.UserRepository;
+import net.ttddyy.dsproxy.proxy.ProxyJdbcObject;
+import org.springframework.aop.SpringProxy;
+import org.springframework.aot.hint.BindingReflectionHintsRegistrar;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.RuntimeHintsRegistrar;
+import org.springframework.aot.hint.TypeReference;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.ImportRuntimeHints;
+import org.springframework.core.DecoratingProxy;
+import org.springframework.data.projection.TargetAware;
+
+import javax.sql.DataSource;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * Configuration class contributing the runtime hints of the native image (see {@code -Pnative}).
+ * <p>
+ * Spring AOT derives most hints from the bean definitions, the controllers and the JPA managed
+ * types. The hints below cover what it cannot see: classes loaded by name or through
+ * {@link java.util.ServiceLoader} by jjwt, JDK proxies created by datasource-proxy and Spring Data
+ * projections, and the types read or written outside of Spring MVC. JavaMail needs nothing here:
+ * Angus Mail and Angus Activation ship the native-image features registering their providers.
+ */
+@Configuration
+@ImportRuntimeHints(NativeHintsConfig.Hints.class)
+public class NativeHintsConfig {
+
+    /** jjwt 0.11 implementation classes instantiated by name from {@code jjwt-api}. */
+    static final List<String> JJWT_IMPLEMENTATIONS = List.of(
+            "io.jsonwebtoken.impl.DefaultJwtBuilder",
+            "io.jsonwebtoken.impl.DefaultJwtParserBuilder",
+            "io.jsonwebtoken.impl.DefaultJwtParser",
+            "io.jsonwebtoken.impl.DefaultClaims",
+            "io.jsonwebtoken.impl.DefaultHeader",
+            "io.jsonwebtoken.impl.DefaultJwsHeader",
+            "io.jsonwebtoken.impl.compression.DeflateCompressionCodec",
+            "io.jsonwebtoken.impl.compression.GzipCompressionCodec",
+            "io.jsonwebtoken.jackson.io.JacksonSerializer",
+            "io.jsonwebtoken.jackson.io.JacksonDeserializer"
+    );
+
+    /** Service files read by jjwt to find its serializer, deserializer and compression codecs. */
+    static final List<String> JJWT_SERVICES = List.of(
+            "META-INF/services/io.jsonwebtoken.io.Serializer",
+            "META-INF/services/io.jsonwebtoken.io.Deserializer",
+            "META-INF/services/io.jsonwebtoken.CompressionCodec"
+    );
+
+    /** JDBC interfaces wrapped by datasource-proxy, each proxied together with {@link ProxyJdbcObject}. */
+    static final List<Class<?>> PROXIED_JDBC_TYPES = List.of(
+            DataSource.class, Connection.class, Statement.class,
+            PreparedStatement.class, CallableStatement.class, ResultSet.class
+    );
+
+    /** Lombok entities, also read reflectively by Hibernate's property accessors. */
+    static final List<Class<?>> ENTITIES = List.of(User.class, Offer.class, Application.class);
+
+    /** DTOs bound by Jackson, including the ones read outside of controllers (imports, CSV). */
+    static final List<Class<?>> DTOS = List.of(
+            ApplicationResponse.class, AuthRequest.class, AuthResponse.class, AvailabilityResponse.class,
+            BulkImportResponse.class, ChangePasswordRequest.class, DeletionJobResponse.class,
+            EntityChange.class, ImportRecordError.class, OfferRequest.class, OfferResponse.class, PageResponse.class,
+            ProfilingRecordingResponse.class, RegisterRequest.class, UserResponse.class,
+            UserSummaryResponse.class
+    );
+
+    /** Payload of the cache invalidation notifications (package-private, hence by name). */
+    static final String INVALIDATION_MESSAGE = "com.example.jobappbackend.service.CacheInvalidationBus$Message";
+
+    /** Custom JFR events, whose fields are read reflectively by the recorder. */
+    static final List<Class<?>> JFR_EVENTS = List.of(
+            ApplicationSubmissionEvent.class, MailDispatchEvent.class, OfferFeedEvent.class,
+            PasswordCheckEvent.class, TokenVerificationEvent.class
+    );
+
+    /**
+     * Registrar of the hints described on {@link NativeHintsConfig}.
+     */
+    public static class Hints implements RuntimeHintsRegistrar {
+
+        @Override
+        public void registerHints(RuntimeHints hints, ClassLoader classLoader) {
+            JJWT_IMPLEMENTATIONS.forEach(type -> hints.reflection().registerType(TypeReference.of(type),
+                    MemberCategory.INVOKE_DECLARED_CONSTRUCTORS, MemberCategory.INVOKE_PUBLIC_METHODS));
+            JJWT_SERVICES.forEach(hints.resources()::registerPattern);
+
+            PROXIED_JDBC_TYPES.forEach(type -> hints.proxies().registerJdkProxy(ProxyJdbcObject.class, type));
+            hints.proxies().registerJdkProxy(UserRepository.Identifiers.class,
+                    TargetAware.class, SpringProxy.class, DecoratingProxy.class);
+
+            ENTITIES.forEach(type -> hints.reflection().registerType(type,
+                    MemberCategory.INVOKE_DECLARED_CONSTRUCTORS, MemberCategory.DECLARED_FIELDS,
+                    MemberCategory.INVOKE_DECLARED_METHODS));
+            new BindingReflectionHintsRegistrar().registerReflectionHints(hints.reflection(),
+                    Stream.concat(ENTITIES.stream(), DTOS.stream()).toArray(Class<?>[]::new));
+            hints.reflection().registerType(TypeReference.of(INVALIDATION_MESSAGE),
+                    MemberCategory.INVOKE_DECLARED_CONSTRUCTORS, MemberCategory.INVOKE_DECLARED_METHODS,
+                    MemberCategory.DECLARED_FIELDS);
+
+            JFR_EVENTS.forEach(type -> hints.reflection().registerType(type,
+                    MemberCategory.INVOKE_DECLARED_CONSTRUCTORS, MemberCategory.DECLARED_FIELDS));
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package com.example.jobappbackend.config;
 
+import com.example.jobappbackend.jfr.PasswordCheckEvent;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
@@ -15,11 +16,67 @@ public class PasswordConfig {
     /**
      * Creates and returns a BCryptPasswordEncoder instance as a Spring Bean.
      * This encoder will be used for hashing and verifying passwords.
+     * Each hash and verification emits a {@link PasswordCheckEvent}.
      *
      * @return a PasswordEncoder using BCrypt.
      */
     @Bean
     public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+        return new RecordingPasswordEncoder(new BCryptPasswordEncoder());
+    }
+
+    /**
+     * Password encoder emitting a JFR event around each call to the wrapped encoder.
+     */
+    static final class RecordingPasswordEncoder implements PasswordEncoder {
+        private final PasswordEncoder delegate;
+
+        RecordingPasswordEncoder(PasswordEncoder delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public String encode(CharSequence rawPassword) {
+            PasswordCheckEvent event = new PasswordCheckEvent();
+            event.begin();
+            String encoded = delegate.encode(rawPassword);
+            if (event.shouldCommit()) {
+                event.operation = "encode";
+                event.cost = cost(encoded);
+                event.commit();
+            }
+            return encoded;
+        }
+
+        @Override
+        public boolean matches(CharSequence rawPassword, String encodedPassword) {
+            PasswordCheckEvent event = new PasswordCheckEvent();
+            event.begin();
+            boolean matched = delegate.matches(rawPassword, encodedPassword);
+            if (event.shouldCommit()) {
+                event.operation = "matches";
+                event.cost = cost(encodedPassword);
+                event.matched = matched;
+                event.commit();
+            }
+            return matched;
+        }
+
+        @Override
+        public boolean upgradeEncoding(String encodedPassword) {
+            return delegate.upgradeEncoding(encodedPassword);
+        }
+
+        /** Reads the log rounds of a BCrypt hash such as {@code $2a$10$...}. */
+        private static int cost(String encoded) {
+            if (encoded == null || encoded.length() < 7 || encoded.charAt(3) != '$') {
+                return -1;
+            }
+            try {
+                return Integer.parseInt(encoded.substring(4, 6));
+            } catch (NumberFormatException e) {
+                return -1;
+            }
+        }
     }
 }
@@ -0,0 +1,57 @@
+package com.example.jobappbackend.config;
+
+import io.r2dbc.spi.ConnectionFactory;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceAutoConfiguration;
+import org.springframework.boot.autoconfigure.sql.init.SqlDataSourceScriptDatabaseInitializer;
+import org.springframework.boot.autoconfigure.sql.init.SqlInitializationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.r2dbc.core.DatabaseClient;
+
+import javax.sql.DataSource;
+
+/**
+ * Configuration class for the non-blocking read path.
+ * <p>
+ * The pooled R2DBC {@link ConnectionFactory} is created by Spring Boot from {@code spring.r2dbc.*};
+ * it is used for reads only. Writes keep going through JPA, so the R2DBC transaction manager is
+ * excluded in {@code application.properties}: it would compete with the JPA one for
+ * {@code @Transactional}.
+ * <p>
+ * Spring Boot backs off from the JDBC pool used by JPA and the JDBC services when an R2DBC
+ * connection factory exists. Importing {@link DataSourceAutoConfiguration} here registers it
+ * with the application's configuration, before the R2DBC auto-configuration: the Hikari pool is
+ * then created as usual, from {@code spring.datasource.*}, {@code spring.datasource.hikari.*}
+ * and the connection details of a service connection (Testcontainers, Docker Compose).
+ */
+@Configuration
+@Import(DataSourceAutoConfiguration.class)
+public class R2dbcConfig {
+
+    /**
+     * Client running the reactive queries.
+     *
+     * @param connectionFactory the pooled R2DBC connection factory.
+     * @return the database client.
+     */
+    @Bean
+    public DatabaseClient databaseClient(ConnectionFactory connectionFactory) {
+        return DatabaseClient.create(connectionFactory);
+    }
+
+    /**
+     * Runs {@code schema.sql} through JDBC, after Hibernate's schema update
+     * ({@code spring.jpa.defer-datasource-initialization}). Spring Boot would otherwise run it
+     * through R2DBC, without waiting for the tables.
+     *
+     * @param dataSource the JDBC data source.
+     * @param properties the {@code spring.sql.init.*} properties.
+     * @return the script initializer.
+     */
+    @Bean
+    public SqlDataSourceScriptDatabaseInitializer dataSourceScriptDatabaseInitializer(DataSource dataSource,
+                                                                                      SqlInitializationProperties properties) {
+        return new SqlDataSourceScriptDatabaseInitializer(dataSource, properties);
+    }
+}
@@ -0,0 +1,109 @@
+package com.example.jobappbackend.config;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Breakdown of the wall time of the HTTP request handled by the current thread into phases
+ * (auth, multipart, controller, service, sql, mail...).
+ * <p>
+ * Phases nest: entering a phase pauses the enclosing one, so each phase gets its exclusive
+ * time and the phases add up to the request time. Time spent outside any phase is reported
+ * as {@value #OTHER} (other filters, JSON serialization...).
+ * All methods are no-ops on threads that are not handling a timed request.
+ */
+public final class RequestTimings {
+
+    public static final String AUTH = "auth";
+    public static final String CONTROLLER = "controller";
+    public static final String SERVICE = "service";
+    public static final String SQL = "sql";
+    public static final String MAIL = "mail";
+    public static final String MULTIPART = "multipart";
+    public static final String OTHER = "other";
+
+    private static final ThreadLocal<RequestTimings> CURRENT = new ThreadLocal<>();
+
+    private final long startNanos = System.nanoTime();
+    private final Map<String, Long> nanosByPhase = new LinkedHashMap<>();
+    private final Deque<String> phases = new ArrayDeque<>();
+    private long phaseStartNanos = startNanos;
+
+    private RequestTimings() {
+        phases.push(OTHER);
+    }
+
+    /**
+     * Starts timing a request on the current thread.
+     *
+     * @return the timings of the request
+     */
+    public static RequestTimings start() {
+        RequestTimings timings = new RequestTimings();
+        CURRENT.set(timings);
+        return timings;
+    }
+
+    /** Stops timing the request handled by the current thread. */
+    public static void clear() {
+        CURRENT.remove();
+    }
+
+    /**
+     * @return the innermost phase on the current thread, or null when no request is timed
+     */
+    public static String currentPhase() {
+        RequestTimings timings = CURRENT.get();
+        return timings == null ? null : timings.phases.peek();
+    }
+
+    /**
+     * Enters a phase on the current thread; must be paired with {@link #exit()}.
+     *
+     * @param phase the phase name
+     */
+    public static void enter(String phase) {
+        RequestTimings timings = CURRENT.get();
+        if (timings != null) {
+            timings.switchTo(phase, true);
+        }
+    }
+
+    /** Leaves the innermost phase on the current thread. */
+    public static void exit() {
+        RequestTimings timings = CURRENT.get();
+        if (timings != null && timings.phases.size() > 1) {
+            timings.switchTo(null, false);
+        }
+    }
+
+    private synchronized void switchTo(String phase, boolean entering) {
+        long now = System.nanoTime();
+        nanosByPhase.merge(phases.peek(), now - phaseStartNanos, Long::sum);
+        phaseStartNanos = now;
+        if (entering) {
+            phases.push(phase);
+        } else {
+            phases.pop();
+        }
+    }
+
+    /**
+     * Returns the time spent in each phase so far, the running phases included.
+     *
+     * @return milliseconds by phase, in order of first appearance
+     */
+    public synchronized Map<String, Double> snapshotMillis() {
+        Map<String, Double> millis = new LinkedHashMap<>();
+        nanosByPhase.forEach((phase, nanos) -> millis.put(phase, nanos / 1_000_000.0));
+        millis.merge(phases.peek(), (System.nanoTime() - phaseStartNanos) / 1_000_000.0, Double::sum);
+        return millis;
+    }
+
+    /** @return the time elapsed since the start of the request, in milliseconds */
+    public double totalMillis() {
+        return (System.nanoTime() - startNanos) / 1_000_000.0;
+    }
+}
@@ -0,0 +1,53 @@
+package com.example.jobappbackend.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+
+/**
+ * Configuration class for the threads of the
+ * {@link com.example.jobappbackend.service.ClusterJobScheduler}.
+ * <p>
+ * A scheduler thread fires each trigger, takes the lease and waits for the run, which executes
+ * on a separate pool so that it can be interrupted when it times out. Both pools should be at
+ * least as large as the number of jobs that may run at the same time.
+ */
+@Configuration
+public class SchedulingConfig {
+
+    /**
+     * Scheduler firing the triggers of the cluster jobs.
+     *
+     * @param poolSize number of triggers handled at the same time.
+     * @return a ThreadPoolTaskScheduler.
+     */
+    @Bean
+    public ThreadPoolTaskScheduler clusterJobTaskScheduler(@Value("${jobapp.scheduler.pool-size:4}") int poolSize) {
+        ThreadPoolTaskScheduler scheduler = new ThreadPoolTaskScheduler();
+        scheduler.setPoolSize(poolSize);
+        scheduler.setThreadNamePrefix("cluster-job-trigger-");
+        scheduler.setWaitForTasksToCompleteOnShutdown(false);
+        scheduler.initialize();
+        return scheduler;
+    }
+
+    /**
+     * Executor running the cluster jobs. There is no queue: a run that finds every thread
+     * busy fails at once and gives its lease back.
+     *
+     * @param poolSize number of jobs running at the same time.
+     * @return a bounded ThreadPoolTaskExecutor.
+     */
+    @Bean
+    public ThreadPoolTaskExecutor clusterJobTaskExecutor(@Value("${jobapp.scheduler.pool-size:4}") int poolSize) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setQueueCapacity(0);
+        executor.setThreadNamePrefix("cluster-job-");
+        executor.initialize();
+        return executor;
+    }
+}
@@ -0,0 +1,52 @@
+package com.example.jobappbackend.config;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.List;
+
+/**
+ * Filter authenticating the Prometheus scraper with its own static bearer token
+ * ({@code jobapp.metrics.scrape-token}). The token only grants {@link #AUTHORITY}: it cannot
+ * call the API, and the JWTs of the users, admins included, cannot scrape.
+ * When no token is configured, nobody is authenticated and scraping is refused.
+ */
+public class ScrapeTokenAuthenticationFilter extends OncePerRequestFilter {
+
+    /** Authority required by the scrape endpoint. */
+    public static final String AUTHORITY = "METRICS_SCRAPE";
+
+    private final byte[] token;
+
+    public ScrapeTokenAuthenticationFilter(String token) {
+        this.token = token == null ? new byte[0] : token.strip().getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request,
+                                    HttpServletResponse response,
+                                    FilterChain filterChain)
+            throws ServletException, IOException {
+
+        final String authHeader = request.getHeader("Authorization");
+        if (token.length > 0 && authHeader != null && authHeader.startsWith("Bearer ")
+                && MessageDigest.isEqual(token, authHeader.substring(7).getBytes(StandardCharsets.UTF_8))) {
+            var authToken = new UsernamePasswordAuthenticationToken(
+                    "prometheus",
+                    null,
+                    List.of(new SimpleGrantedAuthority(AUTHORITY))
+            );
+            SecurityContextHolder.getContext().setAuthentication(authToken);
+        }
+        filterChain.doFilter(request, response);
+    }
+}
@@ -2,8 +2,11 @@ package com.example.jobappbackend.config;
 
 import com.example.jobappbackend.service.JwtService;
 import com.example.jobappbackend.service.UserService;
+import jakarta.servlet.DispatcherType;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.annotation.Order;
 import org.springframework.http.HttpMethod;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.dao.DaoAuthenticationProvider;
@@ -55,8 +58,13 @@ public class SecurityConfig {
 
     /**
      * Configures the main security filter chain.
-     * Enables CORS, disables CSRF, allows public access to /auth/**,
+     * Enables CORS, disables CSRF, allows public access to /auth/** and to the health check
+     * (other Actuator endpoints require ADMIN, except Prometheus scraping, see
+     * {@link #scrapeFilterChain}),
      * permits preflight OPTIONS requests, and secures other endpoints by role.
+     * The non-blocking reads under /reactive follow the rules of their MVC counterparts.
+     * ASYNC dispatches (reactive and streamed responses) were authorized on their initial
+     * REQUEST dispatch, where the JWT filter ran, and are let through.
      * Sets the session policy to stateless and adds the JWT filter.
      *
      * @param http HttpSecurity configuration object.
@@ -69,10 +77,13 @@ public class SecurityConfig {
                 .cors(cors -> cors.configurationSource(corsConfigurationSource()))
                 .csrf(csrf -> csrf.disable())
                 .authorizeHttpRequests(auth -> auth
+                        .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
                         .requestMatchers("/auth/**").permitAll()
+                        .requestMatchers("/actuator/health").permitAll()
+                        .requestMatchers("/actuator/**").hasAuthority("ADMIN")
                         .requestMatchers(HttpMethod.OPTIONS, "/**").permitAll()
                         .requestMatchers("/admin/**").hasAuthority("ADMIN")
-                        .requestMatchers("/company/**").hasAuthority("COMPANY")
+                        .requestMatchers("/company/**", "/reactive/company/**").hasAuthority("COMPANY")
                         .requestMatchers("/student/**").hasAuthority("STUDENT")
                         .requestMatchers("/applications/student/**").hasAuthority("STUDENT")
                         .anyRequest().authenticated()
@@ -85,6 +96,31 @@ public class SecurityConfig {
         return http.build();
     }
 
+    /**
+     * Configures the filter chain of the Prometheus scrape endpoint, checked before the main one.
+     * The scraper authenticates with its own bearer token ({@code jobapp.metrics.scrape-token},
+     * set through the {@code JOBAPP_METRICS_SCRAPE_TOKEN} environment variable), never with a user JWT,
+     * so that no long-lived admin token has to be stored on the monitoring side.
+     *
+     * @param http        HttpSecurity configuration object.
+     * @param scrapeToken the token of the scraper; scraping is refused while it is empty.
+     * @return SecurityFilterChain for /actuator/prometheus.
+     * @throws Exception if the configuration fails.
+     */
+    @Bean
+    @Order(1)
+    public SecurityFilterChain scrapeFilterChain(HttpSecurity http,
+                                                 @Value("${jobapp.metrics.scrape-token:}") String scrapeToken) throws Exception {
+        http
+                .securityMatcher("/actuator/prometheus")
+                .csrf(csrf -> csrf.disable())
+                .authorizeHttpRequests(auth -> auth.anyRequest().hasAuthority(ScrapeTokenAuthenticationFilter.AUTHORITY))
+                .sessionManagement(sess -> sess.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
+                .addFilterBefore(new ScrapeTokenAuthenticationFilter(scrapeToken), UsernamePasswordAuthenticationFilter.class);
+
+        return http.build();
+    }
+
     /**
      * Exposes the Spring AuthenticationManager for use in authentication flows.
      *
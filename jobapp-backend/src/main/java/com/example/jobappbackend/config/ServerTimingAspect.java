@@ -0,0 +1,44 @@
+package com.example.jobappbackend.config;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+
+/**
+ * Aspect attributing the time spent in controllers, services and mail sending
+ * to the matching {@link RequestTimings} phase.
+ * Services called outside a controller (e.g. by the JWT filter) are counted
+ * in the calling phase.
+ */
+@Aspect
+public class ServerTimingAspect {
+
+    @Around("within(@org.springframework.web.bind.annotation.RestController *)")
+    public Object timeController(ProceedingJoinPoint joinPoint) throws Throwable {
+        return proceedIn(RequestTimings.CONTROLLER, joinPoint);
+    }
+
+    @Around("within(com.example.jobappbackend.service..*) && within(@org.springframework.stereotype.Service *)"
+            + " && !within(com.example.jobappbackend.service.EmailService)")
+    public Object timeService(ProceedingJoinPoint joinPoint) throws Throwable {
+        String phase = RequestTimings.currentPhase();
+        if (!RequestTimings.CONTROLLER.equals(phase)) {
+            return joinPoint.proceed();
+        }
+        return proceedIn(RequestTimings.SERVICE, joinPoint);
+    }
+
+    @Around("within(com.example.jobappbackend.service.EmailService)")
+    public Object timeMail(ProceedingJoinPoint joinPoint) throws Throwable {
+        return proceedIn(RequestTimings.MAIL, joinPoint);
+    }
+
+    private static Object proceedIn(String phase, ProceedingJoinPoint joinPoint) throws Throwable {
+        RequestTimings.enter(phase);
+        try {
+            return joinPoint.proceed();
+        } finally {
+            RequestTimings.exit();
+        }
+    }
+}
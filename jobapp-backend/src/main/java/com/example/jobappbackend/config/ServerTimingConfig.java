@@ -0,0 +1,69 @@
+package com.example.jobappbackend.config;
+
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.web.multipart.MultipartHttpServletRequest;
+import org.springframework.web.multipart.support.StandardServletMultipartResolver;
+
+/**
+ * Configuration class for the per-request latency breakdown ({@code Server-Timing} header).
+ * Disabled with {@code jobapp.server-timing.enabled=false}.
+ */
+@Configuration
+@ConditionalOnProperty(name = "jobapp.server-timing.enabled", havingValue = "true", matchIfMissing = true)
+public class ServerTimingConfig {
+
+    /**
+     * Registers the filter timing each request, first in the chain so that it sees the whole request.
+     *
+     * @param logThresholdMs    requests at least this long are logged with their breakdown.
+     * @param timingAllowOrigin origins allowed to read the timings from the browser, none by default.
+     * @return the filter registration.
+     */
+    @Bean
+    public FilterRegistrationBean<ServerTimingFilter> serverTimingFilter(
+            @Value("${jobapp.server-timing.log-threshold-ms:500}") long logThresholdMs,
+            @Value("${jobapp.server-timing.timing-allow-origin:}") String timingAllowOrigin
+    ) {
+        FilterRegistrationBean<ServerTimingFilter> registration =
+                new FilterRegistrationBean<>(new ServerTimingFilter(logThresholdMs, timingAllowOrigin));
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE);
+        return registration;
+    }
+
+    /**
+     * Multipart resolver timing the parsing of uploads (e.g. the CV and motivation letter
+     * of an application) in the {@value RequestTimings#MULTIPART} phase.
+     *
+     * @return the multipart resolver.
+     */
+    @Bean
+    public StandardServletMultipartResolver multipartResolver() {
+        return new StandardServletMultipartResolver() {
+            @Override
+            public MultipartHttpServletRequest resolveMultipart(HttpServletRequest request) {
+                RequestTimings.enter(RequestTimings.MULTIPART);
+                try {
+                    return super.resolveMultipart(request);
+                } finally {
+                    RequestTimings.exit();
+                }
+            }
+        };
+    }
+
+    /**
+     * Aspect attributing controller, service and mail time to their phases.
+     *
+     * @return the aspect.
+     */
+    @Bean
+    public ServerTimingAspect serverTimingAspect() {
+        return new ServerTimingAspect();
+    }
+}
@@ -0,0 +1,102 @@
+package com.example.jobappbackend.config;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.security.web.util.OnCommittedResponseWrapper;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.Locale;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * Filter timing each request with {@link RequestTimings} and reporting the breakdown
+ * in a {@code Server-Timing} response header, shown by the browser developer tools.
+ * <p>
+ * The header is added just before the response is committed, so it covers the work done
+ * up to the first byte of the body. Requests slower than the threshold are also logged
+ * with their full breakdown.
+ */
+public class ServerTimingFilter extends OncePerRequestFilter {
+
+    private static final Logger log = LoggerFactory.getLogger(ServerTimingFilter.class);
+
+    private final long logThresholdMs;
+    private final String timingAllowOrigin;
+
+    /**
+     * @param logThresholdMs    requests at least this long are logged (negative to disable)
+     * @param timingAllowOrigin value of {@code Timing-Allow-Origin}, letting a frontend served
+     *                          from another origin read the header (blank to omit)
+     */
+    public ServerTimingFilter(long logThresholdMs, String timingAllowOrigin) {
+        this.logThresholdMs = logThresholdMs;
+        this.timingAllowOrigin = timingAllowOrigin;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request,
+                                    HttpServletResponse response,
+                                    FilterChain filterChain)
+            throws ServletException, IOException {
+        RequestTimings timings = RequestTimings.start();
+        ServerTimingResponse wrapped = new ServerTimingResponse(response, timings);
+        try {
+            filterChain.doFilter(request, wrapped);
+        } finally {
+            RequestTimings.clear();
+            if (!response.isCommitted()) {
+                wrapped.addServerTiming();
+            }
+            double totalMs = timings.totalMillis();
+            if (logThresholdMs >= 0 && totalMs >= logThresholdMs) {
+                log.warn("slow_request method={} path={} status={} total_ms={} {}",
+                        request.getMethod(), request.getRequestURI(), response.getStatus(),
+                        format(totalMs), timings.snapshotMillis().entrySet().stream()
+                                .map(e -> e.getKey() + "_ms=" + format(e.getValue()))
+                                .collect(Collectors.joining(" ")));
+            }
+        }
+    }
+
+    private static String format(double millis) {
+        return String.format(Locale.ROOT, "%.1f", millis);
+    }
+
+    /** Response wrapper adding the header once, right before the response is committed. */
+    private final class ServerTimingResponse extends OnCommittedResponseWrapper {
+        private final RequestTimings timings;
+        private boolean added;
+
+        private ServerTimingResponse(HttpServletResponse response, RequestTimings timings) {
+            super(response);
+            this.timings = timings;
+        }
+
+        @Override
+        protected void onResponseCommitted() {
+            addServerTiming();
+        }
+
+        private void addServerTiming() {
+            if (added) {
+                return;
+            }
+            added = true;
+            StringBuilder header = new StringBuilder();
+            for (Map.Entry<String, Double> phase : timings.snapshotMillis().entrySet()) {
+                header.append(phase.getKey()).append(";dur=").append(format(phase.getValue())).append(", ");
+            }
+            header.append("total;dur=").append(format(timings.totalMillis()));
+            addHeader("Server-Timing", header.toString());
+            if (timingAllowOrigin != null && !timingAllowOrigin.isBlank()) {
+                addHeader("Timing-Allow-Origin", timingAllowOrigin);
+            }
+        }
+    }
+}
@@ -0,0 +1,66 @@
+package com.example.jobappbackend.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import net.ttddyy.dsproxy.support.ProxyDataSource;
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+import javax.sql.DataSource;
+
+/**
+ * Configuration class for the per-request SQL statement monitoring.
+ * Wraps the datasource in a proxy recording every statement, and registers
+ * the {@link SqlStatementFilter} ahead of the security filters.
+ * Disabled with {@code jobapp.sql.monitoring.enabled=false}.
+ */
+@Configuration
+@ConditionalOnProperty(name = "jobapp.sql.monitoring.enabled", havingValue = "true", matchIfMissing = true)
+public class SqlMonitoringConfig {
+
+    /**
+     * Wraps every datasource bean in a statement-recording proxy.
+     *
+     * @return the post-processor wrapping the datasources.
+     */
+    @Bean
+    public static BeanPostProcessor sqlStatementDataSourceProxy() {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof DataSource dataSource && !(bean instanceof ProxyDataSource)) {
+                    return ProxyDataSourceBuilder.create(dataSource)
+                            .name(beanName)
+                            .listener(new SqlStatementListener())
+                            .build();
+                }
+                return bean;
+            }
+        };
+    }
+
+    /**
+     * Registers the filter reporting the SQL statements of each request.
+     *
+     * @param meterRegistry the meter registry.
+     * @param maxStatements statements allowed per request before warning.
+     * @param maxRepeats    executions of one statement shape allowed per request before warning.
+     * @return the filter registration.
+     */
+    @Bean
+    public FilterRegistrationBean<SqlStatementFilter> sqlStatementFilter(
+            MeterRegistry meterRegistry,
+            @Value("${jobapp.sql.max-statements-per-request:50}") int maxStatements,
+            @Value("${jobapp.sql.max-repeated-statements:10}") int maxRepeats
+    ) {
+        FilterRegistrationBean<SqlStatementFilter> registration =
+                new FilterRegistrationBean<>(new SqlStatementFilter(meterRegistry, maxStatements, maxRepeats));
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 1);
+        return registration;
+    }
+}
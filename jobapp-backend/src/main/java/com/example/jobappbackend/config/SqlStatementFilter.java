@@ -0,0 +1,102 @@
+package com.example.jobappbackend.config;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Filter counting the SQL statements and SQL time of each HTTP request.
+ * <p>
+ * Every request records {@code jobapp.sql.request.statements} and {@code jobapp.sql.request.time}.
+ * When a request runs more statements than the budget, or repeats one statement shape
+ * too many times (typically an N+1 query), a warning is logged with the details and
+ * {@code jobapp.sql.request.violations} is incremented.
+ * Statements run by other threads (asynchronous streaming, executors) are not counted.
+ */
+public class SqlStatementFilter extends OncePerRequestFilter {
+
+    private static final Logger log = LoggerFactory.getLogger(SqlStatementFilter.class);
+
+    private final MeterRegistry meterRegistry;
+    private final int maxStatements;
+    private final int maxRepeats;
+
+    /**
+     * @param meterRegistry the registry receiving the per-request metrics
+     * @param maxStatements statements allowed per request before warning
+     * @param maxRepeats    executions of one statement shape allowed per request before warning
+     */
+    public SqlStatementFilter(MeterRegistry meterRegistry, int maxStatements, int maxRepeats) {
+        this.meterRegistry = meterRegistry;
+        this.maxStatements = maxStatements;
+        this.maxRepeats = maxRepeats;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request,
+                                    HttpServletResponse response,
+                                    FilterChain filterChain)
+            throws ServletException, IOException {
+        SqlStatementStats stats = SqlStatementStats.start();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            stats.stop();
+            report(request, stats);
+        }
+    }
+
+    /** Publishes the metrics of a finished request and warns when it is over budget. */
+    private void report(HttpServletRequest request, SqlStatementStats stats) {
+        String uri = uriTemplate(request);
+        DistributionSummary.builder("jobapp.sql.request.statements")
+                .description("SQL statements executed per HTTP request")
+                .tag("uri", uri)
+                .publishPercentileHistogram()
+                .register(meterRegistry)
+                .record(stats.getStatementCount());
+        Timer.builder("jobapp.sql.request.time")
+                .description("Total SQL execution time per HTTP request")
+                .tag("uri", uri)
+                .register(meterRegistry)
+                .record(stats.getTotalNanos(), TimeUnit.NANOSECONDS);
+
+        Map.Entry<String, Integer> repeated = stats.getMostRepeatedShape();
+        boolean overBudget = stats.getStatementCount() > maxStatements;
+        boolean repeating = repeated != null && repeated.getValue() > maxRepeats;
+        if (!overBudget && !repeating) {
+            return;
+        }
+
+        Counter.builder("jobapp.sql.request.violations")
+                .description("HTTP requests over the SQL statement budget or repeating a statement")
+                .tag("uri", uri)
+                .tag("reason", repeating ? "repeated-statement" : "statement-budget")
+                .register(meterRegistry)
+                .increment();
+        log.warn("sql_budget_exceeded method={} uri={} path={} statements={} max_statements={} "
+                        + "sql_time_ms={} top_shape_repeats={} max_repeats={} top_shape=\"{}\"",
+                request.getMethod(), uri, request.getRequestURI(), stats.getStatementCount(), maxStatements,
+                TimeUnit.NANOSECONDS.toMillis(stats.getTotalNanos()),
+                repeated.getValue(), maxRepeats, repeated.getKey());
+    }
+
+    /** Returns the matched route (e.g. /offers/{id}) to keep metric tags bounded. */
+    private static String uriTemplate(HttpServletRequest request) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        return pattern == null ? "UNKNOWN" : pattern.toString();
+    }
+}
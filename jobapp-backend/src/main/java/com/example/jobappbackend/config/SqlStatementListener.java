@@ -0,0 +1,35 @@
+package com.example.jobappbackend.config;
+
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+
+import java.util.List;
+
+/**
+ * Datasource proxy listener timing every statement and recording it in the
+ * {@link SqlStatementStats} scopes of the executing thread, and in the
+ * {@value RequestTimings#SQL} phase of its {@link RequestTimings}.
+ * A JDBC batch is recorded as one statement (one round trip).
+ */
+public class SqlStatementListener implements QueryExecutionListener {
+
+    private static final String START_KEY = SqlStatementListener.class.getName() + ".start";
+
+    @Override
+    public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        RequestTimings.enter(RequestTimings.SQL);
+        execInfo.addCustomValue(START_KEY, System.nanoTime());
+    }
+
+    @Override
+    public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        RequestTimings.exit();
+        if (queryInfoList.isEmpty()) {
+            return;
+        }
+        Long start = execInfo.getCustomValue(START_KEY, Long.class);
+        long elapsed = start == null ? 0 : System.nanoTime() - start;
+        SqlStatementStats.recordOnCurrentThread(queryInfoList.get(0).getQuery(), elapsed);
+    }
+}
@@ -0,0 +1,122 @@
+package com.example.jobappbackend.config;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+/**
+ * Statements executed by the current thread while a recording scope is open
+ * (one HTTP request, or one test).
+ * <p>
+ * Scopes nest: a statement is counted in the innermost scope and in all enclosing ones.
+ * Statements are grouped by shape, i.e. the SQL with its literals and IN lists collapsed,
+ * so that the same query issued for different IDs (the N+1 pattern) is recognized.
+ */
+public final class SqlStatementStats {
+
+    private static final ThreadLocal<SqlStatementStats> CURRENT = new ThreadLocal<>();
+
+    private static final Pattern STRING_LITERAL = Pattern.compile("'(?:[^']|'')*'");
+    private static final Pattern NUMBER_LITERAL = Pattern.compile("\\b\\d+(?:\\.\\d+)?\\b");
+    private static final Pattern IN_LIST = Pattern.compile("(?i)\\bin\\s*\\(\\s*\\?(?:\\s*,\\s*\\?)*\\s*\\)");
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    private final SqlStatementStats parent;
+    private final Map<String, Integer> countsByShape = new HashMap<>();
+    private int statementCount;
+    private long totalNanos;
+
+    private SqlStatementStats(SqlStatementStats parent) {
+        this.parent = parent;
+    }
+
+    /**
+     * Opens a recording scope on the current thread.
+     *
+     * @return the new scope, to be closed with {@link #stop()}
+     */
+    public static SqlStatementStats start() {
+        SqlStatementStats stats = new SqlStatementStats(CURRENT.get());
+        CURRENT.set(stats);
+        return stats;
+    }
+
+    /**
+     * @return the innermost scope open on the current thread, or null
+     */
+    public static SqlStatementStats current() {
+        return CURRENT.get();
+    }
+
+    /**
+     * Closes this scope, making the enclosing one current again.
+     */
+    public void stop() {
+        if (parent == null) {
+            CURRENT.remove();
+        } else {
+            CURRENT.set(parent);
+        }
+    }
+
+    /**
+     * Records a statement executed by the current thread in every open scope.
+     *
+     * @param sql          the executed SQL
+     * @param elapsedNanos the execution time
+     */
+    static void recordOnCurrentThread(String sql, long elapsedNanos) {
+        SqlStatementStats stats = CURRENT.get();
+        if (stats == null) {
+            return;
+        }
+        String shape = shape(sql);
+        for (; stats != null; stats = stats.parent) {
+            stats.statementCount++;
+            stats.totalNanos += elapsedNanos;
+            stats.countsByShape.merge(shape, 1, Integer::sum);
+        }
+    }
+
+    /** Forgets the statements recorded so far in this scope. */
+    public void reset() {
+        statementCount = 0;
+        totalNanos = 0;
+        countsByShape.clear();
+    }
+
+    /** @return the number of statements executed in this scope */
+    public int getStatementCount() {
+        return statementCount;
+    }
+
+    /** @return the total execution time of these statements, in nanoseconds */
+    public long getTotalNanos() {
+        return totalNanos;
+    }
+
+    /** @return the number of executions of each statement shape */
+    public Map<String, Integer> getCountsByShape() {
+        return Map.copyOf(countsByShape);
+    }
+
+    /** @return the most executed statement shape, or null when no statement ran */
+    public Map.Entry<String, Integer> getMostRepeatedShape() {
+        return countsByShape.entrySet().stream()
+                .max(Map.Entry.comparingByValue())
+                .orElse(null);
+    }
+
+    /**
+     * Collapses the literals, IN lists and whitespace of a statement.
+     *
+     * @param sql the executed SQL
+     * @return the statement shape
+     */
+    public static String shape(String sql) {
+        String shape = STRING_LITERAL.matcher(sql).replaceAll("?");
+        shape = NUMBER_LITERAL.matcher(shape).replaceAll("?");
+        shape = IN_LIST.matcher(shape).replaceAll("in (?)");
+        return WHITESPACE.matcher(shape).replaceAll(" ").trim();
+    }
+}
@@ -0,0 +1,86 @@
+package com.example.jobappbackend.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.SyncTaskExecutor;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.time.Duration;
+import java.util.concurrent.ThreadPoolExecutor;
+
+/**
+ * Configuration class for the virtual-thread execution mode.
+ * <p>
+ * The mode is opt-in: build and run on Java 21 ({@code -PjavaVersion=21}) with the
+ * {@code virtual-threads} profile, which sets {@code spring.threads.virtual.enabled=true}.
+ * Spring Boot then handles requests and the application task executor on virtual threads.
+ * The bounded executors of {@link AsyncConfig} and the export executor of {@link ExportConfig}
+ * keep their platform threads: they limit database and CPU load on purpose.
+ * <p>
+ * JavaMail's SMTP transport does its socket I/O inside {@code synchronized} methods, which
+ * pins a virtual thread to its carrier for the whole send. In this mode, sends are therefore
+ * handed over to a small platform-thread pool while the request's virtual thread waits
+ * unmounted. Other pinning is reported by {@link VirtualThreadPinningMonitor}.
+ */
+@Configuration
+public class VirtualThreadConfig {
+
+    /**
+     * Platform threads sending the mails when requests run on virtual threads.
+     * When the queue is full, the request thread sends the mail itself.
+     *
+     * @param threads       number of concurrent SMTP sends.
+     * @param queueCapacity number of sends waiting for a free thread.
+     * @return a bounded ThreadPoolTaskExecutor.
+     */
+    @Bean("mailSendExecutor")
+    @ConditionalOnThreading(Threading.VIRTUAL)
+    public TaskExecutor platformMailSendExecutor(
+            @Value("${jobapp.virtual-threads.mail-send-threads:8}") int threads,
+            @Value("${jobapp.virtual-threads.mail-send-queue-capacity:500}") int queueCapacity
+    ) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(threads);
+        executor.setMaxPoolSize(threads);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.setThreadNamePrefix("mail-send-");
+        executor.initialize();
+        return executor;
+    }
+
+    /**
+     * In the platform-thread mode, mails are sent on the calling thread as before.
+     *
+     * @return a synchronous executor.
+     */
+    @Bean("mailSendExecutor")
+    @ConditionalOnThreading(Threading.PLATFORM)
+    public TaskExecutor callerMailSendExecutor() {
+        return new SyncTaskExecutor();
+    }
+
+    /**
+     * Reports virtual threads pinned to their carrier for longer than the threshold.
+     * Disabled with {@code jobapp.virtual-threads.pinning-monitor.enabled=false}.
+     *
+     * @param registry  the meter registry.
+     * @param threshold minimum pinned duration reported.
+     * @return the pinning monitor.
+     */
+    @Bean
+    @ConditionalOnThreading(Threading.VIRTUAL)
+    @ConditionalOnProperty(name = "jobapp.virtual-threads.pinning-monitor.enabled", havingValue = "true", matchIfMissing = true)
+    public VirtualThreadPinningMonitor virtualThreadPinningMonitor(
+            MeterRegistry registry,
+            @Value("${jobapp.virtual-threads.pinning-monitor.threshold:20ms}") Duration threshold
+    ) {
+        return new VirtualThreadPinningMonitor(registry, threshold);
+    }
+}
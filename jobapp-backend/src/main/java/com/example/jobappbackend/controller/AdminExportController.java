@@ -0,0 +1,48 @@
+package com.example.jobappbackend.controller;
+
+import com.example.jobappbackend.dto.ExportFormat;
+import com.example.jobappbackend.service.ExportService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+/**
+ * Controller exposing full data dumps for administrators.
+ * Routes are under /admin/exports (secured by SecurityConfig).
+ * <p>
+ * Responses are streamed: rows are written while they are read from the database.
+ */
+@RestController
+@RequestMapping("/admin/exports")
+@CrossOrigin(origins = "*")
+@RequiredArgsConstructor
+public class AdminExportController {
+
+    private final ExportService exportService;
+
+    /**
+     * Exports all users (without passwords).
+     *
+     * @param format output format, {@code csv} (default) or {@code ndjson}
+     * @return the streamed file
+     */
+    @GetMapping("/users")
+    public ResponseEntity<StreamingResponseBody> exportUsers(@RequestParam(defaultValue = "csv") String format) {
+        ExportFormat exportFormat = ExportFormat.from(format);
+        return ExportResponses.attachment("users", exportFormat, out -> exportService.exportUsers(out, exportFormat));
+    }
+
+    /**
+     * Exports all applications with their student, offer and company.
+     *
+     * @param format output format, {@code csv} (default) or {@code ndjson}
+     * @return the streamed file
+     */
+    @GetMapping("/applications")
+    public ResponseEntity<StreamingResponseBody> exportApplications(@RequestParam(defaultValue = "csv") String format) {
+        ExportFormat exportFormat = ExportFormat.from(format);
+        return ExportResponses.attachment("applications", exportFormat,
+                out -> exportService.exportApplications(out, exportFormat, null));
+    }
+}
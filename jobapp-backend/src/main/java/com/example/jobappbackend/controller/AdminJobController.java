@@ -0,0 +1,45 @@
+package com.example.jobappbackend.controller;
+
+import com.example.jobappbackend.dto.JobRunResponse;
+import com.example.jobappbackend.dto.ScheduledJobResponse;
+import com.example.jobappbackend.service.ClusterJobScheduler;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+/**
+ * Controller letting administrators follow the cluster jobs.
+ * Routes are under /admin/jobs (secured by SecurityConfig).
+ */
+@RestController
+@RequestMapping("/admin/jobs")
+@CrossOrigin(origins = "*")
+@RequiredArgsConstructor
+public class AdminJobController {
+
+    private final ClusterJobScheduler clusterJobScheduler;
+
+    /**
+     * Lists the scheduled jobs and the node currently running each of them.
+     *
+     * @return the jobs sorted by name
+     */
+    @GetMapping
+    public List<ScheduledJobResponse> getJobs() {
+        return clusterJobScheduler.getJobs();
+    }
+
+    /**
+     * Retrieves the latest runs of a job, on every node.
+     *
+     * @param name  the job name
+     * @param limit the number of runs to return (at most 100)
+     * @return the runs, most recent first
+     */
+    @GetMapping("/{name}/runs")
+    public List<JobRunResponse> getRuns(@PathVariable String name,
+                                        @RequestParam(defaultValue = "20") int limit) {
+        return clusterJobScheduler.getRuns(name, limit);
+    }
+}
@@ -0,0 +1,65 @@
+package com.example.jobappbackend.controller;
+
+import com.example.jobappbackend.dto.ProfilingRecordingResponse;
+import com.example.jobappbackend.service.ProfilingService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+/**
+ * Controller letting administrators profile the running application with Java Flight Recorder.
+ * Routes are under /admin/profiling (secured by SecurityConfig).
+ * <p>
+ * A recording is started for a fixed duration, then downloaded as a .jfr file
+ * to be opened with JDK Mission Control or {@code jfr print}.
+ */
+@RestController
+@RequestMapping("/admin/profiling")
+@CrossOrigin(origins = "*")
+@RequiredArgsConstructor
+public class AdminProfilingController {
+
+    private final ProfilingService profilingService;
+
+    /**
+     * Starts a recording that stops by itself after the given duration.
+     *
+     * @param durationSeconds the recording duration (default 60 seconds)
+     * @return 202 Accepted with the state of the recording
+     */
+    @PostMapping("/recordings")
+    public ResponseEntity<ProfilingRecordingResponse> startRecording(
+            @RequestParam(defaultValue = "60") long durationSeconds) {
+        return ResponseEntity.accepted().body(profilingService.start(durationSeconds));
+    }
+
+    /**
+     * Retrieves the state of a recording.
+     *
+     * @param id the recording ID
+     * @return the state of the recording
+     */
+    @GetMapping("/recordings/{id}")
+    public ProfilingRecordingResponse getRecording(@PathVariable long id) {
+        return profilingService.get(id);
+    }
+
+    /**
+     * Downloads a finished recording.
+     *
+     * @param id the recording ID
+     * @return the .jfr file
+     */
+    @GetMapping("/recordings/{id}/file")
+    public ResponseEntity<Resource> downloadRecording(@PathVariable long id) {
+        Resource file = new FileSystemResource(profilingService.getFile(id));
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_OCTET_STREAM)
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"jobapp-" + id + ".jfr\"")
+                .body(file);
+    }
+}
@@ -1,13 +1,22 @@
 package com.example.jobappbackend.controller;
 
+import com.example.jobappbackend.dto.BulkImportResponse;
+import com.example.jobappbackend.dto.DeletionJobResponse;
+import com.example.jobappbackend.dto.PageResponse;
 import com.example.jobappbackend.dto.RegisterRequest;
 import com.example.jobappbackend.dto.UserResponse;
+import com.example.jobappbackend.dto.UserSummaryResponse;
+import com.example.jobappbackend.service.UserDeletionService;
+import com.example.jobappbackend.service.UserProvisioningService;
 import com.example.jobappbackend.service.UserService;
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.io.InputStream;
 import java.util.List;
 
 /**
@@ -22,6 +31,12 @@ public class AdminUserController {
     @Autowired
     private UserService userService;
 
+    @Autowired
+    private UserDeletionService userDeletionService;
+
+    @Autowired
+    private UserProvisioningService userProvisioningService;
+
     /**
      * Retrieves all registered users.
      *
@@ -32,6 +47,23 @@ public class AdminUserController {
         return userService.getAllUsers();
     }
 
+    /**
+     * Searches the user directory page by page, with optional role and text filters.
+     *
+     * @param role optional role filter (ADMIN, COMPANY, STUDENT)
+     * @param q    optional text matching part of the username, email, names or company name
+     * @param page zero-based page number
+     * @param size page size (at most 100)
+     * @return one page of {@link UserSummaryResponse}
+     */
+    @GetMapping("/directory")
+    public PageResponse<UserSummaryResponse> searchUsers(@RequestParam(required = false) String role,
+                                                         @RequestParam(required = false) String q,
+                                                         @RequestParam(defaultValue = "0") int page,
+                                                         @RequestParam(defaultValue = "20") int size) {
+        return userService.searchUsers(role, q, page, size);
+    }
+
     /**
      * Creates a new user using the provided registration data.
      *
@@ -43,6 +75,21 @@ public class AdminUserController {
         return userService.register(request);
     }
 
+    /**
+     * Creates many users in one call from a CSV file (with a header line) or NDJSON/JSON records.
+     * Columns and fields are those of {@link RegisterRequest}.
+     *
+     * @param body        the raw request body
+     * @param contentType the body format ({@code text/csv}, {@code application/x-ndjson} or {@code application/json})
+     * @return a {@link BulkImportResponse} listing the rejected rows
+     */
+    @PostMapping(value = "/import", consumes = {"text/csv", MediaType.APPLICATION_NDJSON_VALUE, MediaType.APPLICATION_JSON_VALUE})
+    public BulkImportResponse importUsers(InputStream body,
+                                          @RequestHeader(HttpHeaders.CONTENT_TYPE) String contentType) {
+        boolean csv = MediaType.parseMediaType(contentType).isCompatibleWith(MediaType.parseMediaType("text/csv"));
+        return userProvisioningService.provision(body, csv);
+    }
+
     /**
      * Updates an existing user identified by ID.
      *
@@ -66,4 +113,26 @@ public class AdminUserController {
         userService.deleteUser(id);
         return ResponseEntity.ok().build();
     }
+
+    /**
+     * Starts the background deletion of a user with a very large graph of offers and applications.
+     *
+     * @param id the ID of the user to delete
+     * @return HTTP 202 Accepted with the {@link DeletionJobResponse} to poll
+     */
+    @PostMapping("/{id}/deletion-jobs")
+    public ResponseEntity<DeletionJobResponse> startDeletionJob(@PathVariable Long id) {
+        return ResponseEntity.accepted().body(userDeletionService.submit(id));
+    }
+
+    /**
+     * Retrieves the progress of a background user deletion.
+     *
+     * @param jobId the ID of the deletion job
+     * @return the current {@link DeletionJobResponse}
+     */
+    @GetMapping("/deletion-jobs/{jobId}")
+    public DeletionJobResponse getDeletionJob(@PathVariable String jobId) {
+        return userDeletionService.getJob(jobId);
+    }
 }
@@ -73,6 +73,19 @@ public class AuthController {
         return userService.register(request);
     }
 
+    /**
+     * Tells whether a username and/or an email can still be used to register.
+     *
+     * @param username the username to check (optional).
+     * @param email    the email to check (optional).
+     * @return the availability of each given value.
+     */
+    @GetMapping("/availability")
+    public AvailabilityResponse checkAvailability(@RequestParam(required = false) String username,
+                                                  @RequestParam(required = false) String email) {
+        return userService.checkAvailability(username, email);
+    }
+
     /**
      * Endpoint to allow users to reset their password using their email address.
      *
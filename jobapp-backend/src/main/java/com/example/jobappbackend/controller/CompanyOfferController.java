@@ -1,14 +1,22 @@
 package com.example.jobappbackend.controller;
 
+import com.example.jobappbackend.dto.BulkImportResponse;
+import com.example.jobappbackend.dto.ExportFormat;
 import com.example.jobappbackend.dto.OfferRequest;
 import com.example.jobappbackend.dto.OfferResponse;
 import com.example.jobappbackend.exception.ApiException;
+import com.example.jobappbackend.service.ExportService;
+import com.example.jobappbackend.service.OfferImportService;
 import com.example.jobappbackend.service.OfferService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.security.oauth2.jwt.Jwt;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.InputStream;
 import java.util.List;
 
 /**
@@ -25,6 +33,12 @@ public class CompanyOfferController {
     /** Business service handling job offer operations. */
     private final OfferService offerService;
 
+    /** Service handling bulk offer imports. */
+    private final OfferImportService offerImportService;
+
+    /** Service streaming data exports. */
+    private final ExportService exportService;
+
     /**
      * Creates a new job offer for the authenticated company.
      *
@@ -41,6 +55,25 @@ public class CompanyOfferController {
         return offerService.createOffer(request, companyUserId);
     }
 
+    /**
+     * Imports many job offers for the authenticated company in one call.
+     * <p>
+     * The body is either a JSON array or NDJSON (one {@link OfferRequest} per line).
+     * It is streamed and inserted by batches, so its size is not limited by memory.
+     *
+     * @param body   the raw request body
+     * @param jwt    authentication principal providing the 'userId' claim
+     * @param userId optional company user ID (fallback if provided explicitly)
+     * @return a {@link BulkImportResponse} listing the rejected records
+     */
+    @PostMapping(value = "/import", consumes = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE})
+    public BulkImportResponse importOffers(final InputStream body,
+                                           @AuthenticationPrincipal Jwt jwt,
+                                           @RequestParam(name = "userId", required = false) final Long userId) {
+        Long companyUserId = resolveCompanyUserId(jwt, userId);
+        return offerImportService.importOffers(body, companyUserId);
+    }
+
     /**
      * Retrieves all job offers created by the authenticated company.
      *
@@ -55,6 +88,25 @@ public class CompanyOfferController {
         return offerService.getOffersByCompany(companyUserId);
     }
 
+    /**
+     * Exports the applications received on the authenticated company's offers.
+     * The file is streamed while the rows are read from the database.
+     *
+     * @param format output format, {@code csv} (default) or {@code ndjson}
+     * @param jwt    authentication principal providing the 'userId' claim
+     * @param userId optional company user ID (fallback if provided explicitly)
+     * @return the streamed file
+     */
+    @GetMapping("/applications/export")
+    public ResponseEntity<StreamingResponseBody> exportApplications(@RequestParam(defaultValue = "csv") final String format,
+                                                                    @AuthenticationPrincipal Jwt jwt,
+                                                                    @RequestParam(name = "userId", required = false) final Long userId) {
+        Long companyUserId = resolveCompanyUserId(jwt, userId);
+        ExportFormat exportFormat = ExportFormat.from(format);
+        return ExportResponses.attachment("applications", exportFormat,
+                out -> exportService.exportApplications(out, exportFormat, companyUserId));
+    }
+
     /**
      * Updates an existing job offer owned by the authenticated company.
      *
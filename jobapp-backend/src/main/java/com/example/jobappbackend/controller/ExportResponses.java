@@ -0,0 +1,31 @@
+package com.example.jobappbackend.controller;
+
+import com.example.jobappbackend.dto.ExportFormat;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+/**
+ * Builds the responses of the export endpoints.
+ */
+final class ExportResponses {
+
+    private ExportResponses() {
+    }
+
+    /**
+     * Wraps a streamed body into a downloadable response.
+     *
+     * @param name   base name of the file
+     * @param format output format
+     * @param body   the streamed body
+     * @return the response
+     */
+    static ResponseEntity<StreamingResponseBody> attachment(String name, ExportFormat format, StreamingResponseBody body) {
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(format.getContentType()))
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" + format.fileName(name) + "\"")
+                .body(body);
+    }
+}
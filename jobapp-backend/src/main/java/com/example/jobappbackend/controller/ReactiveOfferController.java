@@ -0,0 +1,79 @@
+package com.example.jobappbackend.controller;
+
+import com.example.jobappbackend.dto.OfferResponse;
+import com.example.jobappbackend.exception.ApiException;
+import com.example.jobappbackend.service.ReactiveOfferService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.security.Principal;
+
+/**
+ * Non-blocking read endpoints for offers, mirroring the reads of {@link StudentOfferController}
+ * and {@link CompanyOfferController} under /reactive.
+ * <p>
+ * Handlers return {@link Flux}/{@link Mono}: the servlet thread is released as soon as the query is
+ * sent and the response is written when the rows arrive. Requests go through the same filters and
+ * {@code SecurityConfig} rules as the MVC endpoints; writes stay on the MVC endpoints.
+ */
+@RestController
+@RequestMapping("/reactive")
+@CrossOrigin(origins = "*")
+@RequiredArgsConstructor
+public class ReactiveOfferController {
+
+    /** Service running the reactive queries. */
+    private final ReactiveOfferService reactiveOfferService;
+
+    /**
+     * Get all available job offers for the authenticated student.
+     *
+     * @param principal the authenticated user
+     * @return offers with "applied" flag
+     */
+    @GetMapping("/offers")
+    public Flux<OfferResponse> getAllOffers(Principal principal) {
+        return reactiveOfferService.getAllOffers(principal.getName());
+    }
+
+    /**
+     * Get details of a specific job offer.
+     *
+     * @param id offer identifier
+     * @return offer details
+     */
+    @GetMapping("/offers/{id}")
+    public Mono<OfferResponse> getOfferById(@PathVariable Long id) {
+        return reactiveOfferService.getOfferById(id);
+    }
+
+    /**
+     * Retrieves all job offers created by the authenticated company.
+     *
+     * @param jwt    authentication principal providing the 'userId' claim
+     * @param userId optional company user ID (fallback if provided explicitly)
+     * @return the offers belonging to the company
+     */
+    @GetMapping("/company/offers")
+    public Flux<OfferResponse> getCompanyOffers(@AuthenticationPrincipal Jwt jwt,
+                                                @RequestParam(name = "userId", required = false) final Long userId) {
+        return reactiveOfferService.getOffersByCompany(resolveCompanyUserId(jwt, userId));
+    }
+
+    /** Resolve company user ID from JWT claim 'userId', else from request param; otherwise fail. */
+    private Long resolveCompanyUserId(Jwt jwt, Long userId) {
+        if (jwt != null) {
+            Long fromJwt = jwt.getClaim("userId");
+            if (fromJwt != null) return fromJwt;
+            if (userId == null) {
+                throw new ApiException("Missing 'userId' claim in token");
+            }
+        }
+        if (userId != null) return userId;
+        throw new ApiException("User ID not provided");
+    }
+}
@@ -3,7 +3,6 @@ package com.example.jobappbackend.controller;
 import com.example.jobappbackend.dto.OfferResponse;
 import com.example.jobappbackend.service.OfferService;
 import com.example.jobappbackend.service.StudentApplicationService;
-import jakarta.mail.MessagingException;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.MediaType;
 import org.springframework.web.bind.annotation.*;
@@ -35,7 +34,6 @@ public class StudentOfferController {
      */
     @GetMapping
     public List<OfferResponse> getAllOffers(Principal principal) {
-        System.out.println("Principal name = " + principal.getName());
         return offerService.getAllOffers(principal.getName());
     }
 
@@ -57,13 +55,12 @@ public class StudentOfferController {
      * @param cv          CV file (multipart)
      * @param motivation  motivation letter file (multipart)
      * @param principal   the authenticated student
-     * @throws MessagingException if email sending fails
      */
     @PostMapping(value = "/{id}/apply", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
     public void applyToOffer(@PathVariable Long id,
                              @RequestParam("cv") MultipartFile cv,
                              @RequestParam("motivation") MultipartFile motivation,
-                             Principal principal) throws MessagingException {
+                             Principal principal) {
         applicationService.applyToOffer(id, cv, motivation, principal.getName());
     }
 }
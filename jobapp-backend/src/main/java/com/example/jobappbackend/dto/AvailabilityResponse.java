@@ -0,0 +1,21 @@
+package com.example.jobappbackend.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * DTO telling whether a username and/or an email can still be used to register.
+ * A field is null when the corresponding value was not asked for.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class AvailabilityResponse {
+
+    /** Whether the username is free. */
+    private Boolean usernameAvailable;
+
+    /** Whether the email is free. */
+    private Boolean emailAvailable;
+}
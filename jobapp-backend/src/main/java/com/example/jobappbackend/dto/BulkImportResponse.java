@@ -0,0 +1,38 @@
+package com.example.jobappbackend.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * DTO summarizing the result of a bulk import.
+ * <p>
+ * Only rejected records are listed individually, so that the summary stays small
+ * whatever the size of the file.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkImportResponse {
+
+    /** Number of records read from the file. */
+    private long received;
+
+    /** Number of records stored. */
+    private long imported;
+
+    /** Number of records rejected. */
+    private long failed;
+
+    /** Whether the import stopped early because the file could not be parsed any further. */
+    private boolean aborted;
+
+    /** Rejected records (capped; see {@link #errorsTruncated}). */
+    private List<ImportRecordError> errors = new ArrayList<>();
+
+    /** Whether some rejected records were left out of {@link #errors}. */
+    private boolean errorsTruncated;
+}
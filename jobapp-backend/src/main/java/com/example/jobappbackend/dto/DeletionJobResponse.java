@@ -0,0 +1,43 @@
+package com.example.jobappbackend.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * DTO exposing the progress of a background user deletion.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class DeletionJobResponse {
+
+    /** Job identifier. */
+    private String jobId;
+
+    /** ID of the user being deleted. */
+    private Long userId;
+
+    /** Current status (PENDING, RUNNING, COMPLETED, FAILED). */
+    private String status;
+
+    /** Number of applications to delete, counted when the job starts. */
+    private long totalApplications;
+
+    /** Number of applications deleted so far. */
+    private long deletedApplications;
+
+    /** Number of offers deleted (set once the offers step is done). */
+    private long deletedOffers;
+
+    /** Submission timestamp. */
+    private LocalDateTime submittedAt;
+
+    /** Completion timestamp (null while the job is running). */
+    private LocalDateTime finishedAt;
+
+    /** Failure message (only when status is FAILED). */
+    private String error;
+}
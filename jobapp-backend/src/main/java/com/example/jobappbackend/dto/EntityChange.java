@@ -0,0 +1,66 @@
+package com.example.jobappbackend.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * DTO describing a committed change of an offer or a user, sent to every node of the cluster
+ * so that they drop what they cached about it.
+ * <p>
+ * User changes carry the identifiers before and after the change, which the nodes need to
+ * evict the entries keyed by username and to keep their identifier index in step.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class EntityChange {
+
+    /** Kind of entity changed. */
+    public enum Entity { OFFER, USER }
+
+    /** Kind of change. */
+    public enum Kind { CREATED, UPDATED, DELETED }
+
+    /** Kind of entity changed. */
+    private Entity entity;
+
+    /** Kind of change. */
+    private Kind kind;
+
+    /** Identifier of the changed entity. */
+    private Long id;
+
+    /** Username after the change, or of the deleted user (users only). */
+    private String username;
+
+    /** Email after the change, or of the deleted user (users only). */
+    private String email;
+
+    /** Username before an update (users only). */
+    private String previousUsername;
+
+    /** Email before an update (users only). */
+    private String previousEmail;
+
+    public static EntityChange offerUpdated(Long id) {
+        return new EntityChange(Entity.OFFER, Kind.UPDATED, id, null, null, null, null);
+    }
+
+    public static EntityChange offerDeleted(Long id) {
+        return new EntityChange(Entity.OFFER, Kind.DELETED, id, null, null, null, null);
+    }
+
+    public static EntityChange userCreated(Long id, String username, String email) {
+        return new EntityChange(Entity.USER, Kind.CREATED, id, username, email, null, null);
+    }
+
+    public static EntityChange userUpdated(Long id, String previousUsername, String previousEmail,
+                                           String username, String email) {
+        return new EntityChange(Entity.USER, Kind.UPDATED, id, username, email, previousUsername, previousEmail);
+    }
+
+    public static EntityChange userDeleted(Long id, String username, String email) {
+        return new EntityChange(Entity.USER, Kind.DELETED, id, username, email, null, null);
+    }
+}
@@ -0,0 +1,60 @@
+package com.example.jobappbackend.dto;
+
+import com.example.jobappbackend.exception.ApiException;
+
+/**
+ * Output formats supported by the export endpoints.
+ */
+public enum ExportFormat {
+
+    /** Comma-separated values with a header line. */
+    CSV("text/csv", "csv"),
+
+    /** Newline-delimited JSON, one object per row. */
+    NDJSON("application/x-ndjson", "ndjson");
+
+    /** Content type of the response. */
+    private final String contentType;
+
+    /** File extension suggested to the client. */
+    private final String extension;
+
+    ExportFormat(String contentType, String extension) {
+        this.contentType = contentType;
+        this.extension = extension;
+    }
+
+    public String getContentType() {
+        return contentType;
+    }
+
+    public String getExtension() {
+        return extension;
+    }
+
+    /**
+     * Builds the file name suggested to the client.
+     *
+     * @param baseName name without extension
+     * @return the file name with the extension of this format
+     */
+    public String fileName(String baseName) {
+        return baseName + "." + extension;
+    }
+
+    /**
+     * Parses a format name, ignoring case.
+     *
+     * @param value the format name (csv or ndjson)
+     * @return the matching format
+     * @throws ApiException if the format is not supported
+     */
+    public static ExportFormat from(String value) {
+        for (ExportFormat format : values()) {
+            if (format.name().equalsIgnoreCase(value)) {
+                return format;
+            }
+        }
+        throw new ApiException("Unsupported export format: " + value);
+    }
+}
@@ -0,0 +1,20 @@
+package com.example.jobappbackend.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * DTO describing why one record of a bulk import was rejected.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ImportRecordError {
+
+    /** Zero-based position of the record in the submitted file. */
+    private long index;
+
+    /** Reason of the rejection. */
+    private String message;
+}
@@ -0,0 +1,37 @@
+package com.example.jobappbackend.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * DTO describing one run of a cluster job.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class JobRunResponse {
+
+    /** Run identifier. */
+    private Long id;
+
+    /** Job name. */
+    private String jobName;
+
+    /** Node that ran the job. */
+    private String nodeId;
+
+    /** Status (RUNNING, SUCCEEDED, FAILED, TIMED_OUT, ABANDONED). */
+    private String status;
+
+    /** Start timestamp. */
+    private LocalDateTime startedAt;
+
+    /** End timestamp (null while the job is running). */
+    private LocalDateTime finishedAt;
+
+    /** Failure message (only when the run did not succeed). */
+    private String error;
+}
@@ -1,9 +1,16 @@
 package com.example.jobappbackend.dto;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import jakarta.validation.constraints.AssertTrue;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Pattern;
+import jakarta.validation.constraints.Size;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
+import java.time.LocalDateTime;
+
 /**
  * DTO for creating or updating a job offer.
  */
@@ -13,14 +20,43 @@ import lombok.NoArgsConstructor;
 public class OfferRequest {
 
     /** Offer title. */
+    @NotBlank
+    @Size(max = 255)
     private String title;
 
     /** Offer description. */
     private String description;
 
     /** Company logo URL (optional). */
+    @Size(max = 255)
     private String logoUrl;
 
     /** Company website URL (optional). */
+    @Size(max = 255)
     private String websiteUrl;
+
+    /** Publication date (optional, defaults to the creation date). */
+    private LocalDateTime publishAt;
+
+    /** Expiry date (optional, the offer never expires when absent). */
+    private LocalDateTime expiresAt;
+
+    /** Requested status, OPEN or CLOSED (optional, defaults to OPEN). */
+    @Pattern(regexp = "OPEN|CLOSED", message = "must be OPEN or CLOSED")
+    private String status;
+
+    public OfferRequest(String title, String description, String logoUrl, String websiteUrl) {
+        this(title, description, logoUrl, websiteUrl, null, null, null);
+    }
+
+    /**
+     * Checks that the offer does not expire before it is published.
+     *
+     * @return true when either date is absent or the expiry follows the publication
+     */
+    @JsonIgnore
+    @AssertTrue(message = "expiresAt must be after publishAt")
+    public boolean isExpiryAfterPublication() {
+        return publishAt == null || expiresAt == null || expiresAt.isAfter(publishAt);
+    }
 }
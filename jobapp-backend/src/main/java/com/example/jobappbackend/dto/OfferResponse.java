@@ -1,5 +1,6 @@
 package com.example.jobappbackend.dto;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
@@ -37,4 +38,22 @@ public class OfferResponse {
 
     /** Whether the current student has applied to this offer. */
     private boolean applied;
+
+    /** Publication date. */
+    private LocalDateTime publishAt;
+
+    /** Expiry date (optional). */
+    private LocalDateTime expiresAt;
+
+    /** Lifecycle status (OPEN, CLOSED or EXPIRED). */
+    private String status;
+
+    /** Number of students who applied (company views only). */
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Long applicantCount;
+
+    public OfferResponse(Long id, String title, String description, String logoUrl, String websiteUrl,
+                         LocalDateTime createdAt, String companyName, boolean applied) {
+        this(id, title, description, logoUrl, websiteUrl, createdAt, companyName, applied, null, null, null, null);
+    }
 }
@@ -0,0 +1,46 @@
+package com.example.jobappbackend.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.domain.Page;
+
+import java.util.List;
+
+/**
+ * DTO exposing one page of results with its pagination metadata.
+ *
+ * @param <T> type of the elements
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class PageResponse<T> {
+
+    /** Elements of the page. */
+    private List<T> content;
+
+    /** Zero-based page number. */
+    private int page;
+
+    /** Requested page size. */
+    private int size;
+
+    /** Total number of matching elements. */
+    private long totalElements;
+
+    /** Total number of pages. */
+    private int totalPages;
+
+    /**
+     * Builds the DTO from a Spring Data page.
+     *
+     * @param page the page
+     * @param <T>  type of the elements
+     * @return the DTO
+     */
+    public static <T> PageResponse<T> of(Page<T> page) {
+        return new PageResponse<>(page.getContent(), page.getNumber(), page.getSize(),
+                page.getTotalElements(), page.getTotalPages());
+    }
+}
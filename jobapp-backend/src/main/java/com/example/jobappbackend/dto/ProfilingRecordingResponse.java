@@ -0,0 +1,31 @@
+package com.example.jobappbackend.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * DTO exposing the state of a Java Flight Recorder recording started by an administrator.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProfilingRecordingResponse {
+
+    /** Recording identifier. */
+    private long id;
+
+    /** JFR state (NEW, DELAYED, RUNNING, STOPPED, CLOSED); STOPPED means ready to download. */
+    private String state;
+
+    /** Start timestamp (null before the recording starts). */
+    private LocalDateTime startedAt;
+
+    /** Requested duration, in seconds. */
+    private long durationSeconds;
+
+    /** Size of the recording file in bytes (null until the recording is stopped). */
+    private Long sizeBytes;
+}
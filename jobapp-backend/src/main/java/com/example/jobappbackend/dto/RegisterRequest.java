@@ -1,5 +1,9 @@
 package com.example.jobappbackend.dto;
 
+import jakarta.validation.constraints.Email;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Pattern;
+import jakarta.validation.constraints.Size;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
@@ -14,25 +18,47 @@ import lombok.Setter;
 @NoArgsConstructor
 public class RegisterRequest {
 
+    /**
+     * Validation group of the checks applied to each row of a bulk provisioning
+     * ({@code UserProvisioningService}). The single-account endpoints do not use it.
+     */
+    public interface Provisioning {
+    }
+
     /** Chosen username. */
+    @NotBlank(groups = Provisioning.class)
+    @Size(max = 255, groups = Provisioning.class)
     private String username;
 
     /** Email address. */
+    @NotBlank(groups = Provisioning.class)
+    @Email(groups = Provisioning.class)
+    @Size(max = 255, groups = Provisioning.class)
     private String email;
 
-    /** Plain password to be encoded. */
+    /** Plain password to be encoded; BCrypt refuses more than 72 bytes. */
+    @NotBlank(groups = Provisioning.class)
+    @Size(max = 72, groups = Provisioning.class)
     private String password;
 
     /** Assigned role (e.g., STUDENT, COMPANY, ADMIN). */
+    @NotBlank(groups = Provisioning.class)
+    @Pattern(regexp = "(?i)STUDENT|COMPANY|ADMIN", message = "must be STUDENT, COMPANY or ADMIN",
+            groups = Provisioning.class)
     private String role;
 
+    @Size(max = 255, groups = Provisioning.class)
     private String firstName;
 
+    @Size(max = 255, groups = Provisioning.class)
     private String lastName;
 
+    @Size(max = 255, groups = Provisioning.class)
     private String address;
 
+    @Size(max = 255, groups = Provisioning.class)
     private String companyName;
 
+    @Size(max = 255, groups = Provisioning.class)
     private String phoneNumber;
 }
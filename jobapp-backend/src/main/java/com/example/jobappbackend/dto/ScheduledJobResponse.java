@@ -0,0 +1,31 @@
+package com.example.jobappbackend.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * DTO describing a cluster job and who currently holds its lease.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ScheduledJobResponse {
+
+    /** Job name. */
+    private String name;
+
+    /** Trigger of the job ("cron ..." or "every ..."). */
+    private String trigger;
+
+    /** Longest a run may take, in seconds. */
+    private long timeoutSeconds;
+
+    /** Node holding the lease (null when the lease is free). */
+    private String lockedBy;
+
+    /** End of the current lease (null when the lease is free). */
+    private LocalDateTime lockedUntil;
+}
@@ -0,0 +1,36 @@
+package com.example.jobappbackend.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Lightweight DTO listing a user in the admin directory.
+ * Read directly from the needed columns, without loading the entity.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class UserSummaryResponse {
+
+    /** User identifier. */
+    private Long id;
+
+    /** Username. */
+    private String username;
+
+    /** Email address. */
+    private String email;
+
+    /** Assigned role. */
+    private String role;
+
+    /** First name (optional). */
+    private String firstName;
+
+    /** Last name (optional). */
+    private String lastName;
+
+    /** Company name (optional). */
+    private String companyName;
+}
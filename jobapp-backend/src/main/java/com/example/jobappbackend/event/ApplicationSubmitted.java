@@ -0,0 +1,64 @@
+package com.example.jobappbackend.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+import java.nio.file.Path;
+import java.util.List;
+
+/**
+ * Published when a student applies to an offer.
+ * <p>
+ * Carries what the notification of the company needs, including the uploaded files, if any, as
+ * copies kept by the {@code ApplicationAttachmentStore}: the multipart temporary files are deleted
+ * at the end of the request, before async listeners run.
+ */
+@Getter
+@ToString
+@AllArgsConstructor
+public class ApplicationSubmitted extends DomainEvent {
+
+    /** ID of the new application. */
+    private final Long applicationId;
+
+    /** ID of the offer. */
+    private final Long offerId;
+
+    /** Title of the offer. */
+    private final String offerTitle;
+
+    /** ID of the student. */
+    private final Long studentUserId;
+
+    /** Email of the student. */
+    private final String studentEmail;
+
+    /** User ID of the company owning the offer. */
+    private final Long companyUserId;
+
+    /** Email of the company owning the offer. */
+    private final String companyEmail;
+
+    /** Name of the company owning the offer, if any. */
+    private final String companyName;
+
+    /** CV and motivation letter; empty for an application made without files. */
+    @ToString.Exclude
+    private final List<Attachment> attachments;
+
+    /** A file sent with the application. */
+    @Getter
+    @AllArgsConstructor
+    public static class Attachment {
+
+        /** Original file name. */
+        private final String filename;
+
+        /** Content type declared by the client, if any. */
+        private final String contentType;
+
+        /** Stored copy of the file. */
+        private final Path file;
+    }
+}
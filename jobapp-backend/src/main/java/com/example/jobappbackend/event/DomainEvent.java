@@ -0,0 +1,20 @@
+package com.example.jobappbackend.event;
+
+import lombok.Getter;
+
+import java.time.Instant;
+
+/**
+ * Base class of the domain events published by the services once a change is made.
+ * <p>
+ * Events are published with Spring's {@link org.springframework.context.ApplicationEventPublisher}.
+ * Listeners that must see the change committed use {@code @TransactionalEventListener} (phase
+ * {@code AFTER_COMMIT}, with {@code fallbackExecution} for the writes made outside of a transaction);
+ * slow ones also run {@code @Async} on one of the bounded executors of {@code AsyncConfig}.
+ */
+@Getter
+public abstract class DomainEvent {
+
+    /** When the change was made. */
+    private final Instant occurredAt = Instant.now();
+}
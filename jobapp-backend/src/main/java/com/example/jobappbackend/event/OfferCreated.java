@@ -0,0 +1,23 @@
+package com.example.jobappbackend.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * Published when a company creates an offer, alone or through a bulk import.
+ */
+@Getter
+@ToString
+@AllArgsConstructor
+public class OfferCreated extends DomainEvent {
+
+    /** ID of the new offer. */
+    private final Long offerId;
+
+    /** User ID of the company owning the offer. */
+    private final Long companyUserId;
+
+    /** Title of the offer. */
+    private final String title;
+}
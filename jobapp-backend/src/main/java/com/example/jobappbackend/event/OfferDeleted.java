@@ -0,0 +1,20 @@
+package com.example.jobappbackend.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * Published when a company deletes one of its offers.
+ */
+@Getter
+@ToString
+@AllArgsConstructor
+public class OfferDeleted extends DomainEvent {
+
+    /** ID of the deleted offer. */
+    private final Long offerId;
+
+    /** User ID of the company that owned the offer. */
+    private final Long companyUserId;
+}
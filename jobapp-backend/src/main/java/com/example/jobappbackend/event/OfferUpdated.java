@@ -0,0 +1,20 @@
+package com.example.jobappbackend.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * Published when a company updates one of its offers.
+ */
+@Getter
+@ToString
+@AllArgsConstructor
+public class OfferUpdated extends DomainEvent {
+
+    /** ID of the updated offer. */
+    private final Long offerId;
+
+    /** User ID of the company owning the offer. */
+    private final Long companyUserId;
+}
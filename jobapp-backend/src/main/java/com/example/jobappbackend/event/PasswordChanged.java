@@ -0,0 +1,23 @@
+package com.example.jobappbackend.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * Published when the password of a user is changed or reset.
+ */
+@Getter
+@ToString
+@AllArgsConstructor
+public class PasswordChanged extends DomainEvent {
+
+    /** ID of the user. */
+    private final Long userId;
+
+    /** Username of the user. */
+    private final String username;
+
+    /** Email of the user. */
+    private final String email;
+}
@@ -0,0 +1,23 @@
+package com.example.jobappbackend.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * Published when a user is deleted, together with their offers and applications.
+ */
+@Getter
+@ToString
+@AllArgsConstructor
+public class UserDeleted extends DomainEvent {
+
+    /** ID of the deleted user. */
+    private final Long userId;
+
+    /** Username of the deleted user. */
+    private final String username;
+
+    /** Email of the deleted user. */
+    private final String email;
+}
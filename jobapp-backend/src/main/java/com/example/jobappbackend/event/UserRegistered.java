@@ -0,0 +1,26 @@
+package com.example.jobappbackend.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * Published when a user account is created, by registration or bulk provisioning.
+ */
+@Getter
+@ToString
+@AllArgsConstructor
+public class UserRegistered extends DomainEvent {
+
+    /** ID of the new user. */
+    private final Long userId;
+
+    /** Username of the new user. */
+    private final String username;
+
+    /** Email of the new user. */
+    private final String email;
+
+    /** Role of the new user. */
+    private final String role;
+}
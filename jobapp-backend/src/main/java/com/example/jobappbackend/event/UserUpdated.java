@@ -0,0 +1,29 @@
+package com.example.jobappbackend.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * Published when the profile of a user is updated, with the identifiers before and after.
+ */
+@Getter
+@ToString
+@AllArgsConstructor
+public class UserUpdated extends DomainEvent {
+
+    /** ID of the user. */
+    private final Long userId;
+
+    /** Username before the update. */
+    private final String previousUsername;
+
+    /** Email before the update. */
+    private final String previousEmail;
+
+    /** Username after the update. */
+    private final String username;
+
+    /** Email after the update. */
+    private final String email;
+}
@@ -1,7 +1,9 @@
 package com.example.jobappbackend.exception;
 
 import jakarta.mail.MessagingException;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.ConstraintViolationException;
+import org.springframework.core.task.TaskRejectedException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.AccessDeniedException;
@@ -26,6 +28,7 @@ import java.util.stream.Collectors;
  *   <li>401 Unauthorized: authentication errors</li>
  *   <li>403 Forbidden: access denied</li>
  *   <li>405 Method Not Allowed: unsupported HTTP methods</li>
+ *   <li>503 Service Unavailable: every export thread busy</li>
  *   <li>500 Internal Server Error: unexpected failures</li>
  * </ul>
  */
@@ -101,6 +104,18 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(HttpStatus.METHOD_NOT_ALLOWED).body(new ErrorResponse("Method not allowed."));
     }
 
+    /**
+     * Streamed export refused because the export pool and its queue are full → 503.
+     * The headers of the export (CSV content type, attachment) were already set: they are reset.
+     */
+    @ExceptionHandler(TaskRejectedException.class)
+    public ResponseEntity<ErrorResponse> handleTaskRejected(final TaskRejectedException ex, final HttpServletResponse response) {
+        if (!response.isCommitted()) {
+            response.reset();
+        }
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body(new ErrorResponse("Too many exports in progress, try again later."));
+    }
+
     /** Email sending errors → 500. */
     @ExceptionHandler(MessagingException.class)
     public ResponseEntity<ErrorResponse> handleMessagingException(final MessagingException ex) {
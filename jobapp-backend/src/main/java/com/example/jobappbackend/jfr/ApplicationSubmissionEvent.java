@@ -0,0 +1,41 @@
+package com.example.jobappbackend.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * JFR event emitted for each application submitted by a student with their files.
+ * The email to the company is sent after the commit and recorded by {@link MailDispatchEvent}.
+ */
+@Name("com.example.jobapp.ApplicationSubmission")
+@Label("Application Submission")
+@Category({"JobApp", "Applications"})
+@Description("Recording of an application and storage of its files; the email is sent after the commit")
+@StackTrace(false)
+public class ApplicationSubmissionEvent extends Event {
+
+    @Label("Offer ID")
+    public long offerId;
+
+    @Label("Student Username")
+    public String studentUsername;
+
+    @Label("Application ID")
+    public long applicationId;
+
+    @Label("CV Size")
+    @DataAmount
+    public long cvSize;
+
+    @Label("Motivation Letter Size")
+    @DataAmount
+    public long motivationSize;
+
+    @Label("Succeeded")
+    public boolean succeeded;
+}
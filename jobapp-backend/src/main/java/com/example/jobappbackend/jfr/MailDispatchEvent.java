@@ -0,0 +1,28 @@
+package com.example.jobappbackend.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * JFR event emitted for each email handed to the SMTP server.
+ */
+@Name("com.example.jobapp.MailDispatch")
+@Label("Mail Dispatch")
+@Category({"JobApp", "Mail"})
+@Description("Sending of an email through SMTP")
+@StackTrace(false)
+public class MailDispatchEvent extends Event {
+
+    @Label("Subject")
+    public String subject;
+
+    @Label("Recipient Count")
+    public int recipientCount;
+
+    @Label("Succeeded")
+    public boolean succeeded;
+}
@@ -0,0 +1,28 @@
+package com.example.jobappbackend.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * JFR event emitted when the offer feed of a student is built.
+ */
+@Name("com.example.jobapp.OfferFeed")
+@Label("Offer Feed")
+@Category({"JobApp", "Offers"})
+@Description("Building of the list of offers shown to a student")
+@StackTrace(false)
+public class OfferFeedEvent extends Event {
+
+    @Label("Student Username")
+    public String studentUsername;
+
+    @Label("Offer Count")
+    public int offerCount;
+
+    @Label("Applied Count")
+    public int appliedCount;
+}
@@ -0,0 +1,30 @@
+package com.example.jobappbackend.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * JFR event emitted for each password hash or password verification.
+ */
+@Name("com.example.jobapp.PasswordCheck")
+@Label("Password Check")
+@Category({"JobApp", "Security"})
+@Description("BCrypt hashing or verification of a password")
+@StackTrace(false)
+public class PasswordCheckEvent extends Event {
+
+    @Label("Operation")
+    @Description("encode or matches")
+    public String operation;
+
+    @Label("Cost")
+    @Description("BCrypt log rounds of the stored hash, -1 when unknown")
+    public int cost;
+
+    @Label("Matched")
+    public boolean matched;
+}
@@ -0,0 +1,28 @@
+package com.example.jobappbackend.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * JFR event emitted for each parse and signature check of a JWT.
+ */
+@Name("com.example.jobapp.TokenVerification")
+@Label("Token Verification")
+@Category({"JobApp", "Security"})
+@Description("Parsing and signature verification of a JWT")
+@StackTrace(false)
+public class TokenVerificationEvent extends Event {
+
+    @Label("Subject")
+    public String subject;
+
+    @Label("Token Length")
+    public int tokenLength;
+
+    @Label("Valid")
+    public boolean valid;
+}
@@ -3,6 +3,8 @@ package com.example.jobappbackend.model;
 import jakarta.persistence.*;
 import lombok.Getter;
 import lombok.Setter;
+import org.hibernate.annotations.OnDelete;
+import org.hibernate.annotations.OnDeleteAction;
 
 import java.time.LocalDateTime;
 
@@ -11,19 +13,25 @@ import java.time.LocalDateTime;
 @Getter
 @Setter
 public class Application {
+    /** Identifiant, tiré d'une séquence « pooled » pour permettre les insertions par lots. */
     @Id
-    @GeneratedValue
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "applications_seq")
+    @SequenceGenerator(name = "applications_seq", sequenceName = "applications_seq", allocationSize = 50)
     private Long id;
 
-    /** Étudiant qui a postulé (PAS de cascade vers User). */
+    /** Étudiant qui a postulé (PAS de cascade vers User ; ON DELETE CASCADE côté base). */
     @ManyToOne(optional = false)
     @JoinColumn(name = "student_id")
+    @OnDelete(action = OnDeleteAction.CASCADE)
     private User student;
 
-    /** Offre concernée (PAS de cascade vers Offer). */
+    /** Offre concernée (PAS de cascade vers Offer ; ON DELETE CASCADE côté base). */
     @ManyToOne(optional = false)
     @JoinColumn(name = "offre_id")
+    @OnDelete(action = OnDeleteAction.CASCADE)
     private Offer offer;
 
+    /** Date de candidature, clé de partitionnement mensuel de la table (voir ApplicationPartitionManager). */
+    @Column(nullable = false)
     private LocalDateTime appliedAt;
 }
@@ -2,6 +2,8 @@ package com.example.jobappbackend.model;
 
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.OnDelete;
+import org.hibernate.annotations.OnDeleteAction;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
@@ -17,9 +19,13 @@ import java.util.List;
 @Table(name = "jobapp_offer")
 public class Offer {
 
-    /** Unique identifier for the offer (primary key). */
+    /**
+     * Unique identifier for the offer (primary key).
+     * Drawn from a pooled sequence so that inserts can be batched by Hibernate.
+     */
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "jobapp_offer_seq")
+    @SequenceGenerator(name = "jobapp_offer_seq", sequenceName = "jobapp_offer_seq", allocationSize = 50)
     private Long id;
 
     /** Title of the job offer. */
@@ -38,16 +44,52 @@ public class Offer {
     /** Timestamp when the offer was created. */
     private LocalDateTime createdAt = LocalDateTime.now();
 
+    /** Date from which the offer is listed in the feed. */
+    private LocalDateTime publishAt;
+
+    /** Date after which the offer is no longer listed (optional). */
+    private LocalDateTime expiresAt;
+
+    /**
+     * Statut de l'offre. Seules les offres OPEN sont couvertes par les index partiels
+     * du fil d'offres (voir schema.sql).
+     */
+    @Enumerated(EnumType.STRING)
+    @Column(length = 20)
+    private OfferStatus status = OfferStatus.OPEN;
+
     /** The user (company) who created the offer. */
     @ManyToOne(optional = false)
     @JoinColumn(name = "user_id")
+    @OnDelete(action = OnDeleteAction.CASCADE)
     private User createdBy;
 
     /**
      * Liste des candidatures pour cette offre.
-     * Quand l'offre est supprimée, toutes les candidatures sont supprimées également.
+     * Pas de cascade JPA : les candidatures sont supprimées en masse (requêtes ensemblistes
+     * dans les services, et ON DELETE CASCADE côté base), sans être chargées en mémoire.
      */
-    @OneToMany(mappedBy = "offer", cascade = CascadeType.REMOVE, orphanRemoval = true)
+    @OneToMany(mappedBy = "offer")
     @ToString.Exclude
     private List<Application> applications = new ArrayList<>();
+
+    /**
+     * Tells whether the offer is listed in the feed and accepts applications at the given date.
+     *
+     * @param now the date to check
+     * @return true if the offer is open, published and not expired
+     */
+    public boolean isOpenAt(LocalDateTime now) {
+        return status == OfferStatus.OPEN
+                && (publishAt == null || !publishAt.isAfter(now))
+                && (expiresAt == null || expiresAt.isAfter(now));
+    }
+
+    /** An offer without a publication date is published when it is created. */
+    @PrePersist
+    void defaultPublishAt() {
+        if (publishAt == null) {
+            publishAt = createdAt;
+        }
+    }
 }
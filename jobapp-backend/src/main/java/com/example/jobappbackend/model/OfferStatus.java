@@ -0,0 +1,16 @@
+package com.example.jobappbackend.model;
+
+/**
+ * Lifecycle status of a job offer.
+ */
+public enum OfferStatus {
+
+    /** Listed in the feed once its publication date is reached, until it expires. */
+    OPEN,
+
+    /** Withdrawn by the company; kept for its applications. */
+    CLOSED,
+
+    /** Past its expiry date; set by the offer expiry job. */
+    EXPIRED
+}
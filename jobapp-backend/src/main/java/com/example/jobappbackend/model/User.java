@@ -18,9 +18,13 @@ import java.util.List;
 @Table(name = "Jobapp_user")
 public class User {
 
-    /** Unique identifier for the user (primary key). */
+    /**
+     * Unique identifier for the user (primary key).
+     * Drawn from a pooled sequence so that inserts can be batched by Hibernate.
+     */
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "jobapp_user_seq")
+    @SequenceGenerator(name = "jobapp_user_seq", sequenceName = "jobapp_user_seq", allocationSize = 50)
     private Long id;
 
     /** Unique username used for login. */
@@ -58,18 +62,19 @@ public class User {
 
     /**
      * COMPANY → ses offres.
-     * Suppression d'une company => suppression de toutes ses offres (et candidatures via Offer.applications).
+     * Suppression d'une company => suppression de toutes ses offres et de leurs candidatures,
+     * par requêtes ensemblistes (voir UserService.deleteUser), sans cascade JPA.
      */
-    @OneToMany(mappedBy = "createdBy", cascade = CascadeType.REMOVE, orphanRemoval = true)
+    @OneToMany(mappedBy = "createdBy")
     @JsonIgnore
     @ToString.Exclude
     private List<Offer> offers = new ArrayList<>();
 
     /**
      * STUDENT → ses candidatures.
-     * Suppression d'un student => suppression de toutes ses candidatures.
+     * Suppression d'un student => suppression de toutes ses candidatures, par requête ensembliste.
      */
-    @OneToMany(mappedBy = "student", cascade = CascadeType.REMOVE, orphanRemoval = true)
+    @OneToMany(mappedBy = "student")
     @JsonIgnore
     @ToString.Exclude
     private List<Application> applications = new ArrayList<>();
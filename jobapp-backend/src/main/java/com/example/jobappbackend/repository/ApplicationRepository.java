@@ -4,10 +4,14 @@ import com.example.jobappbackend.model.Application;
 import com.example.jobappbackend.model.Offer;
 import com.example.jobappbackend.model.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 /**
  * Repository interface for managing Application entities.
@@ -15,6 +19,16 @@ import java.util.Optional;
 @Repository
 public interface ApplicationRepository extends JpaRepository<Application, Long> {
 
+    /**
+     * CTE subtracting the applications selected by a {@code doomed (id, offre_id)} CTE from the
+     * applicant counters (see {@code OfferApplicantCounter}). The rows are locked by the
+     * selection, so that each deleted application is subtracted exactly once.
+     */
+    String UNCOUNT_DOOMED = "uncounted AS (INSERT INTO offer_applicant_count (offer_id, stripe, applicants) "
+            + "SELECT offre_id, 0, -count(*) FROM doomed GROUP BY offre_id "
+            + "ON CONFLICT (offer_id, stripe) DO UPDATE "
+            + "SET applicants = offer_applicant_count.applicants + EXCLUDED.applicants) ";
+
     /**
      * Finds all applications submitted by a given student.
      */
@@ -35,6 +49,14 @@ public interface ApplicationRepository extends JpaRepository<Application, Long>
      */
     boolean existsByStudent_IdAndOffer_Id(Long studentId, Long offerId);
 
+    /**
+     * Returns the IDs of the open offers the student has applied to.
+     * Replaces one lookup per offer when building the feed.
+     */
+    @Query("SELECT a.offer.id FROM Application a WHERE a.student.id = :studentId "
+            + "AND a.offer.status = com.example.jobappbackend.model.OfferStatus.OPEN")
+    Set<Long> findOpenAppliedOfferIds(@Param("studentId") Long studentId);
+
     /**
      * Lists applications for a given offer (by entity).
      */
@@ -44,4 +66,40 @@ public interface ApplicationRepository extends JpaRepository<Application, Long>
      * Lists applications for a given offer (by ID).
      */
     List<Application> findByOffer_Id(Long offerId);
+
+    /**
+     * Counts the applications that must go when a user is deleted:
+     * those submitted by the user, and those targeting the user's offers.
+     */
+    @Query("SELECT COUNT(a) FROM Application a "
+            + "WHERE a.student.id = :userId OR a.offer.createdBy.id = :userId")
+    long countInvolvingUser(@Param("userId") Long userId);
+
+    /**
+     * Deletes, in one statement, every application submitted by the user
+     * or targeting one of the user's offers, and subtracts them from the applicant counters.
+     *
+     * @return the number of deleted applications.
+     */
+    @Modifying
+    @Query(value = "WITH doomed AS (SELECT a.id, a.offre_id FROM applications a WHERE a.student_id = :userId "
+            + "OR a.offre_id IN (SELECT o.id FROM jobapp_offer o WHERE o.user_id = :userId) FOR UPDATE), "
+            + UNCOUNT_DOOMED
+            + "DELETE FROM applications WHERE id IN (SELECT id FROM doomed)",
+            nativeQuery = true)
+    int deleteAllInvolvingUser(@Param("userId") Long userId);
+
+    /**
+     * Deletes at most {@code limit} applications involving the user.
+     * Used by background deletions to keep each transaction small.
+     *
+     * @return the number of deleted applications (0 once none remain).
+     */
+    @Modifying
+    @Query(value = "WITH doomed AS (SELECT a.id, a.offre_id FROM applications a WHERE a.student_id = :userId "
+            + "OR a.offre_id IN (SELECT o.id FROM jobapp_offer o WHERE o.user_id = :userId) LIMIT :limit FOR UPDATE), "
+            + UNCOUNT_DOOMED
+            + "DELETE FROM applications WHERE id IN (SELECT id FROM doomed)",
+            nativeQuery = true)
+    int deleteBatchInvolvingUser(@Param("userId") Long userId, @Param("limit") int limit);
 }
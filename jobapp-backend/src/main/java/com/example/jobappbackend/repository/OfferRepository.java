@@ -2,9 +2,14 @@ package com.example.jobappbackend.repository;
 
 import com.example.jobappbackend.model.Offer;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
 
 /**
  * Repository interface for managing {@link Offer} entities.
@@ -30,4 +35,106 @@ public interface OfferRepository extends JpaRepository<Offer, Long> {
      * @return a list of matching offers.
      */
     List<Offer> findByCreatedById(Long userId);
+
+    /**
+     * Updates the editable fields of an offer, only if the offer belongs to the given company,
+     * and returns the updated offer with its company name and applicant count, in a single statement.
+     *
+     * @param id          the offer ID.
+     * @param userId      the ID of the company user expected to own the offer.
+     * @param title       the new title.
+     * @param description the new description.
+     * @param logoUrl     the new logo URL.
+     * @param websiteUrl  the new website URL.
+     * @param publishAt   the new publication date, or null to keep the current one.
+     * @param expiresAt   the new expiry date, or null to keep the current one.
+     * @param status      the new status name, or null to keep the current one.
+     * @return the updated offer, or empty if the offer is missing or not owned.
+     */
+    @Query(value = "UPDATE jobapp_offer o SET title = :title, description = :description, "
+            + "logo_url = :logoUrl, website_url = :websiteUrl, "
+            + "publish_at = COALESCE(CAST(:publishAt AS timestamp), o.publish_at), "
+            + "expires_at = COALESCE(CAST(:expiresAt AS timestamp), o.expires_at), "
+            + "status = COALESCE(CAST(:status AS varchar), o.status) "
+            + "FROM jobapp_user u WHERE u.id = o.user_id AND o.id = :id AND o.user_id = :userId "
+            + "RETURNING o.id AS id, o.title AS title, o.description AS description, o.logo_url AS logoUrl, "
+            + "o.website_url AS websiteUrl, o.created_at AS createdAt, u.company_name AS companyName, "
+            + "o.publish_at AS publishAt, o.expires_at AS expiresAt, o.status AS status, "
+            + "(SELECT CAST(COALESCE(SUM(n.applicants), 0) AS bigint) FROM offer_applicant_count n "
+            + "WHERE n.offer_id = o.id) AS applicantCount",
+            nativeQuery = true)
+    Optional<UpdatedOffer> updateOwnedOffer(@Param("id") Long id,
+                                            @Param("userId") Long userId,
+                                            @Param("title") String title,
+                                            @Param("description") String description,
+                                            @Param("logoUrl") String logoUrl,
+                                            @Param("websiteUrl") String websiteUrl,
+                                            @Param("publishAt") LocalDateTime publishAt,
+                                            @Param("expiresAt") LocalDateTime expiresAt,
+                                            @Param("status") String status);
+
+    /**
+     * Deletes an offer and its applications in a single statement,
+     * only if the offer belongs to the given company.
+     *
+     * @param id     the offer ID.
+     * @param userId the ID of the company user expected to own the offer.
+     * @return the number of deleted offers (0 if the offer is missing or not owned).
+     */
+    @Modifying
+    @Query(value = "WITH owned AS (SELECT id FROM jobapp_offer WHERE id = :id AND user_id = :userId), "
+            + "removed_applications AS (DELETE FROM applications WHERE offre_id IN (SELECT id FROM owned)) "
+            + "DELETE FROM jobapp_offer WHERE id IN (SELECT id FROM owned)",
+            nativeQuery = true)
+    int deleteOwnedOffer(@Param("id") Long id, @Param("userId") Long userId);
+
+    /**
+     * Finds the offers listed in the feed: open, published and not yet expired, with their company.
+     * The status is a literal so that PostgreSQL can match the partial index on open offers
+     * (see schema.sql) and never reads the closed or expired history.
+     *
+     * @param now the current date.
+     * @return the open offers, by ID.
+     */
+    @Query("SELECT o FROM Offer o JOIN FETCH o.createdBy "
+            + "WHERE o.status = com.example.jobappbackend.model.OfferStatus.OPEN AND o.publishAt <= :now "
+            + "AND (o.expiresAt IS NULL OR o.expiresAt > :now) ORDER BY o.id")
+    List<Offer> findOpen(@Param("now") LocalDateTime now);
+
+    /**
+     * Deletes every offer created by the given company in one statement.
+     * Applications of these offers must have been deleted beforehand.
+     *
+     * @param userId the ID of the company user.
+     * @return the number of deleted offers.
+     */
+    @Modifying
+    @Query("DELETE FROM Offer o WHERE o.createdBy.id = :userId")
+    int deleteAllByCreatedById(@Param("userId") Long userId);
+
+    /** An offer as returned by {@link #updateOwnedOffer}. */
+    interface UpdatedOffer {
+
+        Long getId();
+
+        String getTitle();
+
+        String getDescription();
+
+        String getLogoUrl();
+
+        String getWebsiteUrl();
+
+        LocalDateTime getCreatedAt();
+
+        String getCompanyName();
+
+        LocalDateTime getPublishAt();
+
+        LocalDateTime getExpiresAt();
+
+        String getStatus();
+
+        Long getApplicantCount();
+    }
 }
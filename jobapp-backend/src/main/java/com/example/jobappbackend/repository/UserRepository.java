@@ -1,9 +1,17 @@
 package com.example.jobappbackend.repository;
 
+import com.example.jobappbackend.dto.UserSummaryResponse;
 import com.example.jobappbackend.model.User;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 /**
@@ -47,4 +55,81 @@ public interface UserRepository extends JpaRepository<User, Long> {
      * @return true if a user with the email exists, false otherwise.
      */
     boolean existsByEmail(String email);
+
+    /**
+     * Reads only the unique identifiers of a user.
+     *
+     * @param id the ID of the user.
+     * @return an Optional containing the identifiers, or empty if none found.
+     */
+    Optional<Identifiers> findIdentifiersById(Long id);
+
+    /**
+     * Deletes a user in a single statement, without loading the entity.
+     * Offers and applications of the user must have been deleted beforehand.
+     *
+     * @param id the ID of the user.
+     * @return the number of deleted users (0 if none found).
+     */
+    @Modifying
+    @Query("DELETE FROM User u WHERE u.id = :id")
+    int deleteUserById(@Param("id") Long id);
+
+    /**
+     * Returns, among the given usernames, those already taken (one query for the whole set).
+     *
+     * @param usernames the usernames to check.
+     * @return the usernames that already exist.
+     */
+    @Query("SELECT u.username FROM User u WHERE u.username IN :usernames")
+    List<String> findExistingUsernames(@Param("usernames") Collection<String> usernames);
+
+    /**
+     * Returns, among the given email addresses, those already in use (one query for the whole set).
+     *
+     * @param emails the email addresses to check.
+     * @return the email addresses that already exist.
+     */
+    @Query("SELECT u.email FROM User u WHERE u.email IN :emails")
+    List<String> findExistingEmails(@Param("emails") Collection<String> emails);
+
+    /** Filter shared by the directory query and its count query. */
+    String DIRECTORY_FILTER = "WHERE (:role IS NULL OR u.role = :role) "
+            + "AND (:pattern IS NULL "
+            + "OR LOWER(u.username) LIKE :pattern "
+            + "OR LOWER(u.email) LIKE :pattern "
+            + "OR LOWER(u.firstName) LIKE :pattern "
+            + "OR LOWER(u.lastName) LIKE :pattern "
+            + "OR LOWER(u.companyName) LIKE :pattern)";
+
+    /**
+     * Searches the user directory page by page.
+     * <p>
+     * The pattern is matched against lower-cased columns, which are covered by
+     * pg_trgm GIN indexes (see schema.sql) so that partial matches do not scan the table.
+     *
+     * @param role     the role to filter on, or null for all roles.
+     * @param pattern  a lower-case LIKE pattern, or null for no text filter.
+     * @param pageable the requested page and sort.
+     * @return a page of lightweight user projections.
+     */
+    @Query(value = "SELECT new com.example.jobappbackend.dto.UserSummaryResponse("
+            + "u.id, u.username, u.email, u.role, u.firstName, u.lastName, u.companyName) "
+            + "FROM User u " + DIRECTORY_FILTER,
+            countQuery = "SELECT COUNT(u) FROM User u " + DIRECTORY_FILTER)
+    Page<UserSummaryResponse> searchDirectory(@Param("role") String role,
+                                              @Param("pattern") String pattern,
+                                              Pageable pageable);
+
+    /**
+     * Projection of the unique identifiers of a user.
+     */
+    interface Identifiers {
+
+        /** @return the username. */
+        String getUsername();
+
+        /** @return the email address. */
+        String getEmail();
+    }
 }
@@ -0,0 +1,328 @@
+package com.example.jobappbackend.seed;
+
+import com.example.jobappbackend.model.OfferStatus;
+import com.example.jobappbackend.service.ApplicationPartitionManager;
+import org.postgresql.PGConnection;
+import org.postgresql.copy.CopyIn;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.annotation.Order;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.SplittableRandom;
+
+/**
+ * Fills the database with a large, reproducible dataset for performance work.
+ * <p>
+ * Enabled by the {@code seed} profile, e.g.
+ * {@code ./gradlew bootRun --args='--spring.profiles.active=seed --jobapp.seed.applications=10000000'}.
+ * The same seed and sizes always produce the same rows. Companies, students, offers and
+ * applications are streamed to PostgreSQL with {@code COPY ... FROM STDIN}, without going
+ * through JPA. Offer popularity follows a Zipf law, so a few offers receive most applications.
+ * All accounts share the password {@code jobapp.seed.password}.
+ * <p>
+ * With the default sizes, the seed takes about 5 minutes on one CPU with PostgreSQL 16, nearly
+ * all of it in PostgreSQL checking the foreign keys and indexing the application partitions.
+ */
+@Component
+@Profile("seed")
+@Order(0)
+public class DatasetSeeder implements ApplicationRunner {
+
+    private static final Logger log = LoggerFactory.getLogger(DatasetSeeder.class);
+
+    /** Size of the buffer sent to COPY at once. */
+    private static final int COPY_CHUNK_CHARS = 1 << 20;
+
+    /** Date of the oldest generated offer; applications and offers spread over the following year. */
+    private static final LocalDateTime EPOCH = LocalDateTime.of(2025, 1, 1, 0, 0);
+
+    private static final String[] TITLES = {
+            "Software engineering internship", "Data analyst", "Frontend developer (Angular)",
+            "Backend developer (Java)", "DevOps engineer", "QA engineer", "Product owner",
+            "Cybersecurity analyst", "Mobile developer", "Machine learning intern"
+    };
+
+    private static final String[] SENTENCES = {
+            "You will join a cross-functional team building products used by thousands of customers.",
+            "We value curiosity, ownership and clear communication.",
+            "You will design, implement and test new features together with senior engineers.",
+            "Our stack includes Java, Spring Boot, PostgreSQL, Angular and Kubernetes.",
+            "Flexible hours, remote days and a training budget are part of the package.",
+            "Experience with Git and automated testing is a plus.",
+            "You will take part in code reviews, sprint plannings and retrospectives.",
+            "Fluency in French or English is required; Dutch is an asset."
+    };
+
+    private final DataSource dataSource;
+    private final ApplicationPartitionManager partitionManager;
+    private final PasswordEncoder passwordEncoder;
+    private final ConfigurableApplicationContext context;
+    private final int companies;
+    private final int students;
+    private final int offersPerCompany;
+    private final long applications;
+    private final double zipfExponent;
+    private final long seed;
+    private final String password;
+    private final boolean truncate;
+    private final boolean exitWhenDone;
+
+    public DatasetSeeder(DataSource dataSource,
+                         ApplicationPartitionManager partitionManager,
+                         PasswordEncoder passwordEncoder,
+                         ConfigurableApplicationContext context,
+                         @Value("${jobapp.seed.companies:1000}") int companies,
+                         @Value("${jobapp.seed.students:100000}") int students,
+                         @Value("${jobapp.seed.offers-per-company:20}") int offersPerCompany,
+                         @Value("${jobapp.seed.applications:10000000}") long applications,
+                         @Value("${jobapp.seed.zipf-exponent:1.0}") double zipfExponent,
+                         @Value("${jobapp.seed.random-seed:42}") long seed,
+                         @Value("${jobapp.seed.password:password}") String password,
+                         @Value("${jobapp.seed.truncate:false}") boolean truncate,
+                         @Value("${jobapp.seed.exit-when-done:true}") boolean exitWhenDone) {
+        this.dataSource = dataSource;
+        this.partitionManager = partitionManager;
+        this.passwordEncoder = passwordEncoder;
+        this.context = context;
+        this.companies = companies;
+        this.students = students;
+        this.offersPerCompany = offersPerCompany;
+        this.applications = applications;
+        this.zipfExponent = zipfExponent;
+        this.seed = seed;
+        this.password = password;
+        this.truncate = truncate;
+        this.exitWhenDone = exitWhenDone;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) throws SQLException {
+        long start = System.nanoTime();
+        partitionManager.ensurePartitions(YearMonth.from(EPOCH), YearMonth.from(EPOCH.plusYears(1)));
+        try (Connection connection = dataSource.getConnection()) {
+            connection.setAutoCommit(false);
+            prepareTables(connection);
+
+            String passwordHash = passwordEncoder.encode(password);
+            int offers = companies * offersPerCompany;
+            long firstStudentId = companies + 1L;
+
+            copyUsers(connection, passwordHash);
+            log.info("seed: {} companies and {} students copied", companies, students);
+            copyOffers(connection);
+            log.info("seed: {} offers copied", offers);
+            long copied = copyApplications(connection, firstStudentId, offers);
+            log.info("seed: {} applications copied", copied);
+            countApplicants(connection);
+
+            alignSequences(connection);
+            connection.commit();
+            try (Statement statement = connection.createStatement()) {
+                statement.execute("ANALYZE jobapp_user, jobapp_offer, applications");
+            }
+            connection.commit();
+        }
+        log.info("seed: done in {} s", (System.nanoTime() - start) / 1_000_000_000L);
+
+        if (exitWhenDone) {
+            System.exit(SpringApplication.exit(context, () -> 0));
+        }
+    }
+
+    /** Empties the tables when asked to, and refuses to mix generated rows with existing ones. */
+    private void prepareTables(Connection connection) throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            if (truncate) {
+                statement.execute("TRUNCATE applications, offer_applicant_count, jobapp_offer, jobapp_user");
+                return;
+            }
+            try (var rs = statement.executeQuery("SELECT EXISTS (SELECT 1 FROM jobapp_user)")) {
+                rs.next();
+                if (rs.getBoolean(1)) {
+                    throw new IllegalStateException(
+                            "The database already contains users; set jobapp.seed.truncate=true to replace them.");
+                }
+            }
+        }
+    }
+
+    /** Companies get IDs 1..companies, students the following ones. */
+    private void copyUsers(Connection connection, String passwordHash) throws SQLException {
+        try (CopyWriter out = new CopyWriter(connection, "COPY jobapp_user (id, username, password, role, email, "
+                + "first_name, last_name, company_name, address, phone_number) FROM STDIN")) {
+            for (long i = 1; i <= companies; i++) {
+                out.row(i, "company" + i, passwordHash, "COMPANY", "jobs@company" + i + ".example.com",
+                        "Recruiter", "Company " + i, "Company " + i + " SA",
+                        i + " Avenue de l'Industrie, 1000 Bruxelles", phone(i));
+            }
+            for (long i = 1; i <= students; i++) {
+                out.row(companies + i, "student" + i, passwordHash, "STUDENT", "student" + i + "@students.example.com",
+                        "Firstname" + i, "Lastname" + i, null, i + " Rue de la Station, 7000 Mons", phone(i));
+            }
+        }
+    }
+
+    /** Offer IDs are 1..offers; offer n belongs to company (n - 1) / offersPerCompany + 1. */
+    private void copyOffers(Connection connection) throws SQLException {
+        SplittableRandom random = new SplittableRandom(seed);
+        try (CopyWriter out = new CopyWriter(connection, "COPY jobapp_offer (id, title, description, logo_url, "
+                + "website_url, created_at, publish_at, status, user_id) FROM STDIN")) {
+            long id = 1;
+            for (long company = 1; company <= companies; company++) {
+                for (int i = 0; i < offersPerCompany; i++, id++) {
+                    LocalDateTime createdAt = EPOCH.plusMinutes(random.nextInt(365 * 24 * 60));
+                    out.row(id, TITLES[random.nextInt(TITLES.length)] + " #" + id, description(random),
+                            "https://cdn.example.com/logos/company-" + company + ".png",
+                            "https://company" + company + ".example.com/careers",
+                            createdAt, createdAt, OfferStatus.OPEN, company);
+                }
+            }
+        }
+    }
+
+    /**
+     * Spreads the applications evenly over the students; each student picks distinct offers
+     * following the Zipf popularity. Popularity ranks are shuffled over the offers so that
+     * popular offers are spread over all companies.
+     */
+    private long copyApplications(Connection connection, long firstStudentId, int offers) throws SQLException {
+        SplittableRandom random = new SplittableRandom(seed + 1);
+        ZipfSampler zipf = new ZipfSampler(offers, zipfExponent);
+        int[] offerByRank = new int[offers];
+        for (int i = 0; i < offers; i++) {
+            offerByRank[i] = i + 1;
+        }
+        for (int i = offers - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            int tmp = offerByRank[i];
+            offerByRank[i] = offerByRank[j];
+            offerByRank[j] = tmp;
+        }
+
+        long perStudent = applications / students;
+        long remainder = applications % students;
+        long id = 1;
+        Set<Integer> chosen = new HashSet<>();
+        try (CopyWriter out = new CopyWriter(connection,
+                "COPY applications (id, student_id, offre_id, applied_at) FROM STDIN")) {
+            for (long s = 0; s < students; s++) {
+                long count = Math.min(perStudent + (s < remainder ? 1 : 0), offers);
+                chosen.clear();
+                while (chosen.size() < count) {
+                    int offer = offerByRank[zipf.sample(random)];
+                    if (chosen.add(offer)) {
+                        out.row(id++, firstStudentId + s, offer, EPOCH.plusSeconds(random.nextLong(365L * 24 * 3600)));
+                    }
+                }
+            }
+        }
+        return id - 1;
+    }
+
+    /** Fills the applicant counters from the copied applications, one row per offer. */
+    private void countApplicants(Connection connection) throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("INSERT INTO offer_applicant_count (offer_id, stripe, applicants) "
+                    + "SELECT offre_id, 0, count(*) FROM applications GROUP BY offre_id");
+        }
+    }
+
+    /** Moves the ID sequences past the generated rows. */
+    private void alignSequences(Connection connection) throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("SELECT setval('jobapp_user_seq', (SELECT MAX(id) FROM jobapp_user))");
+            statement.execute("SELECT setval('jobapp_offer_seq', (SELECT MAX(id) FROM jobapp_offer))");
+            statement.execute("SELECT setval('applications_seq', GREATEST((SELECT MAX(id) FROM applications), 1))");
+        }
+    }
+
+    /** A description of 500 to 3000 characters made of recruiting sentences. */
+    private static String description(SplittableRandom random) {
+        int length = 500 + random.nextInt(2500);
+        StringBuilder text = new StringBuilder(length + 100);
+        while (text.length() < length) {
+            text.append(SENTENCES[random.nextInt(SENTENCES.length)]).append(' ');
+        }
+        return text.toString().trim();
+    }
+
+    private static String phone(long i) {
+        return String.format("+32 470 %02d %02d %02d", (i / 10000) % 100, (i / 100) % 100, i % 100);
+    }
+
+    /**
+     * Writes rows in PostgreSQL text COPY format, sending them by chunks of about 1 MB.
+     */
+    private static final class CopyWriter implements AutoCloseable {
+        private final CopyIn copyIn;
+        private final StringBuilder buffer = new StringBuilder(COPY_CHUNK_CHARS + 4096);
+
+        private CopyWriter(Connection connection, String sql) throws SQLException {
+            this.copyIn = connection.unwrap(PGConnection.class).getCopyAPI().copyIn(sql);
+        }
+
+        private void row(Object... values) throws SQLException {
+            for (int i = 0; i < values.length; i++) {
+                if (i > 0) {
+                    buffer.append('\t');
+                }
+                appendValue(values[i]);
+            }
+            buffer.append('\n');
+            if (buffer.length() >= COPY_CHUNK_CHARS) {
+                flush();
+            }
+        }
+
+        /** Appends a value, escaping the characters that are special in the text format. */
+        private void appendValue(Object value) {
+            if (value == null) {
+                buffer.append("\\N");
+                return;
+            }
+            String text = value.toString();
+            for (int i = 0; i < text.length(); i++) {
+                char c = text.charAt(i);
+                switch (c) {
+                    case '\\' -> buffer.append("\\\\");
+                    case '\t' -> buffer.append("\\t");
+                    case '\n' -> buffer.append("\\n");
+                    case '\r' -> buffer.append("\\r");
+                    default -> buffer.append(c);
+                }
+            }
+        }
+
+        private void flush() throws SQLException {
+            byte[] bytes = buffer.toString().getBytes(StandardCharsets.UTF_8);
+            copyIn.writeToCopy(bytes, 0, bytes.length);
+            buffer.setLength(0);
+        }
+
+        @Override
+        public void close() throws SQLException {
+            if (!copyIn.isActive()) {
+                return;
+            }
+            flush();
+            copyIn.endCopy();
+        }
+    }
+}
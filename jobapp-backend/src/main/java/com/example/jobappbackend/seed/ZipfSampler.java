@@ -0,0 +1,41 @@
+package com.example.jobappbackend.seed;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+
+/**
+ * Samples ranks 0..n-1 following a Zipf law: rank k is drawn with a probability
+ * proportional to 1 / (k + 1)^exponent. A few ranks are very popular, most are rare,
+ * like the number of applications received by job offers.
+ */
+final class ZipfSampler {
+
+    /** Cumulative probabilities, the last one being 1. */
+    private final double[] cumulative;
+
+    /**
+     * @param n        number of ranks
+     * @param exponent skew of the distribution (0 = uniform, around 1 = typical popularity skew)
+     */
+    ZipfSampler(int n, double exponent) {
+        cumulative = new double[n];
+        double sum = 0;
+        for (int k = 0; k < n; k++) {
+            sum += 1.0 / Math.pow(k + 1, exponent);
+            cumulative[k] = sum;
+        }
+        for (int k = 0; k < n; k++) {
+            cumulative[k] /= sum;
+        }
+    }
+
+    /**
+     * @param random the random source
+     * @return a rank between 0 and n-1
+     */
+    int sample(SplittableRandom random) {
+        int index = Arrays.binarySearch(cumulative, random.nextDouble());
+        int rank = index >= 0 ? index : -index - 1;
+        return Math.min(rank, cumulative.length - 1);
+    }
+}
@@ -0,0 +1,166 @@
+package com.example.jobappbackend.service;
+
+import com.example.jobappbackend.event.ApplicationSubmitted;
+import com.example.jobappbackend.exception.ApiException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Keeps the files of an application on disk until its notification is sent.
+ * <p>
+ * The multipart temporary files are deleted at the end of the request, before the asynchronous
+ * listeners run, and holding the files in the queued events would keep up to a full notification
+ * queue of uploads in memory. The files are copied to {@code jobapp.applications.attachment-dir}
+ * instead, and the events carry their paths. They are deleted once the email is sent, or when the
+ * transaction of the application rolls back.
+ * <p>
+ * The files of the events lost when a node stops or crashes stay behind. Each node sweeps its
+ * directory at startup and every {@code jobapp.applications.attachment-sweep-interval}, deleting
+ * the files older than {@code jobapp.applications.attachment-retention} (24 hours by default,
+ * far longer than an email waits in the notification queue).
+ */
+@Component
+public class ApplicationAttachmentStore {
+
+    private static final Logger log = LoggerFactory.getLogger(ApplicationAttachmentStore.class);
+
+    private static final String PREFIX = "attachment-";
+    private static final String SUFFIX = ".upload";
+
+    private final Path directory;
+    private final Duration retention;
+    private final Duration sweepInterval;
+    private final TaskScheduler taskScheduler;
+    private final boolean sweepEnabled;
+
+    public ApplicationAttachmentStore(
+            @Value("${jobapp.applications.attachment-dir:${java.io.tmpdir}/jobapp-attachments}") Path directory,
+            @Value("${jobapp.applications.attachment-retention:24h}") Duration retention,
+            @Value("${jobapp.applications.attachment-sweep-interval:1h}") Duration sweepInterval,
+            @Qualifier("clusterJobTaskScheduler") TaskScheduler taskScheduler,
+            @Value("${jobapp.scheduler.enabled:true}") boolean sweepEnabled) {
+        this.directory = directory;
+        this.retention = retention;
+        this.sweepInterval = sweepInterval;
+        this.taskScheduler = taskScheduler;
+        this.sweepEnabled = sweepEnabled;
+    }
+
+    /**
+     * Sweeps the files left behind by a previous run of this node, then schedules the next sweeps.
+     * Every node sweeps its own directory: the files are local, so this is not a cluster job.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void startSweeping() {
+        if (sweepEnabled) {
+            taskScheduler.scheduleAtFixedRate(this::sweep, Instant.now(), sweepInterval);
+        }
+    }
+
+    /**
+     * Deletes the stored files older than the retention.
+     *
+     * @return the number of deleted files
+     */
+    public int sweep() {
+        if (!Files.isDirectory(directory)) {
+            return 0;
+        }
+        Instant cutoff = Instant.now().minus(retention);
+        int deleted = 0;
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(directory, PREFIX + "*" + SUFFIX)) {
+            for (Path file : files) {
+                try {
+                    if (Files.getLastModifiedTime(file).toInstant().isBefore(cutoff) && Files.deleteIfExists(file)) {
+                        deleted++;
+                    }
+                } catch (IOException e) {
+                    log.warn("attachment_delete_failed file={} error={}", file, e.toString());
+                }
+            }
+        } catch (IOException e) {
+            log.warn("attachment_sweep_failed directory={} error={}", directory, e.toString());
+        }
+        if (deleted > 0) {
+            log.info("attachment_sweep deleted={} retention={}", deleted, retention);
+        }
+        return deleted;
+    }
+
+    /**
+     * Copies an uploaded file to the store.
+     *
+     * @param file the uploaded file
+     * @return the attachment referring to the copy
+     * @throws ApiException if the file cannot be read or stored
+     */
+    public ApplicationSubmitted.Attachment store(MultipartFile file) {
+        String filename = (file.getOriginalFilename() != null && !file.getOriginalFilename().isBlank())
+                ? file.getOriginalFilename()
+                : "attachment";
+        Path copy;
+        try {
+            Files.createDirectories(directory);
+            copy = Files.createTempFile(directory, PREFIX, SUFFIX);
+        } catch (IOException e) {
+            throw new ApiException("Could not store the uploaded files.");
+        }
+        try (InputStream in = file.getInputStream()) {
+            Files.copy(in, copy, StandardCopyOption.REPLACE_EXISTING);
+        } catch (IOException e) {
+            deleteQuietly(copy);
+            throw new ApiException("Could not read the uploaded files.");
+        }
+        ApplicationSubmitted.Attachment attachment =
+                new ApplicationSubmitted.Attachment(filename, file.getContentType(), copy);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    if (status != STATUS_COMMITTED) {
+                        deleteQuietly(copy);
+                    }
+                }
+            });
+        }
+        return attachment;
+    }
+
+    /**
+     * Deletes the stored files of an application once they are no longer needed.
+     *
+     * @param attachments the attachments of the application
+     */
+    public void delete(List<ApplicationSubmitted.Attachment> attachments) {
+        for (ApplicationSubmitted.Attachment attachment : attachments) {
+            deleteQuietly(attachment.getFile());
+        }
+    }
+
+    private static void deleteQuietly(Path file) {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            log.warn("attachment_delete_failed file={} error={}", file, e.toString());
+        }
+    }
+}
@@ -0,0 +1,91 @@
+package com.example.jobappbackend.service;
+
+import com.example.jobappbackend.event.ApplicationSubmitted;
+import io.micrometer.core.annotation.Timed;
+import jakarta.mail.MessagingException;
+import jakarta.mail.internet.MimeMessage;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.mail.MailException;
+import org.springframework.mail.javamail.MimeMessageHelper;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * Sends each committed application to the company by email, with the CV and motivation letter
+ * when the student uploaded them.
+ * <p>
+ * Runs on the {@code notificationTaskExecutor}, so the student does not wait for the SMTP
+ * exchange. The application is already committed: a failed send is logged (and counted by the
+ * {@code jobapp.mail.send} timer) but does not undo it. The stored files are deleted either way.
+ */
+@Component
+public class ApplicationMailListener {
+
+    private static final Logger log = LoggerFactory.getLogger(ApplicationMailListener.class);
+
+    private final EmailService emailService;
+    private final ApplicationAttachmentStore attachmentStore;
+
+    public ApplicationMailListener(EmailService emailService, ApplicationAttachmentStore attachmentStore) {
+        this.emailService = emailService;
+        this.attachmentStore = attachmentStore;
+    }
+
+    /**
+     * Emails the application to the company.
+     *
+     * @param event the committed application
+     */
+    @Async("notificationTaskExecutor")
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    @Timed(value = "jobapp.events.listener", histogram = true)
+    public void on(ApplicationSubmitted event) {
+        try {
+            if (event.getCompanyEmail() == null) {
+                log.warn("application_mail_skipped application={} offer={} reason=no_company_email",
+                        event.getApplicationId(), event.getOfferId());
+                return;
+            }
+            emailService.send(toMessage(event));
+        } catch (MessagingException | MailException e) {
+            log.error("application_mail_failed application={} offer={} error={}",
+                    event.getApplicationId(), event.getOfferId(), e.toString());
+        } finally {
+            attachmentStore.delete(event.getAttachments());
+        }
+    }
+
+    /**
+     * Builds the email sent to the company.
+     *
+     * @param event the application
+     * @return the message, with one attachment per uploaded file
+     * @throws MessagingException if the message cannot be built
+     */
+    private MimeMessage toMessage(ApplicationSubmitted event) throws MessagingException {
+        MimeMessage message = emailService.createMessage();
+        MimeMessageHelper helper = new MimeMessageHelper(message, true);
+
+        helper.setTo(event.getCompanyEmail());
+        helper.setSubject("New Job Application for: " + event.getOfferTitle());
+        helper.setText("Dear " + (event.getCompanyName() != null ? event.getCompanyName() : "Company") + ",\n\n"
+                + "A student has applied to your offer \"" + event.getOfferTitle() + "\".\n"
+                + "Email: " + event.getStudentEmail() + "\n\n"
+                + (event.getAttachments().isEmpty() ? "" : "Please find the attached CV and motivation letter.\n\n")
+                + "Regards,\nJobApp");
+
+        for (ApplicationSubmitted.Attachment attachment : event.getAttachments()) {
+            FileSystemResource source = new FileSystemResource(attachment.getFile());
+            if (attachment.getContentType() != null) {
+                helper.addAttachment(attachment.getFilename(), source, attachment.getContentType());
+            } else {
+                helper.addAttachment(attachment.getFilename(), source);
+            }
+        }
+        return message;
+    }
+}
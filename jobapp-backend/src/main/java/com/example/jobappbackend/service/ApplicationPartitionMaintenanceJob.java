@@ -0,0 +1,39 @@
+package com.example.jobappbackend.service;
+
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * Cluster job creating the coming partitions of {@code applications} and archiving the old
+ * ones, see {@link ApplicationPartitionManager#maintain()}.
+ */
+@Component
+public class ApplicationPartitionMaintenanceJob implements ClusterJob {
+
+    private final ApplicationPartitionManager partitionManager;
+
+    public ApplicationPartitionMaintenanceJob(ApplicationPartitionManager partitionManager) {
+        this.partitionManager = partitionManager;
+    }
+
+    @Override
+    public String getName() {
+        return "applications-partition-maintenance";
+    }
+
+    @Override
+    public String getCron() {
+        return "0 15 2 * * *";
+    }
+
+    @Override
+    public Duration getTimeout() {
+        return Duration.ofHours(1);
+    }
+
+    @Override
+    public void run() {
+        partitionManager.maintain();
+    }
+}
@@ -0,0 +1,310 @@
+package com.example.jobappbackend.service;
+
+import org.postgresql.PGConnection;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Keeps the {@code applications} table partitioned by month of {@code applied_at}.
+ * <p>
+ * At startup, a plain {@code applications} table (as created by Hibernate) is converted once
+ * into a range-partitioned table with one partition per month, plus a default partition catching
+ * rows without a partition. The primary key becomes {@code (id, applied_at)}, and the lookups by
+ * student and by offer get indexes, created on every partition.
+ * <p>
+ * {@link #maintain()} then creates the partitions of the coming months ahead of time, moving any
+ * row that landed in the default partition, and archives the partitions older than
+ * {@code jobapp.applications.partitions.archive-after-months}: they are detached, so queries no
+ * longer scan them, then either written as gzipped CSV to {@code archive-dir} and dropped, or
+ * kept in the {@code applications_archive} schema when no directory is set. The detach locks the
+ * whole {@code applications} table, so it commits on its own; the export runs in a later
+ * transaction locking only the detached table, which also picks up the partitions left detached
+ * by a node stopped in between. A partition still
+ * holding applications to an open offer is kept: once archived, they would no longer prevent the
+ * student from applying again, nor be subtracted from the offer's applicant count. Each step runs
+ * under a transaction-level advisory lock, so nodes never modify the partitions concurrently.
+ */
+@Service
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class ApplicationPartitionManager implements ApplicationRunner {
+
+    private static final Logger log = LoggerFactory.getLogger(ApplicationPartitionManager.class);
+
+    /** Key of the advisory lock serializing the changes of the partitions. */
+    private static final String LOCK_KEY = "applications_partitions";
+
+    /** Schema receiving the detached partitions kept in the database. */
+    private static final String ARCHIVE_SCHEMA = "applications_archive";
+
+    private static final DateTimeFormatter PARTITION_SUFFIX = DateTimeFormatter.ofPattern("yyyy_MM");
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final int monthsAhead;
+    private final int archiveAfterMonths;
+    private final String archiveDir;
+
+    public ApplicationPartitionManager(DataSource dataSource,
+                                       PlatformTransactionManager transactionManager,
+                                       @Value("${jobapp.applications.partitions.months-ahead:3}") int monthsAhead,
+                                       @Value("${jobapp.applications.partitions.archive-after-months:24}") int archiveAfterMonths,
+                                       @Value("${jobapp.applications.partitions.archive-dir:}") String archiveDir) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.monthsAhead = monthsAhead;
+        this.archiveAfterMonths = archiveAfterMonths;
+        this.archiveDir = archiveDir;
+    }
+
+    /** Converts the table if needed and creates the partitions of the current and coming months. */
+    @Override
+    public void run(ApplicationArguments args) {
+        convertIfNeeded();
+        YearMonth now = YearMonth.now();
+        ensurePartitions(now, now.plusMonths(monthsAhead));
+    }
+
+    /** Creates the partitions of the coming months and archives the old ones. */
+    public void maintain() {
+        YearMonth now = YearMonth.now();
+        ensurePartitions(now, now.plusMonths(monthsAhead));
+        if (archiveAfterMonths > 0) {
+            archiveBefore(now.minusMonths(archiveAfterMonths));
+        }
+    }
+
+    /**
+     * Creates the missing monthly partitions between two months, both included.
+     * Rows of those months found in the default partition are moved to the new partition.
+     *
+     * @param from the first month
+     * @param to   the last month
+     */
+    public void ensurePartitions(YearMonth from, YearMonth to) {
+        for (YearMonth month = from; !month.isAfter(to); month = month.plusMonths(1)) {
+            YearMonth target = month;
+            transactionTemplate.executeWithoutResult(status -> {
+                lock();
+                createPartition(target);
+            });
+        }
+    }
+
+    /**
+     * Converts a plain {@code applications} table into a partitioned one, copying its rows.
+     * Does nothing when the table is already partitioned.
+     */
+    private void convertIfNeeded() {
+        transactionTemplate.executeWithoutResult(status -> {
+            lock();
+            if (!"r".equals(relkind("applications"))) {
+                return;
+            }
+            jdbcTemplate.execute("LOCK TABLE applications IN ACCESS EXCLUSIVE MODE");
+            List<YearMonth> months = jdbcTemplate.query(
+                    "SELECT DISTINCT date_trunc('month', applied_at) FROM applications WHERE applied_at IS NOT NULL",
+                    (rs, rowNum) -> YearMonth.from(rs.getTimestamp(1).toLocalDateTime()));
+            long rows = jdbcTemplate.queryForObject("SELECT count(*) FROM applications", Long.class);
+
+            jdbcTemplate.execute("ALTER TABLE applications RENAME TO applications_unpartitioned");
+            jdbcTemplate.execute("ALTER INDEX IF EXISTS applications_pkey RENAME TO applications_unpartitioned_pkey");
+            jdbcTemplate.execute("""
+                    CREATE TABLE applications (
+                        id         BIGINT       NOT NULL,
+                        applied_at TIMESTAMP(6) NOT NULL,
+                        offre_id   BIGINT       NOT NULL,
+                        student_id BIGINT       NOT NULL,
+                        CONSTRAINT applications_pkey PRIMARY KEY (id, applied_at),
+                        CONSTRAINT fk_applications_offer FOREIGN KEY (offre_id)
+                            REFERENCES jobapp_offer (id) ON DELETE CASCADE,
+                        CONSTRAINT fk_applications_student FOREIGN KEY (student_id)
+                            REFERENCES jobapp_user (id) ON DELETE CASCADE
+                    ) PARTITION BY RANGE (applied_at)""");
+            jdbcTemplate.execute("CREATE INDEX idx_applications_student_offer ON applications (student_id, offre_id)");
+            jdbcTemplate.execute("CREATE INDEX idx_applications_offer ON applications (offre_id)");
+            jdbcTemplate.execute("CREATE TABLE applications_default PARTITION OF applications DEFAULT");
+            months.forEach(this::createPartition);
+            jdbcTemplate.execute("INSERT INTO applications (id, applied_at, offre_id, student_id) "
+                    + "SELECT id, COALESCE(applied_at, LOCALTIMESTAMP), offre_id, student_id FROM applications_unpartitioned");
+            jdbcTemplate.execute("DROP TABLE applications_unpartitioned");
+            log.info("applications_partitioned rows={} partitions={}", rows, months.size());
+        });
+    }
+
+    /** Creates the partition of a month if it does not exist yet. Runs inside a locked transaction. */
+    private void createPartition(YearMonth month) {
+        String name = partitionName(month);
+        if (relkind(name) != null) {
+            return;
+        }
+        String from = quote(month.atDay(1));
+        String to = quote(month.plusMonths(1).atDay(1));
+        Timestamp start = Timestamp.valueOf(month.atDay(1).atStartOfDay());
+        Timestamp end = Timestamp.valueOf(month.plusMonths(1).atDay(1).atStartOfDay());
+
+        boolean inDefault = Boolean.TRUE.equals(jdbcTemplate.queryForObject(
+                "SELECT EXISTS (SELECT 1 FROM applications_default WHERE applied_at >= ? AND applied_at < ?)",
+                Boolean.class, start, end));
+        if (!inDefault) {
+            jdbcTemplate.execute("CREATE TABLE " + name + " PARTITION OF applications FOR VALUES FROM ("
+                    + from + ") TO (" + to + ")");
+            return;
+        }
+        // The default partition may not hold rows of a new partition: move them first.
+        jdbcTemplate.execute("CREATE TABLE " + name + " (LIKE applications INCLUDING DEFAULTS INCLUDING CONSTRAINTS)");
+        int moved = jdbcTemplate.update("WITH moved AS (DELETE FROM applications_default "
+                + "WHERE applied_at >= ? AND applied_at < ? RETURNING *) "
+                + "INSERT INTO " + name + " SELECT * FROM moved", start, end);
+        jdbcTemplate.execute("ALTER TABLE applications ATTACH PARTITION " + name + " FOR VALUES FROM ("
+                + from + ") TO (" + to + ")");
+        log.info("applications_partition_created partition={} movedFromDefault={}", name, moved);
+    }
+
+    /**
+     * Detaches the monthly partitions before the given month, skipping the ones referencing an
+     * open offer, then archives every detached partition.
+     */
+    private void archiveBefore(YearMonth limit) {
+        String limitName = partitionName(limit);
+        for (String partition : attachedPartitions()) {
+            if (partition.compareTo(limitName) >= 0) {
+                continue;
+            }
+            transactionTemplate.executeWithoutResult(status -> {
+                lock();
+                if (referencesOpenOffer(partition)) {
+                    log.info("applications_partition_kept partition={} reason=open_offers", partition);
+                    return;
+                }
+                jdbcTemplate.execute("ALTER TABLE applications DETACH PARTITION " + partition);
+                log.info("applications_partition_detached partition={}", partition);
+            });
+        }
+        detachedPartitions().forEach(this::archive);
+    }
+
+    /**
+     * Exports and drops a detached partition, or moves it to the archive schema. Does nothing if
+     * another node archived it first.
+     */
+    private void archive(String partition) {
+        transactionTemplate.executeWithoutResult(status -> {
+            lock();
+            if (!detachedPartitions().contains(partition)) {
+                return;
+            }
+            if (archiveDir.isBlank()) {
+                jdbcTemplate.execute("CREATE SCHEMA IF NOT EXISTS " + ARCHIVE_SCHEMA);
+                jdbcTemplate.execute("ALTER TABLE " + partition + " SET SCHEMA " + ARCHIVE_SCHEMA);
+                log.info("applications_partition_archived partition={} schema={}", partition, ARCHIVE_SCHEMA);
+            } else {
+                Path file = export(partition);
+                jdbcTemplate.execute("DROP TABLE " + partition);
+                log.info("applications_partition_archived partition={} file={}", partition, file);
+            }
+        });
+    }
+
+    /**
+     * Writes a detached partition as gzipped CSV (with a header line) in the archive directory.
+     * The file is written under a temporary name and renamed once complete.
+     *
+     * @return the written file
+     */
+    private Path export(String partition) {
+        Path target = Path.of(archiveDir, partition + ".csv.gz");
+        return jdbcTemplate.execute((ConnectionCallback<Path>) connection -> {
+            try {
+                Files.createDirectories(target.getParent());
+                Path partial = target.resolveSibling(target.getFileName() + ".part");
+                try (OutputStream out = new GZIPOutputStream(Files.newOutputStream(partial))) {
+                    connection.unwrap(PGConnection.class).getCopyAPI().copyOut(
+                            "COPY " + partition + " TO STDOUT WITH (FORMAT csv, HEADER)", out);
+                }
+                return Files.move(partial, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+    }
+
+    /** @return whether a partition holds an application to an offer still open (or not migrated yet) */
+    private boolean referencesOpenOffer(String partition) {
+        return Boolean.TRUE.equals(jdbcTemplate.queryForObject(
+                "SELECT EXISTS (SELECT 1 FROM " + partition + " a JOIN jobapp_offer o ON o.id = a.offre_id "
+                        + "WHERE COALESCE(o.status, 'OPEN') = 'OPEN')",
+                Boolean.class));
+    }
+
+    /** Serializes the partition changes of all nodes until the end of the transaction. */
+    private void lock() {
+        jdbcTemplate.queryForList("SELECT pg_advisory_xact_lock(hashtext(?))", LOCK_KEY);
+    }
+
+    /** @return the kind of a relation of the current schema ("r", "p", ...), or null if it does not exist */
+    private String relkind(String name) {
+        List<String> kinds = jdbcTemplate.queryForList(
+                "SELECT c.relkind::text FROM pg_class c JOIN pg_namespace n ON n.oid = c.relnamespace "
+                        + "WHERE c.relname = ? AND n.nspname = current_schema()",
+                String.class, name);
+        return kinds.isEmpty() ? null : kinds.get(0);
+    }
+
+    private static String partitionName(YearMonth month) {
+        return "applications_p" + month.format(PARTITION_SUFFIX);
+    }
+
+    private static String quote(LocalDate date) {
+        return "'" + date + " 00:00:00'";
+    }
+
+    /** @return the months currently having an attached partition, oldest first. */
+    public List<YearMonth> getPartitionMonths() {
+        return attachedPartitions().stream()
+                .map(name -> YearMonth.parse(name.substring("applications_p".length()), PARTITION_SUFFIX))
+                .toList();
+    }
+
+    /** @return the names of the monthly partitions detached but not archived yet, oldest first. */
+    private List<String> detachedPartitions() {
+        return jdbcTemplate.queryForList("""
+                SELECT c.relname FROM pg_class c JOIN pg_namespace n ON n.oid = c.relnamespace
+                WHERE n.nspname = current_schema() AND c.relkind = 'r' AND NOT c.relispartition
+                AND c.relname LIKE 'applications\\_p%'
+                ORDER BY c.relname""", String.class);
+    }
+
+    /** @return the names of the attached monthly partitions, oldest first. */
+    private List<String> attachedPartitions() {
+        return jdbcTemplate.queryForList("""
+                SELECT c.relname FROM pg_inherits i
+                JOIN pg_class c ON c.oid = i.inhrelid
+                JOIN pg_class p ON p.oid = i.inhparent
+                WHERE p.relname = 'applications' AND c.relname LIKE 'applications\\_p%'
+                ORDER BY c.relname""", String.class);
+    }
+}
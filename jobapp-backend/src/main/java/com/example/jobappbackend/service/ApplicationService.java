@@ -1,6 +1,7 @@
 package com.example.jobappbackend.service;
 
 import com.example.jobappbackend.dto.ApplicationResponse;
+import com.example.jobappbackend.event.ApplicationSubmitted;
 import com.example.jobappbackend.exception.ApiException;
 import com.example.jobappbackend.model.Application;
 import com.example.jobappbackend.model.Offer;
@@ -8,9 +9,13 @@ import com.example.jobappbackend.model.User;
 import com.example.jobappbackend.repository.ApplicationRepository;
 import com.example.jobappbackend.repository.OfferRepository;
 import com.example.jobappbackend.repository.UserRepository;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -18,25 +23,33 @@ import java.util.stream.Collectors;
  * Service class for managing job applications.
  */
 @Service
+@Timed(value = "jobapp.service", histogram = true)
 @RequiredArgsConstructor
 public class ApplicationService {
 
     private final ApplicationRepository applicationRepository;
     private final UserRepository userRepository;
     private final OfferRepository offerRepository;
+    private final OfferApplicantCounter applicantCounter;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
-     * Submits an application for a specific student to a specific job offer.
+     * Submits an application for a specific student to a specific job offer, without files,
+     * and publishes it as an {@link ApplicationSubmitted} event.
      *
      * @param studentId ID of the student user.
      * @param offerId   ID of the job offer.
      */
+    @Transactional
     public void apply(Long studentId, Long offerId) {
         User student = userRepository.findById(studentId)
                 .orElseThrow(() -> new ApiException("Student not found"));
 
         Offer offer = offerRepository.findById(offerId)
                 .orElseThrow(() -> new ApiException("Offer not found"));
+        if (!offer.isOpenAt(LocalDateTime.now())) {
+            throw new ApiException("This offer is not open for applications.");
+        }
 
         applicationRepository.findByStudentAndOffer(student, offer).ifPresent(existing -> {
             throw new ApiException("Student already applied to this offer.");
@@ -45,7 +58,14 @@ public class ApplicationService {
         Application application = new Application();
         application.setStudent(student);
         application.setOffer(offer);
+        application.setAppliedAt(LocalDateTime.now());
         applicationRepository.save(application);
+        applicantCounter.increment(offer.getId());
+
+        User company = offer.getCreatedBy();
+        eventPublisher.publishEvent(new ApplicationSubmitted(application.getId(), offer.getId(), offer.getTitle(),
+                student.getId(), student.getEmail(), company.getId(), company.getEmail(),
+                company.getCompanyName(), List.of()));
     }
 
     /**
@@ -1,10 +1,12 @@
 package com.example.jobappbackend.service;
 
 import com.example.jobappbackend.dto.ChangePasswordRequest;
+import com.example.jobappbackend.event.PasswordChanged;
 import com.example.jobappbackend.model.User;
 import com.example.jobappbackend.repository.UserRepository;
 import jakarta.mail.MessagingException;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 
@@ -20,11 +22,14 @@ public class AuthService {
     private final UserRepository userRepository;
     private final EmailService emailService;
     private final PasswordEncoder passwordEncoder;
+    private final ApplicationEventPublisher eventPublisher;
 
-    public AuthService(UserRepository userRepository, EmailService emailService, PasswordEncoder passwordEncoder) {
+    public AuthService(UserRepository userRepository, EmailService emailService, PasswordEncoder passwordEncoder,
+                       ApplicationEventPublisher eventPublisher) {
         this.userRepository = userRepository;
         this.emailService = emailService;
         this.passwordEncoder = passwordEncoder;
+        this.eventPublisher = eventPublisher;
     }
 
     /**
@@ -43,6 +48,7 @@ public class AuthService {
         String newPassword = UUID.randomUUID().toString().substring(0, 10);
         user.setPassword(passwordEncoder.encode(newPassword));
         userRepository.save(user);
+        publishPasswordChange(user);
 
         emailService.sendSimpleMessage(
                 user.getEmail(),
@@ -65,6 +71,12 @@ public class AuthService {
 
         user.setPassword(passwordEncoder.encode(request.getNewPassword()));
         userRepository.save(user);
+        publishPasswordChange(user);
+    }
+
+    /** Publishes the change, which among others drops the cached copies of the user on every node. */
+    private void publishPasswordChange(User user) {
+        eventPublisher.publishEvent(new PasswordChanged(user.getId(), user.getUsername(), user.getEmail()));
     }
 
 }
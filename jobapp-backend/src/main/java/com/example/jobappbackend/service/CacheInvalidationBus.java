@@ -0,0 +1,471 @@
+package com.example.jobappbackend.service;
+
+import com.example.jobappbackend.config.CacheConfig;
+import com.example.jobappbackend.dto.EntityChange;
+import com.example.jobappbackend.event.OfferDeleted;
+import com.example.jobappbackend.event.OfferUpdated;
+import com.example.jobappbackend.event.PasswordChanged;
+import com.example.jobappbackend.event.UserDeleted;
+import com.example.jobappbackend.event.UserRegistered;
+import com.example.jobappbackend.event.UserUpdated;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Properties;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cluster-wide invalidation of the in-process caches over PostgreSQL {@code LISTEN/NOTIFY}.
+ * <p>
+ * Each domain event of a write that can make a cached entry stale is turned into an
+ * {@link EntityChange}; the listeners run synchronously, in the transaction of the write.
+ * Inside a transaction, the changes are sent with {@code pg_notify} just before the commit, on the
+ * transaction's own connection: PostgreSQL delivers them only if the transaction commits, and they
+ * are evicted locally after the commit. Outside of a transaction (the write is already committed)
+ * they are evicted and sent at once.
+ * <p>
+ * Every node listens on a dedicated connection, outside of the pool, and applies the changes sent
+ * by the other nodes: cache evictions and updates of the {@link UserIdentifierIndex}. Notifications
+ * sent while a node is disconnected are lost, so the node clears its caches when the connection
+ * drops and again when it is back, and rebuilds its identifier index.
+ */
+@Component
+public class CacheInvalidationBus implements SmartLifecycle {
+
+    private static final Logger log = LoggerFactory.getLogger(CacheInvalidationBus.class);
+
+    /** Notification channel shared by the nodes. */
+    static final String CHANNEL = "jobapp_invalidation";
+
+    /** Largest payload sent in one notification (PostgreSQL rejects payloads of 8000 bytes or more). */
+    private static final int MAX_PAYLOAD_BYTES = 7_500;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final DataSource dataSource;
+    private final CacheManager cacheManager;
+    private final UserIdentifierIndex userIdentifierIndex;
+    private final ObjectMapper objectMapper;
+    private final boolean enabled;
+    private final String nodeId;
+    private final Duration pollTimeout;
+    private final Duration validationInterval;
+    private final Duration maxReconnectDelay;
+
+    private final Counter sent;
+    private final Counter received;
+    private final Counter resyncs;
+    private final Timer lag;
+
+    private volatile boolean running;
+    private volatile boolean connected;
+    private volatile Connection listenerConnection;
+    private Thread listener;
+
+    public CacheInvalidationBus(DataSource dataSource,
+                                CacheManager cacheManager,
+                                UserIdentifierIndex userIdentifierIndex,
+                                ObjectMapper objectMapper,
+                                MeterRegistry registry,
+                                ClusterNode clusterNode,
+                                @Value("${jobapp.cluster.invalidation.enabled:true}") boolean enabled,
+                                @Value("${jobapp.cluster.invalidation.poll-timeout:500ms}") Duration pollTimeout,
+                                @Value("${jobapp.cluster.invalidation.validation-interval:10s}") Duration validationInterval,
+                                @Value("${jobapp.cluster.invalidation.max-reconnect-delay:30s}") Duration maxReconnectDelay) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.dataSource = dataSource;
+        this.cacheManager = cacheManager;
+        this.userIdentifierIndex = userIdentifierIndex;
+        this.objectMapper = objectMapper;
+        this.enabled = enabled;
+        this.nodeId = clusterNode.getId();
+        this.pollTimeout = pollTimeout;
+        this.validationInterval = validationInterval;
+        this.maxReconnectDelay = maxReconnectDelay;
+
+        this.sent = Counter.builder("jobapp.cache.invalidation.sent")
+                .description("Entity changes sent to the other nodes")
+                .register(registry);
+        this.received = Counter.builder("jobapp.cache.invalidation.received")
+                .description("Entity changes received from the other nodes")
+                .register(registry);
+        this.resyncs = Counter.builder("jobapp.cache.invalidation.resyncs")
+                .description("Cache resynchronizations after a loss of the listener connection")
+                .register(registry);
+        this.lag = Timer.builder("jobapp.cache.invalidation.lag")
+                .description("Time from the sending of a change by a node to its reception by another")
+                .publishPercentileHistogram()
+                .register(registry);
+        Gauge.builder("jobapp.cache.invalidation.connected", this, bus -> bus.connected ? 1 : 0)
+                .description("Whether the node is listening to the changes of the other nodes")
+                .register(registry);
+    }
+
+    /**
+     * Publishes a change to the local caches and to the other nodes,
+     * after the commit of the current transaction if there is one.
+     *
+     * @param change the committed (or about to be committed) change
+     */
+    public void publish(EntityChange change) {
+        if (TransactionSynchronizationManager.isActualTransactionActive()
+                && TransactionSynchronizationManager.isSynchronizationActive()) {
+            PendingChanges pending = (PendingChanges) TransactionSynchronizationManager.getResource(this);
+            if (pending == null) {
+                pending = new PendingChanges();
+                TransactionSynchronizationManager.bindResource(this, pending);
+                TransactionSynchronizationManager.registerSynchronization(pending);
+            }
+            pending.changes.add(change);
+        } else {
+            List<EntityChange> changes = List.of(change);
+            evict(changes);
+            try {
+                send(changes);
+            } catch (DataAccessException e) {
+                // The write is committed: the other nodes catch up when their entries expire.
+                log.warn("cache_invalidation_not_sent entity={} id={} error={}", change.getEntity(), change.getId(), e.toString());
+            }
+        }
+    }
+
+    @EventListener
+    public void on(OfferUpdated event) {
+        publish(EntityChange.offerUpdated(event.getOfferId()));
+    }
+
+    @EventListener
+    public void on(OfferDeleted event) {
+        publish(EntityChange.offerDeleted(event.getOfferId()));
+    }
+
+    @EventListener
+    public void on(UserRegistered event) {
+        publish(EntityChange.userCreated(event.getUserId(), event.getUsername(), event.getEmail()));
+    }
+
+    @EventListener
+    public void on(UserUpdated event) {
+        publish(EntityChange.userUpdated(event.getUserId(), event.getPreviousUsername(), event.getPreviousEmail(),
+                event.getUsername(), event.getEmail()));
+    }
+
+    @EventListener
+    public void on(UserDeleted event) {
+        publish(EntityChange.userDeleted(event.getUserId(), event.getUsername(), event.getEmail()));
+    }
+
+    /** Drops the cached copies of the user: their identifiers are unchanged. */
+    @EventListener
+    public void on(PasswordChanged event) {
+        publish(EntityChange.userUpdated(event.getUserId(), event.getUsername(), event.getEmail(),
+                event.getUsername(), event.getEmail()));
+    }
+
+    /** @return the identifier of this node in the notifications. */
+    public String getNodeId() {
+        return nodeId;
+    }
+
+    /** @return whether this node currently receives the changes of the other nodes. */
+    public boolean isConnected() {
+        return connected;
+    }
+
+    /**
+     * Evicts the cache entries made stale by the changes. User updates and deletions also clear
+     * the offer cache: offers show the company name, and deleting a company deletes its offers.
+     */
+    private void evict(List<EntityChange> changes) {
+        Cache offers = cacheManager.getCache(CacheConfig.OFFERS);
+        Cache users = cacheManager.getCache(CacheConfig.USERS);
+        for (EntityChange change : changes) {
+            if (change.getEntity() == EntityChange.Entity.OFFER) {
+                if (offers != null) {
+                    offers.evict(change.getId());
+                }
+            } else if (users != null) {
+                evictUser(users, change.getUsername());
+                evictUser(users, change.getPreviousUsername());
+                if (offers != null && change.getKind() != EntityChange.Kind.CREATED) {
+                    offers.clear();
+                }
+            }
+        }
+    }
+
+    private static void evictUser(Cache users, String username) {
+        if (username != null) {
+            users.evict(username);
+        }
+    }
+
+    /** Applies the changes of another node: evictions, then the identifier index. */
+    private void apply(List<EntityChange> changes) {
+        evict(changes);
+        for (EntityChange change : changes) {
+            if (change.getEntity() != EntityChange.Entity.USER) {
+                continue;
+            }
+            switch (change.getKind()) {
+                case CREATED -> userIdentifierIndex.add(change.getUsername(), change.getEmail());
+                case UPDATED -> userIdentifierIndex.replace(change.getPreviousUsername(), change.getPreviousEmail(),
+                        change.getUsername(), change.getEmail());
+                case DELETED -> userIdentifierIndex.remove(change.getUsername(), change.getEmail());
+            }
+        }
+        received.increment(changes.size());
+    }
+
+    /**
+     * Sends the changes with {@code pg_notify}, packed in as few notifications as the payload
+     * limit allows. Runs on the connection of the current transaction, if any.
+     */
+    private void send(List<EntityChange> changes) {
+        if (!enabled || changes.isEmpty()) {
+            return;
+        }
+        List<EntityChange> chunk = new ArrayList<>();
+        int chunkBytes = 0;
+        for (EntityChange change : changes) {
+            int bytes = json(change).getBytes(StandardCharsets.UTF_8).length + 1;
+            if (!chunk.isEmpty() && chunkBytes + bytes > MAX_PAYLOAD_BYTES) {
+                notify(chunk);
+                chunk = new ArrayList<>();
+                chunkBytes = 0;
+            }
+            chunk.add(change);
+            chunkBytes += bytes;
+        }
+        notify(chunk);
+    }
+
+    private void notify(List<EntityChange> chunk) {
+        String payload = json(new Message(nodeId, System.currentTimeMillis(), chunk));
+        jdbcTemplate.query("SELECT pg_notify(?, ?)", (RowCallbackHandler) rs -> { }, CHANNEL, payload);
+        sent.increment(chunk.size());
+    }
+
+    private String json(Object value) {
+        try {
+            return objectMapper.writeValueAsString(value);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Could not serialize the entity change", e);
+        }
+    }
+
+    /** Handles one notification; the changes sent by this node were applied when they were published. */
+    private void receive(String payload) {
+        Message message;
+        try {
+            message = objectMapper.readValue(payload, Message.class);
+        } catch (JsonProcessingException e) {
+            log.warn("cache_invalidation_unreadable payload={}", payload);
+            return;
+        }
+        if (nodeId.equals(message.getOrigin())) {
+            return;
+        }
+        lag.record(Math.max(0, System.currentTimeMillis() - message.getSentAt()), TimeUnit.MILLISECONDS);
+        apply(message.getChanges());
+    }
+
+    /** Clears every cache; entries may have missed invalidations. */
+    private void clearCaches() {
+        for (String name : cacheManager.getCacheNames()) {
+            Cache cache = cacheManager.getCache(name);
+            if (cache != null) {
+                cache.clear();
+            }
+        }
+    }
+
+    /** Drops everything that may have missed a change while the node was not listening. */
+    private void resync() {
+        clearCaches();
+        userIdentifierIndex.rebuild();
+        resyncs.increment();
+        log.info("cache_invalidation_resync node={}", nodeId);
+    }
+
+    /**
+     * Listener loop: connects, listens, dispatches the notifications, and reconnects with an
+     * exponential backoff when the connection is lost.
+     */
+    private void listen() {
+        boolean missedChanges = false;
+        long reconnectDelay = 100;
+        while (running) {
+            try (Connection connection = openListenerConnection()) {
+                listenerConnection = connection;
+                try (Statement statement = connection.createStatement()) {
+                    statement.execute("LISTEN " + CHANNEL);
+                }
+                PGConnection pgConnection = connection.unwrap(PGConnection.class);
+                connected = true;
+                if (missedChanges) {
+                    resync();
+                }
+                missedChanges = false;
+                reconnectDelay = 100;
+                log.info("cache_invalidation_listening node={}", nodeId);
+
+                long nextValidation = System.nanoTime() + validationInterval.toNanos();
+                while (running) {
+                    PGNotification[] notifications = pgConnection.getNotifications((int) pollTimeout.toMillis());
+                    if (notifications != null) {
+                        for (PGNotification notification : notifications) {
+                            receive(notification.getParameter());
+                        }
+                    }
+                    if (System.nanoTime() - nextValidation > 0) {
+                        if (!connection.isValid((int) Math.max(1, validationInterval.toSeconds()))) {
+                            throw new SQLException("Listener connection is no longer valid");
+                        }
+                        nextValidation = System.nanoTime() + validationInterval.toNanos();
+                    }
+                }
+            } catch (SQLException | RuntimeException e) {
+                if (!running) {
+                    break;
+                }
+                if (connected || !missedChanges) {
+                    log.warn("cache_invalidation_disconnected node={} error={}", nodeId, e.toString());
+                }
+                connected = false;
+                missedChanges = true;
+                clearCaches();
+                try {
+                    Thread.sleep(reconnectDelay);
+                } catch (InterruptedException interrupted) {
+                    Thread.currentThread().interrupt();
+                    break;
+                }
+                reconnectDelay = Math.min(reconnectDelay * 2, maxReconnectDelay.toMillis());
+            } finally {
+                connected = false;
+                listenerConnection = null;
+            }
+        }
+    }
+
+    /** Opens a connection with the settings of the pool, named after the node in {@code pg_stat_activity}. */
+    private Connection openListenerConnection() throws SQLException {
+        HikariDataSource pool = dataSource.unwrap(HikariDataSource.class);
+        Properties properties = new Properties();
+        properties.putAll(pool.getDataSourceProperties());
+        if (pool.getUsername() != null) {
+            properties.setProperty("user", pool.getUsername());
+        }
+        if (pool.getPassword() != null) {
+            properties.setProperty("password", pool.getPassword());
+        }
+        properties.setProperty("ApplicationName", "jobapp-invalidation-" + nodeId);
+        return DriverManager.getConnection(pool.getJdbcUrl(), properties);
+    }
+
+    @Override
+    public synchronized void start() {
+        if (!enabled || running) {
+            return;
+        }
+        running = true;
+        listener = new Thread(this::listen, "cache-invalidation-listener");
+        listener.setDaemon(true);
+        listener.start();
+    }
+
+    @Override
+    public synchronized void stop() {
+        running = false;
+        Connection connection = listenerConnection;
+        if (connection != null) {
+            try {
+                connection.close();
+            } catch (SQLException e) {
+                log.debug("Could not close the listener connection", e);
+            }
+        }
+        if (listener != null) {
+            listener.interrupt();
+            try {
+                listener.join(TimeUnit.SECONDS.toMillis(5));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            listener = null;
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    /** Changes published in the current transaction, sent before and evicted after its commit. */
+    private final class PendingChanges implements TransactionSynchronization {
+        private final List<EntityChange> changes = new ArrayList<>();
+
+        @Override
+        public void beforeCommit(boolean readOnly) {
+            send(changes);
+        }
+
+        @Override
+        public void afterCommit() {
+            evict(changes);
+        }
+
+        @Override
+        public void afterCompletion(int status) {
+            TransactionSynchronizationManager.unbindResourceIfPossible(CacheInvalidationBus.this);
+        }
+    }
+
+    /** Payload of one notification. */
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    static class Message {
+
+        /** Node that made the changes. */
+        private String origin;
+
+        /** Sending time on the origin node, in epoch milliseconds. */
+        private long sentAt;
+
+        /** Committed changes. */
+        private List<EntityChange> changes;
+    }
+}
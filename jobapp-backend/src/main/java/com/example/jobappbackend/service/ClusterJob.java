@@ -0,0 +1,41 @@
+package com.example.jobappbackend.service;
+
+import java.time.Duration;
+
+/**
+ * A background job run by at most one node of the cluster at a time.
+ * <p>
+ * Beans implementing this interface are scheduled by the {@link ClusterJobScheduler}, with a
+ * cron expression or a fixed rate. The schedule and timeout can be overridden per job with
+ * {@code jobapp.scheduler.jobs.<name>.cron}, {@code .fixed-rate}, {@code .timeout} and
+ * {@code .enabled}. A run is interrupted once its timeout elapses, so long jobs should check
+ * the interrupt flag between steps.
+ */
+public interface ClusterJob {
+
+    /** @return the unique name of the job, used for its lease, history and metrics. */
+    String getName();
+
+    /** @return the cron expression of the job, or null to use the fixed rate. */
+    default String getCron() {
+        return null;
+    }
+
+    /** @return the interval between two runs, when the job has no cron expression. */
+    default Duration getFixedRate() {
+        return null;
+    }
+
+    /**
+     * @return the longest a run may take. The lease is held that long, so a node dying
+     * during a run delays the next one by at most this duration.
+     */
+    Duration getTimeout();
+
+    /**
+     * Runs the job once.
+     *
+     * @throws Exception if the run fails; the failure is recorded in the run history
+     */
+    void run() throws Exception;
+}
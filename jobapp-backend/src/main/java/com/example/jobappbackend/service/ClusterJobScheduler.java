@@ -0,0 +1,422 @@
+package com.example.jobappbackend.service;
+
+import com.example.jobappbackend.dto.JobRunResponse;
+import com.example.jobappbackend.dto.ScheduledJobResponse;
+import com.example.jobappbackend.exception.ApiException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.boot.convert.DurationStyle;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.env.Environment;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.scheduling.Trigger;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.scheduling.support.CronTrigger;
+import org.springframework.scheduling.support.PeriodicTrigger;
+import org.springframework.stereotype.Service;
+
+import javax.sql.DataSource;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Scheduler running each {@link ClusterJob} on one node of the cluster at a time.
+ * <p>
+ * Every node triggers every job, then tries to take the job's lease, a row of
+ * {@code scheduled_job_lease} valid until a point in time (the database clock is used
+ * throughout, so node clocks do not matter). Only the node taking the lease runs the job; the
+ * others skip the run. The lease is held for the job timeout plus half of it, and the run is
+ * interrupted when the timeout elapses, so if the node dies the lease expires and another node
+ * takes over at the next trigger. Interrupting a thread does not stop a blocking JDBC call: a run
+ * still going after its timeout keeps the lease, renewed every half timeout, until its thread
+ * ends. When the run ends the lease is kept for a short minimum, so that a node whose trigger
+ * fires slightly later does not run the job again.
+ * <p>
+ * Each run is recorded in {@code scheduled_job_run} and timed in {@code jobapp.scheduler.run}
+ * (tagged with the job and the outcome); skipped triggers are counted in
+ * {@code jobapp.scheduler.skipped}.
+ */
+@Service
+public class ClusterJobScheduler {
+
+    private static final Logger log = LoggerFactory.getLogger(ClusterJobScheduler.class);
+
+    /** Longest failure message kept in the run history. */
+    private static final int MAX_ERROR_LENGTH = 2000;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final String nodeId;
+    private final List<ClusterJob> jobs;
+    private final TaskScheduler taskScheduler;
+    private final ThreadPoolTaskExecutor runExecutor;
+    private final MeterRegistry meterRegistry;
+    private final Environment environment;
+    private final boolean enabled;
+    private final Duration cronMinimumLease;
+
+    /** Scheduled jobs by name. */
+    private final Map<String, ScheduledJob> scheduled = new ConcurrentHashMap<>();
+
+    public ClusterJobScheduler(DataSource dataSource,
+                               ClusterNode clusterNode,
+                               List<ClusterJob> jobs,
+                               @Qualifier("clusterJobTaskScheduler") TaskScheduler taskScheduler,
+                               @Qualifier("clusterJobTaskExecutor") ThreadPoolTaskExecutor runExecutor,
+                               MeterRegistry meterRegistry,
+                               Environment environment,
+                               @Value("${jobapp.scheduler.enabled:true}") boolean enabled,
+                               @Value("${jobapp.scheduler.cron-minimum-lease:10s}") Duration cronMinimumLease) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.nodeId = clusterNode.getId();
+        this.jobs = jobs;
+        this.taskScheduler = taskScheduler;
+        this.runExecutor = runExecutor;
+        this.meterRegistry = meterRegistry;
+        this.environment = environment;
+        this.enabled = enabled;
+        this.cronMinimumLease = cronMinimumLease;
+    }
+
+    /**
+     * Schedules every enabled job, once the schema is initialized.
+     *
+     * @throws IllegalStateException if a job has neither a cron expression nor a fixed rate
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void start() {
+        if (!enabled || !scheduled.isEmpty()) {
+            return;
+        }
+        for (ClusterJob job : jobs) {
+            String prefix = "jobapp.scheduler.jobs." + job.getName() + ".";
+            if (!environment.getProperty(prefix + "enabled", Boolean.class, true)) {
+                continue;
+            }
+            String cron = environment.getProperty(prefix + "cron", job.getCron() == null ? "" : job.getCron());
+            Duration fixedRate = duration(prefix + "fixed-rate", job.getFixedRate());
+            Duration timeout = duration(prefix + "timeout", job.getTimeout());
+
+            Trigger trigger;
+            String description;
+            Duration minimumLease;
+            if (!cron.isBlank()) {
+                trigger = new CronTrigger(cron);
+                description = "cron " + cron;
+                minimumLease = cronMinimumLease;
+            } else if (fixedRate != null) {
+                PeriodicTrigger periodic = new PeriodicTrigger(fixedRate);
+                periodic.setFixedRate(true);
+                trigger = periodic;
+                description = "every " + fixedRate;
+                minimumLease = fixedRate.dividedBy(2);
+            } else {
+                throw new IllegalStateException("Job " + job.getName() + " has neither a cron expression nor a fixed rate");
+            }
+            if (minimumLease.compareTo(timeout) > 0) {
+                minimumLease = timeout;
+            }
+
+            ScheduledJob entry = new ScheduledJob(job, description, timeout, minimumLease);
+            Gauge.builder("jobapp.scheduler.running", entry.running, AtomicInteger::get)
+                    .description("Whether the job is running on this node")
+                    .tag("job", job.getName())
+                    .register(meterRegistry);
+            taskScheduler.schedule(() -> trigger(entry), trigger);
+            scheduled.put(job.getName(), entry);
+            log.info("cluster_job_scheduled job={} trigger=\"{}\" timeout={} node={}",
+                    job.getName(), description, timeout, nodeId);
+        }
+    }
+
+    /**
+     * Lists the scheduled jobs with their current lease.
+     *
+     * @return the jobs sorted by name
+     */
+    public List<ScheduledJobResponse> getJobs() {
+        return scheduled.values().stream()
+                .sorted(Comparator.comparing(entry -> entry.job.getName()))
+                .map(entry -> {
+                    ScheduledJobResponse response = new ScheduledJobResponse(entry.job.getName(), entry.trigger,
+                            entry.timeout.toSeconds(), null, null);
+                    jdbcTemplate.query(
+                            "SELECT locked_by, locked_until FROM scheduled_job_lease WHERE name = ? AND locked_until > now()",
+                            rs -> {
+                                response.setLockedBy(rs.getString(1));
+                                response.setLockedUntil(rs.getTimestamp(2).toLocalDateTime());
+                            },
+                            entry.job.getName());
+                    return response;
+                })
+                .toList();
+    }
+
+    /**
+     * Lists the latest runs of a job, on any node.
+     *
+     * @param name  the job name
+     * @param limit the number of runs to return (at most 100)
+     * @return the runs, most recent first
+     * @throws ApiException if no such job is scheduled
+     */
+    public List<JobRunResponse> getRuns(String name, int limit) {
+        if (!scheduled.containsKey(name)) {
+            throw new ApiException("Job not found");
+        }
+        return jdbcTemplate.query(
+                "SELECT id, job_name, node_id, status, started_at, finished_at, error FROM scheduled_job_run "
+                        + "WHERE job_name = ? ORDER BY started_at DESC, id DESC LIMIT ?",
+                RUN_MAPPER, name, Math.min(Math.max(limit, 1), 100));
+    }
+
+    /**
+     * Runs a job if this node takes its lease.
+     * Runs on a scheduler thread, which waits for the end of the run or its timeout.
+     */
+    private void trigger(ScheduledJob entry) {
+        String name = entry.job.getName();
+        Timestamp lockedAt;
+        try {
+            lockedAt = acquire(name, leaseDuration(entry));
+        } catch (DataAccessException e) {
+            log.warn("cluster_job_lease_failed job={} error={}", name, e.toString());
+            return;
+        }
+        if (lockedAt == null) {
+            Counter.builder("jobapp.scheduler.skipped")
+                    .description("Triggers skipped because another node holds the lease")
+                    .tag("job", name)
+                    .register(meterRegistry)
+                    .increment();
+            return;
+        }
+
+        entry.running.set(1);
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String outcome = "FAILED";
+        String error = null;
+        Long runId = null;
+        AtomicBoolean started = new AtomicBoolean();
+        CompletableFuture<Void> ended = new CompletableFuture<>();
+        Future<?> run = null;
+        try {
+            runId = jdbcTemplate.queryForObject(
+                    "INSERT INTO scheduled_job_run (job_name, node_id, started_at, deadline, status) "
+                            + "VALUES (?, ?, now(), now() + ? * interval '1 millisecond', 'RUNNING') RETURNING id",
+                    Long.class, name, nodeId, entry.timeout.toMillis());
+            run = runExecutor.submit(() -> {
+                if (!started.compareAndSet(false, true)) {
+                    return null;
+                }
+                try {
+                    entry.job.run();
+                } finally {
+                    ended.complete(null);
+                }
+                return null;
+            });
+            try {
+                run.get(entry.timeout.toMillis(), TimeUnit.MILLISECONDS);
+                outcome = "SUCCEEDED";
+            } catch (TimeoutException e) {
+                cancel(run, started, ended);
+                outcome = "TIMED_OUT";
+                error = "Timed out after " + entry.timeout;
+            } catch (ExecutionException e) {
+                error = e.getCause().toString();
+            } catch (InterruptedException e) {
+                cancel(run, started, ended);
+                Thread.currentThread().interrupt();
+                error = "Interrupted";
+            }
+        } catch (TaskRejectedException | DataAccessException e) {
+            error = e.toString();
+        } finally {
+            sample.stop(Timer.builder("jobapp.scheduler.run")
+                    .description("Duration of the runs of a cluster job on this node")
+                    .tag("job", name)
+                    .tag("outcome", outcome)
+                    .publishPercentileHistogram()
+                    .register(meterRegistry));
+            record(name, runId, outcome, error);
+            if (run != null && !ended.isDone()) {
+                holdLease(entry, lockedAt, ended, "TIMED_OUT".equals(outcome));
+            } else {
+                entry.running.set(0);
+                release(name, lockedAt, entry.minimumLease);
+            }
+        }
+    }
+
+    /**
+     * Interrupts a run. A run that has not started yet never will, and counts as ended.
+     */
+    private static void cancel(Future<?> run, AtomicBoolean started, CompletableFuture<Void> ended) {
+        run.cancel(true);
+        if (started.compareAndSet(false, true)) {
+            ended.complete(null);
+        }
+    }
+
+    /**
+     * Keeps the lease of a run whose thread outlived the wait, so that no other node starts the
+     * job meanwhile, and releases it once the thread ends. After a timeout, the lease is renewed
+     * every half timeout; when the node is shutting down (the trigger thread was interrupted),
+     * it is left to expire.
+     */
+    private void holdLease(ScheduledJob entry, Timestamp lockedAt, CompletableFuture<Void> ended, boolean renew) {
+        String name = entry.job.getName();
+        ScheduledFuture<?> renewal = null;
+        if (renew) {
+            try {
+                renewal = taskScheduler.scheduleWithFixedDelay(() -> renew(name, lockedAt, leaseDuration(entry)),
+                        entry.timeout.dividedBy(2));
+            } catch (TaskRejectedException e) {
+                log.warn("cluster_job_lease_renewal_rejected job={} error={}", name, e.toString());
+            }
+        }
+        ScheduledFuture<?> scheduledRenewal = renewal;
+        ended.whenComplete((result, e) -> {
+            if (scheduledRenewal != null) {
+                scheduledRenewal.cancel(false);
+            }
+            entry.running.set(0);
+            log.info("cluster_job_overrun_ended job={} node={}", name, nodeId);
+            if (renew) {
+                release(name, lockedAt, entry.minimumLease);
+            }
+        });
+    }
+
+    /**
+     * Takes the lease of a job if it is free or expired.
+     *
+     * @return the time the lease was taken, or null if another node holds it
+     */
+    private Timestamp acquire(String name, Duration timeout) {
+        List<Timestamp> lockedAt = jdbcTemplate.queryForList(
+                "INSERT INTO scheduled_job_lease (name, locked_at, locked_until, locked_by) "
+                        + "VALUES (?, now(), now() + ? * interval '1 millisecond', ?) "
+                        + "ON CONFLICT (name) DO UPDATE SET locked_at = EXCLUDED.locked_at, "
+                        + "locked_until = EXCLUDED.locked_until, locked_by = EXCLUDED.locked_by "
+                        + "WHERE scheduled_job_lease.locked_until <= EXCLUDED.locked_at "
+                        + "RETURNING locked_at",
+                Timestamp.class, name, timeout.toMillis(), nodeId);
+        return lockedAt.isEmpty() ? null : lockedAt.get(0);
+    }
+
+    /** Records the end of a run in the history. */
+    private void record(String name, Long runId, String outcome, String error) {
+        if (error != null) {
+            log.warn("cluster_job_failed job={} outcome={} error={}", name, outcome, error);
+        }
+        if (runId == null) {
+            return;
+        }
+        try {
+            jdbcTemplate.update("UPDATE scheduled_job_run SET status = ?, finished_at = now(), error = ? WHERE id = ?",
+                    outcome, truncate(error), runId);
+        } catch (DataAccessException e) {
+            log.warn("cluster_job_record_failed job={} error={}", name, e.toString());
+        }
+    }
+
+    /** Extends the lease of a run still in progress. */
+    private void renew(String name, Timestamp lockedAt, Duration leaseDuration) {
+        try {
+            int renewed = jdbcTemplate.update(
+                    "UPDATE scheduled_job_lease SET locked_until = now() + ? * interval '1 millisecond' "
+                            + "WHERE name = ? AND locked_by = ? AND locked_at = ?",
+                    leaseDuration.toMillis(), name, nodeId, lockedAt);
+            if (renewed == 0) {
+                log.warn("cluster_job_lease_lost job={} node={}", name, nodeId);
+            }
+        } catch (DataAccessException e) {
+            log.warn("cluster_job_lease_renewal_failed job={} error={}", name, e.toString());
+        }
+    }
+
+    /** Shortens the lease of an ended run to its minimum. */
+    private void release(String name, Timestamp lockedAt, Duration minimumLease) {
+        try {
+            jdbcTemplate.update(
+                    "UPDATE scheduled_job_lease SET locked_until = GREATEST(locked_at + ? * interval '1 millisecond', now()) "
+                            + "WHERE name = ? AND locked_by = ? AND locked_at = ?",
+                    minimumLease.toMillis(), name, nodeId, lockedAt);
+        } catch (DataAccessException e) {
+            // The lease expires by itself.
+            log.warn("cluster_job_release_failed job={} error={}", name, e.toString());
+        }
+    }
+
+    /**
+     * The lease outlasts the timeout by half of it, so that a run going past its timeout
+     * renews the lease before it expires.
+     */
+    private static Duration leaseDuration(ScheduledJob entry) {
+        return entry.timeout.plus(entry.timeout.dividedBy(2));
+    }
+
+    private Duration duration(String key, Duration defaultValue) {
+        String value = environment.getProperty(key);
+        return value == null || value.isBlank() ? defaultValue : DurationStyle.detectAndParse(value);
+    }
+
+    private static String truncate(String error) {
+        return error == null || error.length() <= MAX_ERROR_LENGTH ? error : error.substring(0, MAX_ERROR_LENGTH);
+    }
+
+    private static final RowMapper<JobRunResponse> RUN_MAPPER = (rs, rowNum) -> new JobRunResponse(
+            rs.getLong("id"),
+            rs.getString("job_name"),
+            rs.getString("node_id"),
+            rs.getString("status"),
+            toLocalDateTime(rs.getTimestamp("started_at")),
+            toLocalDateTime(rs.getTimestamp("finished_at")),
+            rs.getString("error")
+    );
+
+    private static LocalDateTime toLocalDateTime(Timestamp timestamp) {
+        return timestamp == null ? null : timestamp.toLocalDateTime();
+    }
+
+    /** A job with its resolved schedule. */
+    private static final class ScheduledJob {
+        private final ClusterJob job;
+        private final String trigger;
+        private final Duration timeout;
+        private final Duration minimumLease;
+        private final AtomicInteger running = new AtomicInteger();
+
+        private ScheduledJob(ClusterJob job, String trigger, Duration timeout, Duration minimumLease) {
+            this.job = job;
+            this.trigger = trigger;
+            this.timeout = timeout;
+            this.minimumLease = minimumLease;
+        }
+    }
+}
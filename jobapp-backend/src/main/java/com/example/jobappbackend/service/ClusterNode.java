@@ -0,0 +1,25 @@
+package com.example.jobappbackend.service;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.UUID;
+
+/**
+ * Identity of this application instance among the nodes sharing the database.
+ * Set with {@code jobapp.cluster.node-id}; a random ID is used when it is blank.
+ */
+@Component
+public class ClusterNode {
+
+    private final String id;
+
+    public ClusterNode(@Value("${jobapp.cluster.node-id:}") String id) {
+        this.id = id.isBlank() ? UUID.randomUUID().toString() : id;
+    }
+
+    /** @return the identifier of this node, in notifications, leases and run history. */
+    public String getId() {
+        return id;
+    }
+}
@@ -0,0 +1,130 @@
+package com.example.jobappbackend.service;
+
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+/**
+ * Thread-safe counting Bloom filter of strings.
+ * <p>
+ * Answers "definitely absent" or "maybe present". Unlike a plain Bloom filter, elements can be
+ * removed: each slot holds an 8-bit counter (four counters packed per int) instead of a bit.
+ * A counter that reaches 255 sticks there: its true count is unknown, so it is never decremented,
+ * which only adds false positives. Elements that were added and not removed are never reported
+ * absent, provided that only added elements are removed: removing an element that was never added
+ * decrements counters shared with other elements and can cause false negatives.
+ */
+public final class CountingBloomFilter {
+
+    private static final int MAX_COUNT = 0xFF;
+
+    /** Packed 8-bit counters. */
+    private final AtomicIntegerArray counters;
+
+    /** Number of counters. */
+    private final int size;
+
+    /** Number of counters touched per element. */
+    private final int hashCount;
+
+    /**
+     * Sizes the filter for an expected number of elements and false positive rate.
+     *
+     * @param expectedElements  number of elements expected in the filter
+     * @param falsePositiveRate acceptable probability of a false "maybe present" (0 < rate < 1)
+     */
+    public CountingBloomFilter(long expectedElements, double falsePositiveRate) {
+        if (expectedElements <= 0 || falsePositiveRate <= 0 || falsePositiveRate >= 1) {
+            throw new IllegalArgumentException("Invalid Bloom filter sizing");
+        }
+        long bits = (long) Math.ceil(-expectedElements * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2)));
+        this.size = (int) Math.min(Math.max(bits, 64), Integer.MAX_VALUE - 8);
+        this.hashCount = Math.max(1, (int) Math.round((double) size / expectedElements * Math.log(2)));
+        this.counters = new AtomicIntegerArray((size + 3) / 4);
+    }
+
+    /**
+     * Adds an element.
+     *
+     * @param value the element
+     */
+    public void add(String value) {
+        long hash = hash(value);
+        for (int i = 0; i < hashCount; i++) {
+            update(index(hash, i), 1);
+        }
+    }
+
+    /**
+     * Removes an element previously added. Must not be called for an element that was not added.
+     *
+     * @param value the element
+     */
+    public void remove(String value) {
+        long hash = hash(value);
+        for (int i = 0; i < hashCount; i++) {
+            update(index(hash, i), -1);
+        }
+    }
+
+    /**
+     * Tells whether an element may have been added.
+     *
+     * @param value the element
+     * @return false if the element is definitely absent, true if it may be present
+     */
+    public boolean mightContain(String value) {
+        long hash = hash(value);
+        for (int i = 0; i < hashCount; i++) {
+            if (count(index(hash, i)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /** Reads one counter. */
+    private int count(int index) {
+        return (counters.get(index >>> 2) >>> ((index & 3) << 3)) & MAX_COUNT;
+    }
+
+    /** Increments or decrements one counter, never below 0; a counter at {@value #MAX_COUNT} stays there. */
+    private void update(int index, int delta) {
+        int slot = index >>> 2;
+        int shift = (index & 3) << 3;
+        while (true) {
+            int packed = counters.get(slot);
+            int current = (packed >>> shift) & MAX_COUNT;
+            if (current == MAX_COUNT) {
+                return;
+            }
+            int next = Math.max(0, Math.min(MAX_COUNT, current + delta));
+            if (next == current) {
+                return;
+            }
+            int updated = (packed & ~(MAX_COUNT << shift)) | (next << shift);
+            if (counters.compareAndSet(slot, packed, updated)) {
+                return;
+            }
+        }
+    }
+
+    /** Derives the i-th counter index from the two halves of the hash (Kirsch-Mitzenmacher). */
+    private int index(long hash, int i) {
+        int combined = (int) hash + i * (int) (hash >>> 32);
+        return (combined & Integer.MAX_VALUE) % size;
+    }
+
+    /** 64-bit FNV-1a over the characters, finished with the Murmur3 mixer. */
+    private static long hash(String value) {
+        long h = 0xcbf29ce484222325L;
+        for (int i = 0; i < value.length(); i++) {
+            h ^= value.charAt(i);
+            h *= 0x100000001b3L;
+        }
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 33;
+        return h;
+    }
+}
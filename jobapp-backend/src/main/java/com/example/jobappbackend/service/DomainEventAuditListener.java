@@ -0,0 +1,49 @@
+package com.example.jobappbackend.service;
+
+import com.example.jobappbackend.event.DomainEvent;
+import io.micrometer.core.annotation.Timed;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * Writes an audit line and counts each committed domain event, in the
+ * {@code jobapp.events} counter tagged with the event type.
+ * <p>
+ * Runs on the {@code domainEventTaskExecutor}: the request does not wait for it, and
+ * rolled-back changes are never audited.
+ */
+@Component
+public class DomainEventAuditListener {
+
+    private static final Logger audit = LoggerFactory.getLogger("com.example.jobappbackend.audit");
+
+    private final MeterRegistry meterRegistry;
+
+    public DomainEventAuditListener(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * Audits and counts a committed event.
+     *
+     * @param event the event
+     */
+    @Async("domainEventTaskExecutor")
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    @Timed(value = "jobapp.events.listener", histogram = true)
+    public void on(DomainEvent event) {
+        String type = event.getClass().getSimpleName();
+        audit.info("domain_event type={} occurredAt={} event={}", type, event.getOccurredAt(), event);
+        Counter.builder("jobapp.events")
+                .description("Committed domain events")
+                .tag("type", type)
+                .register(meterRegistry)
+                .increment();
+    }
+}
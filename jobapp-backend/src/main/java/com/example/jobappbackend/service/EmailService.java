@@ -1,21 +1,46 @@
 package com.example.jobappbackend.service;
 
+import com.example.jobappbackend.jfr.MailDispatchEvent;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.mail.Address;
 import jakarta.mail.MessagingException;
 import jakarta.mail.internet.MimeMessage;
-import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.core.task.TaskExecutor;
 import org.springframework.mail.javamail.JavaMailSender;
 import org.springframework.mail.javamail.MimeMessageHelper;
 import org.springframework.stereotype.Service;
 
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
 /**
  * Service responsible for sending emails.
+ * The duration of each send is recorded in the {@code jobapp.mail.send} timer
+ * and in a {@link MailDispatchEvent}.
+ * <p>
+ * The SMTP exchange runs on the {@code mailSendExecutor}: the calling thread itself with
+ * platform threads, a platform-thread pool with virtual threads (see
+ * {@link com.example.jobappbackend.config.VirtualThreadConfig}). The caller waits either way.
  */
 @Service
-@RequiredArgsConstructor
 public class EmailService {
 
     private final JavaMailSender mailSender;
 
+    private final MeterRegistry meterRegistry;
+
+    private final TaskExecutor mailSendExecutor;
+
+    public EmailService(JavaMailSender mailSender,
+                        MeterRegistry meterRegistry,
+                        @Qualifier("mailSendExecutor") TaskExecutor mailSendExecutor) {
+        this.mailSender = mailSender;
+        this.meterRegistry = meterRegistry;
+        this.mailSendExecutor = mailSendExecutor;
+    }
+
     /**
      * Sends a simple text email.
      *
@@ -25,11 +50,66 @@ public class EmailService {
      * @throws MessagingException If email sending fails.
      */
     public void sendSimpleMessage(String to, String subject, String text) throws MessagingException {
-        MimeMessage message = mailSender.createMimeMessage();
+        MimeMessage message = createMessage();
         MimeMessageHelper helper = new MimeMessageHelper(message, true);
         helper.setTo(to);
         helper.setSubject(subject);
         helper.setText(text, false);
-        mailSender.send(message);
+        send(message);
+    }
+
+    /**
+     * Creates an empty message, to be filled by the caller and passed to {@link #send(MimeMessage)}.
+     *
+     * @return a new MIME message.
+     */
+    public MimeMessage createMessage() {
+        return mailSender.createMimeMessage();
+    }
+
+    /**
+     * Sends a prepared message.
+     *
+     * @param message the message to send.
+     * @throws MessagingException If the message headers cannot be read.
+     */
+    public void send(MimeMessage message) throws MessagingException {
+        MailDispatchEvent event = new MailDispatchEvent();
+        if (event.isEnabled()) {
+            Address[] recipients = message.getAllRecipients();
+            event.subject = message.getSubject();
+            event.recipientCount = recipients == null ? 0 : recipients.length;
+        }
+        event.begin();
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String outcome = "error";
+        try {
+            transmit(message);
+            outcome = "success";
+            event.succeeded = true;
+        } finally {
+            event.commit();
+            sample.stop(Timer.builder("jobapp.mail.send")
+                    .description("Time spent sending an email through SMTP")
+                    .tag("outcome", outcome)
+                    .publishPercentileHistogram()
+                    .register(meterRegistry));
+        }
+    }
+
+    /**
+     * Sends the message on the mail executor and waits for the end of the SMTP exchange.
+     *
+     * @param message the message to send.
+     */
+    private void transmit(MimeMessage message) {
+        try {
+            CompletableFuture.runAsync(() -> mailSender.send(message), mailSendExecutor).join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
     }
 }
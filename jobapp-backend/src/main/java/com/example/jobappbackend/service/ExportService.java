@@ -0,0 +1,233 @@
+package com.example.jobappbackend.service;
+
+import com.example.jobappbackend.dto.ExportFormat;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.PreparedStatementCreator;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+
+/**
+ * Service writing full dumps of users and applications as CSV or NDJSON.
+ * <p>
+ * Rows are read through a server-side cursor (a read-only transaction with a JDBC fetch size)
+ * and written to the output stream as soon as they arrive: the heap holds one fetch window,
+ * not the whole result, and a slow client slows the reads down. The connection is only
+ * borrowed from the pool for the duration of the export.
+ */
+@Service
+public class ExportService {
+
+    private static final String USERS_QUERY =
+            "SELECT id, username, email, role, first_name, last_name, company_name, address, phone_number "
+                    + "FROM jobapp_user ORDER BY id";
+
+    private static final String APPLICATIONS_QUERY =
+            "SELECT a.id, a.applied_at, s.id AS student_id, s.username AS student_username, "
+                    + "s.email AS student_email, o.id AS offer_id, o.title AS offer_title, "
+                    + "c.id AS company_id, c.company_name "
+                    + "FROM applications a "
+                    + "JOIN jobapp_user s ON s.id = a.student_id "
+                    + "JOIN jobapp_offer o ON o.id = a.offre_id "
+                    + "JOIN jobapp_user c ON c.id = o.user_id ";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate readOnlyTransaction;
+    private final ObjectMapper objectMapper;
+    private final int fetchSize;
+
+    public ExportService(JdbcTemplate jdbcTemplate,
+                         PlatformTransactionManager transactionManager,
+                         ObjectMapper objectMapper,
+                         @Value("${jobapp.export.fetch-size:1000}") int fetchSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.objectMapper = objectMapper;
+        this.fetchSize = fetchSize;
+    }
+
+    /**
+     * Writes every user (without password) to the given stream.
+     *
+     * @param out    the response output stream
+     * @param format the output format
+     */
+    public void exportUsers(OutputStream out, ExportFormat format) {
+        stream(out, format, USERS_QUERY);
+    }
+
+    /**
+     * Writes applications with their student, offer and company to the given stream.
+     *
+     * @param out           the response output stream
+     * @param format        the output format
+     * @param companyUserId when not null, only the applications to this company's offers
+     */
+    public void exportApplications(OutputStream out, ExportFormat format, Long companyUserId) {
+        if (companyUserId == null) {
+            stream(out, format, APPLICATIONS_QUERY + "ORDER BY a.id");
+        } else {
+            stream(out, format, APPLICATIONS_QUERY + "WHERE o.user_id = ? ORDER BY a.id", companyUserId);
+        }
+    }
+
+    /**
+     * Runs the query through a cursor and writes each row as it is fetched.
+     *
+     * @param out    the response output stream
+     * @param format the output format
+     * @param sql    the query
+     * @param params the query parameters
+     */
+    private void stream(OutputStream out, ExportFormat format, String sql, Object... params) {
+        PreparedStatementCreator cursor = connection -> {
+            PreparedStatement statement = connection.prepareStatement(
+                    sql, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            statement.setFetchSize(fetchSize);
+            for (int i = 0; i < params.length; i++) {
+                statement.setObject(i + 1, params[i]);
+            }
+            return statement;
+        };
+
+        try (RowWriter writer = format == ExportFormat.CSV ? new CsvRowWriter(out) : new NdjsonRowWriter(out)) {
+            readOnlyTransaction.executeWithoutResult(status -> jdbcTemplate.query(cursor, rs -> {
+                try {
+                    writer.write(rs);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            }));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /** Converts a JDBC value to the text written in the export. */
+    private static String text(Object value) {
+        if (value == null) {
+            return null;
+        }
+        if (value instanceof Timestamp timestamp) {
+            return timestamp.toLocalDateTime().toString();
+        }
+        return value.toString();
+    }
+
+    /** Writes result set rows in one output format. */
+    private interface RowWriter extends AutoCloseable {
+
+        /** Writes the current row of the result set. */
+        void write(ResultSet rs) throws IOException;
+
+        @Override
+        void close() throws IOException;
+    }
+
+    /** CSV writer: a header line built from the column labels, then one line per row. */
+    private static final class CsvRowWriter implements RowWriter {
+        private final Writer writer;
+        private boolean headerWritten;
+
+        private CsvRowWriter(OutputStream out) {
+            this.writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8), 64 * 1024);
+        }
+
+        @Override
+        public void write(ResultSet rs) throws IOException {
+            try {
+                ResultSetMetaData meta = rs.getMetaData();
+                int columns = meta.getColumnCount();
+                if (!headerWritten) {
+                    for (int i = 1; i <= columns; i++) {
+                        writeCell(i, meta.getColumnLabel(i));
+                    }
+                    writer.write('\n');
+                    headerWritten = true;
+                }
+                for (int i = 1; i <= columns; i++) {
+                    writeCell(i, text(rs.getObject(i)));
+                }
+                writer.write('\n');
+            } catch (SQLException e) {
+                throw new IOException(e);
+            }
+        }
+
+        /** Writes one cell, quoting it when it contains a separator, a quote or a line break. */
+        private void writeCell(int column, String value) throws IOException {
+            if (column > 1) {
+                writer.write(',');
+            }
+            if (value == null) {
+                return;
+            }
+            if (value.indexOf(',') >= 0 || value.indexOf('"') >= 0
+                    || value.indexOf('\n') >= 0 || value.indexOf('\r') >= 0) {
+                writer.write('"');
+                writer.write(value.replace("\"", "\"\""));
+                writer.write('"');
+            } else {
+                writer.write(value);
+            }
+        }
+
+        @Override
+        public void close() throws IOException {
+            writer.flush();
+        }
+    }
+
+    /** NDJSON writer: one JSON object per line, keyed by column label. */
+    private final class NdjsonRowWriter implements RowWriter {
+        private final JsonGenerator generator;
+
+        private NdjsonRowWriter(OutputStream out) throws IOException {
+            this.generator = objectMapper.getFactory().createGenerator(out);
+            this.generator.setRootValueSeparator(null);
+        }
+
+        @Override
+        public void write(ResultSet rs) throws IOException {
+            try {
+                ResultSetMetaData meta = rs.getMetaData();
+                generator.writeStartObject();
+                for (int i = 1; i <= meta.getColumnCount(); i++) {
+                    Object value = rs.getObject(i);
+                    generator.writeFieldName(meta.getColumnLabel(i));
+                    if (value instanceof Number number) {
+                        generator.writeNumber(number.toString());
+                    } else {
+                        generator.writeString(text(value));
+                    }
+                }
+                generator.writeEndObject();
+                generator.writeRaw('\n');
+            } catch (SQLException e) {
+                throw new IOException(e);
+            }
+        }
+
+        @Override
+        public void close() throws IOException {
+            generator.flush();
+        }
+    }
+}
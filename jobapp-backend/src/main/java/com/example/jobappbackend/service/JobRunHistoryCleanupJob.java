@@ -0,0 +1,56 @@
+package com.example.jobappbackend.service;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+
+/**
+ * Cluster job maintaining the run history of the {@link ClusterJobScheduler}: marks as
+ * ABANDONED the runs left RUNNING by a node that died, and deletes the runs older than
+ * {@code jobapp.scheduler.history-retention}.
+ */
+@Component
+public class JobRunHistoryCleanupJob implements ClusterJob {
+
+    private static final Logger log = LoggerFactory.getLogger(JobRunHistoryCleanupJob.class);
+
+    private final JdbcTemplate jdbcTemplate;
+    private final Duration retention;
+
+    public JobRunHistoryCleanupJob(DataSource dataSource,
+                                   @Value("${jobapp.scheduler.history-retention:30d}") Duration retention) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.retention = retention;
+    }
+
+    @Override
+    public String getName() {
+        return "job-run-history-cleanup";
+    }
+
+    @Override
+    public String getCron() {
+        return "0 0 * * * *";
+    }
+
+    @Override
+    public Duration getTimeout() {
+        return Duration.ofMinutes(5);
+    }
+
+    @Override
+    public void run() {
+        int abandoned = jdbcTemplate.update(
+                "UPDATE scheduled_job_run SET status = 'ABANDONED', finished_at = deadline "
+                        + "WHERE status = 'RUNNING' AND deadline < now()");
+        int deleted = jdbcTemplate.update(
+                "DELETE FROM scheduled_job_run WHERE started_at < now() - ? * interval '1 millisecond'",
+                retention.toMillis());
+        log.info("job_run_history_cleanup abandoned={} deleted={}", abandoned, deleted);
+    }
+}
@@ -1,8 +1,10 @@
 package com.example.jobappbackend.service;
 
+import com.example.jobappbackend.jfr.TokenVerificationEvent;
 import com.example.jobappbackend.model.User;
 import io.jsonwebtoken.*;
 import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.annotation.Timed;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
@@ -17,6 +19,7 @@ import java.util.Map;
  * Reads secret and expiration from application properties.
  */
 @Service
+@Timed(value = "jobapp.service", histogram = true)
 public class JwtService {
 
     /** Signing key loaded from configuration. */
@@ -87,16 +90,8 @@ public class JwtService {
      * @return username or null.
      */
     public String extractUsername(String token) {
-        try {
-            return Jwts.parserBuilder()
-                    .setSigningKey(key)
-                    .build()
-                    .parseClaimsJws(token)
-                    .getBody()
-                    .getSubject();
-        } catch (JwtException | IllegalArgumentException e) {
-            return null;
-        }
+        Claims claims = parse(token);
+        return claims == null ? null : claims.getSubject();
     }
 
     /**
@@ -119,16 +114,35 @@ public class JwtService {
      * @return true if expired/invalid.
      */
     private boolean isTokenExpired(String token) {
+        Claims claims = parse(token);
+        return claims == null || claims.getExpiration().before(new Date());
+    }
+
+    /**
+     * Parses the token and verifies its signature, emitting a {@link TokenVerificationEvent}.
+     *
+     * @param token JWT string.
+     * @return the claims, or null if the token is invalid or expired.
+     */
+    private Claims parse(String token) {
+        TokenVerificationEvent event = new TokenVerificationEvent();
+        event.begin();
+        Claims claims;
         try {
-            Date exp = Jwts.parserBuilder()
+            claims = Jwts.parserBuilder()
                     .setSigningKey(key)
                     .build()
                     .parseClaimsJws(token)
-                    .getBody()
-                    .getExpiration();
-            return exp.before(new Date());
+                    .getBody();
         } catch (JwtException | IllegalArgumentException e) {
-            return true;
+            claims = null;
+        }
+        if (event.shouldCommit()) {
+            event.subject = claims == null ? null : claims.getSubject();
+            event.tokenLength = token == null ? 0 : token.length();
+            event.valid = claims != null;
+            event.commit();
         }
+        return claims;
     }
 }
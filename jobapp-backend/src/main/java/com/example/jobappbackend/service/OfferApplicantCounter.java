@@ -0,0 +1,73 @@
+package com.example.jobappbackend.service;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+
+import javax.sql.DataSource;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Number of applicants per offer, maintained incrementally in {@code offer_applicant_count}.
+ * <p>
+ * Each offer has up to {@code jobapp.offers.applicant-count.stripes} counter rows. An application
+ * adds one to a stripe picked at random, in the transaction inserting it, so that concurrent
+ * applications to a popular offer rarely wait on the same row lock; the count is the sum of the
+ * stripes. Deletions of applications subtract from stripe 0 in the same statement (see
+ * {@code ApplicationRepository}), and counter rows go with their offer (ON DELETE CASCADE).
+ * Applications moved out by partition archival keep being counted.
+ */
+@Service
+public class OfferApplicantCounter {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final int stripes;
+
+    public OfferApplicantCounter(DataSource dataSource,
+                                 @Value("${jobapp.offers.applicant-count.stripes:8}") int stripes) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.stripes = Math.max(1, stripes);
+    }
+
+    /**
+     * Counts one more applicant for the offer. Must run in the transaction inserting the application.
+     *
+     * @param offerId the offer ID
+     */
+    public void increment(Long offerId) {
+        jdbcTemplate.update("INSERT INTO offer_applicant_count (offer_id, stripe, applicants) VALUES (?, ?, 1) "
+                        + "ON CONFLICT (offer_id, stripe) DO UPDATE SET applicants = offer_applicant_count.applicants + 1",
+                offerId, ThreadLocalRandom.current().nextInt(stripes));
+    }
+
+    /**
+     * Returns the number of applicants of an offer.
+     *
+     * @param offerId the offer ID
+     * @return the number of applicants, 0 if none
+     */
+    public long count(Long offerId) {
+        Long count = jdbcTemplate.queryForObject(
+                "SELECT COALESCE(SUM(applicants), 0) FROM offer_applicant_count WHERE offer_id = ?",
+                Long.class, offerId);
+        return count != null ? count : 0;
+    }
+
+    /**
+     * Returns the number of applicants of every offer of a company, in one query.
+     *
+     * @param companyUserId the user ID of the company
+     * @return the counts by offer ID; offers without applicants are absent
+     */
+    public Map<Long, Long> countByCompany(Long companyUserId) {
+        Map<Long, Long> counts = new HashMap<>();
+        jdbcTemplate.query("SELECT n.offer_id, SUM(n.applicants) AS applicants FROM offer_applicant_count n "
+                        + "JOIN jobapp_offer o ON o.id = n.offer_id WHERE o.user_id = ? GROUP BY n.offer_id",
+                rs -> {
+                    counts.put(rs.getLong("offer_id"), rs.getLong("applicants"));
+                }, companyUserId);
+        return counts;
+    }
+}
@@ -0,0 +1,94 @@
+package com.example.jobappbackend.service;
+
+import com.example.jobappbackend.event.OfferUpdated;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Cluster job moving the open offers past their expiry date to EXPIRED.
+ * <p>
+ * Offers are expired by batches of {@code jobapp.offers.expiry.batch-size}, each in its own
+ * transaction, so that a backlog never holds row locks for long. The due offers are found
+ * through the partial index on the expiry date of open offers, and an {@link OfferUpdated}
+ * event is published for each of them so that the caches of every node drop it.
+ */
+@Component
+public class OfferExpiryJob implements ClusterJob {
+
+    private static final Logger log = LoggerFactory.getLogger(OfferExpiryJob.class);
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final int batchSize;
+
+    public OfferExpiryJob(DataSource dataSource,
+                          PlatformTransactionManager transactionManager,
+                          ApplicationEventPublisher eventPublisher,
+                          @Value("${jobapp.offers.expiry.batch-size:500}") int batchSize) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.eventPublisher = eventPublisher;
+        this.batchSize = batchSize;
+    }
+
+    @Override
+    public String getName() {
+        return "offer-expiry";
+    }
+
+    @Override
+    public Duration getFixedRate() {
+        return Duration.ofMinutes(1);
+    }
+
+    @Override
+    public Duration getTimeout() {
+        return Duration.ofMinutes(5);
+    }
+
+    @Override
+    public void run() {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        long expired = 0;
+        int batch;
+        do {
+            if (Thread.currentThread().isInterrupted()) {
+                break;
+            }
+            batch = transactionTemplate.execute(status -> expireBatch(now));
+            expired += batch;
+        } while (batch == batchSize);
+        log.info("offer_expiry expired={}", expired);
+    }
+
+    /**
+     * Expires one batch of due offers. Rows locked by a concurrent update are skipped and
+     * picked up by the next run.
+     *
+     * @return the number of expired offers
+     */
+    private int expireBatch(Timestamp now) {
+        List<OfferUpdated> events = jdbcTemplate.query(
+                "UPDATE jobapp_offer SET status = 'EXPIRED' WHERE id IN ("
+                        + "SELECT id FROM jobapp_offer WHERE status = 'OPEN' AND expires_at IS NOT NULL "
+                        + "AND expires_at <= ? ORDER BY expires_at LIMIT ? FOR UPDATE SKIP LOCKED) "
+                        + "RETURNING id, user_id",
+                (rs, rowNum) -> new OfferUpdated(rs.getLong("id"), rs.getLong("user_id")),
+                now, batchSize);
+        events.forEach(eventPublisher::publishEvent);
+        return events.size();
+    }
+}
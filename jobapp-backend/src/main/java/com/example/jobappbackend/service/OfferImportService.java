@@ -0,0 +1,187 @@
+package com.example.jobappbackend.service;
+
+import com.example.jobappbackend.dto.BulkImportResponse;
+import com.example.jobappbackend.dto.ImportRecordError;
+import com.example.jobappbackend.dto.OfferRequest;
+import com.example.jobappbackend.event.OfferCreated;
+import com.example.jobappbackend.exception.ApiException;
+import com.example.jobappbackend.model.Offer;
+import com.example.jobappbackend.model.User;
+import com.example.jobappbackend.repository.OfferRepository;
+import com.example.jobappbackend.repository.UserRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Service importing a large number of offers for a company in one call.
+ * <p>
+ * The body is read as a stream of {@link OfferRequest} records (a JSON array or NDJSON),
+ * each record is validated, and valid offers are inserted by batches, each batch in its
+ * own transaction. Only one batch is held in memory at a time.
+ */
+@Service
+public class OfferImportService {
+
+    private final OfferRepository offerRepository;
+    private final UserRepository userRepository;
+    private final ObjectMapper objectMapper;
+    private final Validator validator;
+    private final EntityManager entityManager;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final int batchSize;
+    private final int maxReportedErrors;
+
+    public OfferImportService(OfferRepository offerRepository,
+                              UserRepository userRepository,
+                              ObjectMapper objectMapper,
+                              Validator validator,
+                              EntityManager entityManager,
+                              PlatformTransactionManager transactionManager,
+                              ApplicationEventPublisher eventPublisher,
+                              @Value("${jobapp.import.batch-size:500}") int batchSize,
+                              @Value("${jobapp.import.max-reported-errors:1000}") int maxReportedErrors) {
+        this.offerRepository = offerRepository;
+        this.userRepository = userRepository;
+        this.objectMapper = objectMapper;
+        this.validator = validator;
+        this.entityManager = entityManager;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.eventPublisher = eventPublisher;
+        this.batchSize = batchSize;
+        this.maxReportedErrors = maxReportedErrors;
+    }
+
+    /**
+     * Imports the offers read from the given stream for a company.
+     * Batches already committed are kept if a later record cannot be parsed.
+     *
+     * @param body          JSON array or NDJSON stream of offer records
+     * @param companyUserId the user ID of the company creating the offers
+     * @return the import summary
+     * @throws ApiException if the company does not exist
+     */
+    public BulkImportResponse importOffers(InputStream body, Long companyUserId) {
+        if (!userRepository.existsById(companyUserId)) {
+            throw new ApiException("Company not found");
+        }
+
+        BulkImportResponse summary = new BulkImportResponse();
+        List<Offer> batch = new ArrayList<>(batchSize);
+        long index = 0;
+
+        try (MappingIterator<OfferRequest> records = objectMapper.readerFor(OfferRequest.class).readValues(body)) {
+            while (records.hasNextValue()) {
+                OfferRequest request = records.nextValue();
+                summary.setReceived(summary.getReceived() + 1);
+
+                String violations = validate(request);
+                if (violations != null) {
+                    reject(summary, index, violations);
+                } else {
+                    batch.add(toEntity(request));
+                    if (batch.size() >= batchSize) {
+                        flush(batch, companyUserId, summary);
+                    }
+                }
+                index++;
+            }
+        } catch (JsonProcessingException e) {
+            summary.setReceived(summary.getReceived() + 1);
+            summary.setAborted(true);
+            reject(summary, index, "Malformed record: " + e.getOriginalMessage());
+        } catch (IOException e) {
+            summary.setAborted(true);
+            reject(summary, index, "Could not read the request body.");
+        }
+
+        flush(batch, companyUserId, summary);
+        return summary;
+    }
+
+    /**
+     * Validates one record against the constraints of {@link OfferRequest}.
+     *
+     * @param request the record to validate
+     * @return the merged violation messages, or null when the record is valid
+     */
+    private String validate(OfferRequest request) {
+        if (request == null) {
+            return "Empty record.";
+        }
+        Set<ConstraintViolation<OfferRequest>> violations = validator.validate(request);
+        if (violations.isEmpty()) {
+            return null;
+        }
+        return violations.stream()
+                .map(v -> v.getPropertyPath() + ": " + v.getMessage())
+                .sorted()
+                .collect(Collectors.joining("; "));
+    }
+
+    /**
+     * Inserts the pending offers in one transaction, then frees the persistence context.
+     *
+     * @param batch         the pending offers (emptied on return)
+     * @param companyUserId the user ID of the company creating the offers
+     * @param summary       the summary to update
+     */
+    private void flush(List<Offer> batch, Long companyUserId, BulkImportResponse summary) {
+        if (batch.isEmpty()) {
+            return;
+        }
+        transactionTemplate.executeWithoutResult(status -> {
+            User company = userRepository.getReferenceById(companyUserId);
+            batch.forEach(offer -> offer.setCreatedBy(company));
+            offerRepository.saveAll(batch);
+            batch.forEach(offer -> eventPublisher.publishEvent(
+                    new OfferCreated(offer.getId(), companyUserId, offer.getTitle())));
+            entityManager.flush();
+            entityManager.clear();
+        });
+        summary.setImported(summary.getImported() + batch.size());
+        batch.clear();
+    }
+
+    /**
+     * Records a rejected record, keeping at most {@code maxReportedErrors} details.
+     */
+    private void reject(BulkImportResponse summary, long index, String message) {
+        summary.setFailed(summary.getFailed() + 1);
+        if (summary.getErrors().size() < maxReportedErrors) {
+            summary.getErrors().add(new ImportRecordError(index, message));
+        } else {
+            summary.setErrorsTruncated(true);
+        }
+    }
+
+    private Offer toEntity(OfferRequest request) {
+        Offer offer = new Offer();
+        offer.setTitle(request.getTitle());
+        offer.setDescription(request.getDescription());
+        offer.setLogoUrl(request.getLogoUrl());
+        offer.setWebsiteUrl(request.getWebsiteUrl());
+        offer.setCreatedAt(LocalDateTime.now());
+        offer.setPublishAt(request.getPublishAt());
+        offer.setExpiresAt(request.getExpiresAt());
+        offer.setStatus(OfferService.resolveStatus(request, offer.getCreatedAt()));
+        return offer;
+    }
+}
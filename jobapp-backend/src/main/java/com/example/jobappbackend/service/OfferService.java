@@ -1,37 +1,56 @@
 package com.example.jobappbackend.service;
 
+import com.example.jobappbackend.config.CacheConfig;
 import com.example.jobappbackend.dto.OfferRequest;
 import com.example.jobappbackend.dto.OfferResponse;
+import com.example.jobappbackend.event.OfferCreated;
+import com.example.jobappbackend.event.OfferDeleted;
+import com.example.jobappbackend.event.OfferUpdated;
 import com.example.jobappbackend.exception.ApiException;
+import com.example.jobappbackend.jfr.OfferFeedEvent;
 import com.example.jobappbackend.model.Offer;
+import com.example.jobappbackend.model.OfferStatus;
 import com.example.jobappbackend.model.User;
 import com.example.jobappbackend.repository.ApplicationRepository;
 import com.example.jobappbackend.repository.OfferRepository;
 import com.example.jobappbackend.repository.UserRepository;
+import io.micrometer.core.annotation.Timed;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 /**
  * Service class for managing job offers created by companies.
  */
 @Service
+@Timed(value = "jobapp.service", histogram = true)
 public class OfferService {
 
     private final OfferRepository offerRepository;
     private final UserRepository userRepository;
     private final ApplicationRepository applicationRepository;
+    private final OfferApplicantCounter applicantCounter;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Autowired
     public OfferService(OfferRepository offerRepository,
                         UserRepository userRepository,
-                        ApplicationRepository applicationRepository) {
+                        ApplicationRepository applicationRepository,
+                        OfferApplicantCounter applicantCounter,
+                        ApplicationEventPublisher eventPublisher) {
         this.offerRepository = offerRepository;
         this.userRepository = userRepository;
         this.applicationRepository = applicationRepository;
+        this.applicantCounter = applicantCounter;
+        this.eventPublisher = eventPublisher;
     }
 
     /**
@@ -41,6 +60,7 @@ public class OfferService {
      *@param companyUserId  the user ID of the company creating the offer
      * @return the created offer as a response DTO
      */
+    @Transactional
     public OfferResponse createOffer(OfferRequest request, Long companyUserId) {
         User company = userRepository.findById(companyUserId)
                 .orElseThrow(() -> new ApiException("Company not found"));
@@ -51,46 +71,62 @@ public class OfferService {
         offer.setLogoUrl(request.getLogoUrl());
         offer.setWebsiteUrl(request.getWebsiteUrl());
         offer.setCreatedAt(LocalDateTime.now());
+        offer.setPublishAt(request.getPublishAt());
+        offer.setExpiresAt(request.getExpiresAt());
+        offer.setStatus(resolveStatus(request, offer.getCreatedAt()));
         offer.setCreatedBy(company);
 
-        return toDto(offerRepository.save(offer));
+        Offer saved = offerRepository.save(offer);
+        eventPublisher.publishEvent(new OfferCreated(saved.getId(), companyUserId, saved.getTitle()));
+        OfferResponse response = toDto(saved);
+        response.setApplicantCount(0L);
+        return response;
     }
 
     /**
-     * Retrieves all job offers created by a specific company.
+     * Retrieves all job offers created by a specific company, with their applicant counts.
+     * The counts of all the offers are read from the counters in one query.
      *
      * @param companyUserId the user ID of the company
      * @return a list of offers
      */
     public List<OfferResponse> getOffersByCompany(Long companyUserId) {
+        Map<Long, Long> applicantCounts = applicantCounter.countByCompany(companyUserId);
         return offerRepository.findByCreatedById(companyUserId).stream()
-                .map(this::toDto)
+                .map(offer -> {
+                    OfferResponse response = toDto(offer);
+                    response.setApplicantCount(applicantCounts.getOrDefault(offer.getId(), 0L));
+                    return response;
+                })
                 .collect(Collectors.toList());
     }
 
     /**
-     * Updates an existing job offer.
+     * Updates an existing job offer and reads it back in the same statement. The publication
+     * date, expiry date and status are only changed when the request sets them.
      *
      * @param id              the ID of the offer to update
      * @param request         the updated offer data
      * @param companyUserId  the user ID of the company requesting the update
      * @return the updated offer
      */
+    @Transactional
     public OfferResponse updateOffer(Long id, OfferRequest request, Long companyUserId) {
-        Offer offer = offerRepository.findById(id)
-                .orElseThrow(() -> new ApiException("Offer not found"));
-
-        if (!offer.getCreatedBy().getId().equals(companyUserId)) {
-            throw new ApiException("You are not authorized to update this offer.");
-        }
-
-        offer.setTitle(request.getTitle());
-        offer.setDescription(request.getDescription());
-        offer.setLogoUrl(request.getLogoUrl());
-        offer.setWebsiteUrl(request.getWebsiteUrl());
-
-        Offer updatedOffer = offerRepository.save(offer);
-        return toDto(updatedOffer);
+        OfferStatus status = resolveUpdatedStatus(request, LocalDateTime.now());
+        OfferResponse response = offerRepository.updateOwnedOffer(
+                id,
+                companyUserId,
+                request.getTitle(),
+                request.getDescription(),
+                request.getLogoUrl(),
+                request.getWebsiteUrl(),
+                request.getPublishAt(),
+                request.getExpiresAt(),
+                status != null ? status.name() : null
+        ).map(OfferService::toDto)
+                .orElseThrow(() -> missingOrNotOwned(id, "You are not authorized to update this offer."));
+        eventPublisher.publishEvent(new OfferUpdated(id, companyUserId));
+        return response;
     }
 
     /**
@@ -99,23 +135,76 @@ public class OfferService {
      * @param id              the offer ID
      * @param companyUserId the username of the company performing the deletion
      */
+    @Transactional
     public void deleteOffer(Long id, Long companyUserId) {
-        Offer offer = offerRepository.findById(id)
-                .orElseThrow(() -> new ApiException("Offer not found"));
+        if (offerRepository.deleteOwnedOffer(id, companyUserId) == 0) {
+            throw missingOrNotOwned(id, "You are not authorized to delete this offer.");
+        }
+        eventPublisher.publishEvent(new OfferDeleted(id, companyUserId));
+    }
 
-        if (!offer.getCreatedBy().getId().equals(companyUserId)) {
-            throw new ApiException("You are not authorized to delete this offer.");
+    /**
+     * Derives the status of an offer from a create or update request. An offer whose expiry
+     * date has already passed is stored as expired rather than waiting for the expiry job.
+     *
+     * @param request the offer data
+     * @param now     the current date
+     * @return the status to store
+     * @throws ApiException if the requested status or the dates are invalid
+     */
+    static OfferStatus resolveStatus(OfferRequest request, LocalDateTime now) {
+        if (request.getStatus() != null && !OfferStatus.OPEN.name().equals(request.getStatus())
+                && !OfferStatus.CLOSED.name().equals(request.getStatus())) {
+            throw new ApiException("Status must be OPEN or CLOSED.");
+        }
+        if (!request.isExpiryAfterPublication()) {
+            throw new ApiException("The expiry date must be after the publication date.");
         }
+        if (OfferStatus.CLOSED.name().equals(request.getStatus())) {
+            return OfferStatus.CLOSED;
+        }
+        if (request.getExpiresAt() != null && !request.getExpiresAt().isAfter(now)) {
+            return OfferStatus.EXPIRED;
+        }
+        return OfferStatus.OPEN;
+    }
 
-        offerRepository.deleteById(id);
+    /**
+     * Derives the status to store on an update. A request without a status keeps the stored one,
+     * unless it sets an expiry date that has already passed.
+     *
+     * @param request the offer data
+     * @param now     the current date
+     * @return the status to store, or null to keep the stored status
+     * @throws ApiException if the requested status or the dates are invalid
+     */
+    static OfferStatus resolveUpdatedStatus(OfferRequest request, LocalDateTime now) {
+        OfferStatus status = resolveStatus(request, now);
+        return request.getStatus() == null && status == OfferStatus.OPEN ? null : status;
+    }
+
+    /**
+     * Builds the error for an ownership-checked write that affected no row.
+     * Only runs on the failure path, to tell a missing offer from a foreign one.
+     *
+     * @param id                 the offer ID
+     * @param unauthorizedMessage message used when the offer exists but is not owned
+     * @return the exception to throw
+     */
+    private ApiException missingOrNotOwned(Long id, String unauthorizedMessage) {
+        return offerRepository.existsById(id)
+                ? new ApiException(unauthorizedMessage)
+                : new ApiException("Offer not found");
     }
 
     /**
      * Retrieves a single job offer by its ID.
+     * Cached; the cluster is kept coherent by the {@link CacheInvalidationBus}.
      *
      * @param id the offer ID
      * @return the corresponding OfferResponse DTO
      */
+    @Cacheable(cacheNames = CacheConfig.OFFERS, key = "#id")
     public OfferResponse getOfferById(Long id) {
         Offer offer = offerRepository.findById(id)
                 .orElseThrow(() -> new ApiException("Offer not found"));
@@ -123,23 +212,31 @@ public class OfferService {
     }
 
     /**
-     * Retrieves all job offers and adds 'applied' info for the connected student.
+     * Retrieves the open job offers and adds 'applied' info for the connected student.
+     * Only published, unexpired offers are read, through the partial index on open offers,
+     * and the 'applied' flags come from a single query. Emits an {@link OfferFeedEvent}.
      *
      * @param studentUsername the username of the student
      * @return list of offers with applied status
      */
     public List<OfferResponse> getAllOffers(String studentUsername) {
+        OfferFeedEvent event = new OfferFeedEvent();
+        event.begin();
         User student = userRepository.findByUsername(studentUsername)
                 .orElseThrow(() -> new ApiException("Student not found"));
 
-        return offerRepository.findAll().stream()
-                .map(offer -> {
-                    boolean applied = applicationRepository
-                            .findByStudentAndOffer(student, offer)
-                            .isPresent();
-                    return toDto(offer, applied);
-                })
+        Set<Long> appliedOfferIds = applicationRepository.findOpenAppliedOfferIds(student.getId());
+        List<OfferResponse> offers = offerRepository.findOpen(LocalDateTime.now()).stream()
+                .map(offer -> toDto(offer, appliedOfferIds.contains(offer.getId())))
                 .collect(Collectors.toList());
+
+        if (event.shouldCommit()) {
+            event.studentUsername = studentUsername;
+            event.offerCount = offers.size();
+            event.appliedCount = (int) offers.stream().filter(OfferResponse::isApplied).count();
+            event.commit();
+        }
+        return offers;
     }
 
     /**
@@ -149,6 +246,17 @@ public class OfferService {
      * @return DTO with default applied = false
      */
     private OfferResponse toDto(Offer offer) {
+        return toDto(offer, false);
+    }
+
+    /**
+     * Converts an Offer entity to OfferResponse DTO with applied status.
+     *
+     * @param offer   the offer entity
+     * @param applied whether the student has applied
+     * @return the full DTO
+     */
+    private OfferResponse toDto(Offer offer, boolean applied) {
         return new OfferResponse(
                 offer.getId(),
                 offer.getTitle(),
@@ -157,18 +265,21 @@ public class OfferService {
                 offer.getWebsiteUrl(),
                 offer.getCreatedAt(),
                 offer.getCreatedBy().getCompanyName(),
-                false
+                applied,
+                offer.getPublishAt(),
+                offer.getExpiresAt(),
+                offer.getStatus() != null ? offer.getStatus().name() : null,
+                null
         );
     }
 
     /**
-     * Converts an Offer entity to OfferResponse DTO with applied status.
+     * Converts an offer returned by an update to OfferResponse DTO.
      *
-     * @param offer   the offer entity
-     * @param applied whether the student has applied
-     * @return the full DTO
+     * @param offer the updated offer
+     * @return the DTO, with its applicant count
      */
-    private OfferResponse toDto(Offer offer, boolean applied) {
+    private static OfferResponse toDto(OfferRepository.UpdatedOffer offer) {
         return new OfferResponse(
                 offer.getId(),
                 offer.getTitle(),
@@ -176,8 +287,12 @@ public class OfferService {
                 offer.getLogoUrl(),
                 offer.getWebsiteUrl(),
                 offer.getCreatedAt(),
-                offer.getCreatedBy().getCompanyName(),
-                applied
+                offer.getCompanyName(),
+                false,
+                offer.getPublishAt(),
+                offer.getExpiresAt(),
+                offer.getStatus(),
+                offer.getApplicantCount()
         );
     }
 }
@@ -0,0 +1,152 @@
+package com.example.jobappbackend.service;
+
+import com.example.jobappbackend.dto.ProfilingRecordingResponse;
+import com.example.jobappbackend.exception.ApiException;
+import jdk.jfr.Configuration;
+import jdk.jfr.Recording;
+import jdk.jfr.RecordingState;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.text.ParseException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Service starting time-boxed Java Flight Recorder recordings on demand, without agents.
+ * <p>
+ * A recording captures the JVM events of the chosen settings ("profile" by default) and the
+ * application events of the {@code com.example.jobappbackend.jfr} package. It stops by itself
+ * after its duration and is written to disk, ready to be downloaded. Only one recording runs
+ * at a time and only the last few are kept.
+ */
+@Service
+public class ProfilingService {
+
+    /** Number of finished recordings kept on disk. */
+    private static final int KEPT_RECORDINGS = 5;
+
+    private final Path directory;
+    private final String settings;
+    private final long maxDurationSeconds;
+
+    /** Recordings by ID, oldest first. */
+    private final Map<Long, Recording> recordings = new LinkedHashMap<>();
+
+    public ProfilingService(@Value("${jobapp.profiling.directory:${java.io.tmpdir}/jobapp-jfr}") Path directory,
+                            @Value("${jobapp.profiling.settings:profile}") String settings,
+                            @Value("${jobapp.profiling.max-duration-seconds:300}") long maxDurationSeconds) {
+        this.directory = directory;
+        this.settings = settings;
+        this.maxDurationSeconds = maxDurationSeconds;
+    }
+
+    /**
+     * Starts a recording that stops by itself after the given duration.
+     *
+     * @param durationSeconds the recording duration
+     * @return the state of the new recording
+     * @throws ApiException if the duration is out of bounds or a recording is already running
+     */
+    public synchronized ProfilingRecordingResponse start(long durationSeconds) {
+        if (durationSeconds < 1 || durationSeconds > maxDurationSeconds) {
+            throw new ApiException("Duration must be between 1 and " + maxDurationSeconds + " seconds.");
+        }
+        for (Recording recording : recordings.values()) {
+            if (recording.getState() == RecordingState.RUNNING || recording.getState() == RecordingState.DELAYED) {
+                throw new ApiException("A recording is already running.");
+            }
+        }
+        purgeOldRecordings();
+
+        try {
+            Files.createDirectories(directory);
+            Recording recording = new Recording(Configuration.getConfiguration(settings));
+            recording.setName("jobapp-" + recording.getId());
+            recording.setToDisk(true);
+            recording.setDuration(Duration.ofSeconds(durationSeconds));
+            recording.setDestination(directory.resolve("jobapp-" + recording.getId() + ".jfr"));
+            recording.start();
+            recordings.put(recording.getId(), recording);
+            return toResponse(recording);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } catch (ParseException e) {
+            throw new ApiException("Unknown JFR settings: " + settings);
+        }
+    }
+
+    /**
+     * Returns the state of a recording.
+     *
+     * @param id the recording ID
+     * @return the state of the recording
+     * @throws ApiException if the recording is unknown or has been purged
+     */
+    public synchronized ProfilingRecordingResponse get(long id) {
+        return toResponse(find(id));
+    }
+
+    /**
+     * Returns the file of a finished recording.
+     *
+     * @param id the recording ID
+     * @return the path of the .jfr file
+     * @throws ApiException if the recording is unknown or still running
+     */
+    public synchronized Path getFile(long id) {
+        Recording recording = find(id);
+        if (recording.getState() != RecordingState.STOPPED) {
+            throw new ApiException("The recording is not finished yet.");
+        }
+        return recording.getDestination();
+    }
+
+    private Recording find(long id) {
+        Recording recording = recordings.get(id);
+        if (recording == null) {
+            throw new ApiException("Recording not found");
+        }
+        return recording;
+    }
+
+    /** Closes and deletes the oldest finished recordings beyond {@link #KEPT_RECORDINGS}. */
+    private void purgeOldRecordings() {
+        Iterator<Recording> iterator = recordings.values().iterator();
+        while (recordings.size() >= KEPT_RECORDINGS && iterator.hasNext()) {
+            Recording recording = iterator.next();
+            Path file = recording.getDestination();
+            recording.close();
+            iterator.remove();
+            try {
+                Files.deleteIfExists(file);
+            } catch (IOException ignored) {
+                // Left in the temporary directory.
+            }
+        }
+    }
+
+    private ProfilingRecordingResponse toResponse(Recording recording) {
+        LocalDateTime startedAt = recording.getStartTime() == null
+                ? null
+                : LocalDateTime.ofInstant(recording.getStartTime(), ZoneId.systemDefault());
+        Long size = null;
+        if (recording.getState() == RecordingState.STOPPED) {
+            try {
+                size = Files.size(recording.getDestination());
+            } catch (IOException e) {
+                size = null;
+            }
+        }
+        return new ProfilingRecordingResponse(recording.getId(), recording.getState().name(), startedAt,
+                recording.getDuration().toSeconds(), size);
+    }
+}
@@ -0,0 +1,105 @@
+package com.example.jobappbackend.service;
+
+import com.example.jobappbackend.dto.OfferResponse;
+import com.example.jobappbackend.exception.ApiException;
+import io.r2dbc.spi.Readable;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+
+/**
+ * Non-blocking counterpart of the read methods of {@link OfferService}, over R2DBC.
+ * <p>
+ * No thread waits for the database: results are emitted when the rows arrive. The feed
+ * computes the "applied" flag of every offer in the same query instead of one lookup per offer.
+ */
+@Service
+public class ReactiveOfferService {
+
+    private static final String OFFER_COLUMNS =
+            "SELECT o.id, o.title, o.description, o.logo_url, o.website_url, o.created_at, c.company_name, "
+                    + "o.publish_at, o.expires_at, o.status ";
+
+    private final DatabaseClient databaseClient;
+
+    public ReactiveOfferService(DatabaseClient databaseClient) {
+        this.databaseClient = databaseClient;
+    }
+
+    /**
+     * Retrieves the open job offers with the 'applied' flag of the connected student.
+     * Only published, unexpired offers are read, through the partial index on open offers.
+     *
+     * @param studentUsername the username of the student
+     * @return the offers, or an {@link ApiException} if the student does not exist
+     */
+    public Flux<OfferResponse> getAllOffers(String studentUsername) {
+        return databaseClient.sql("SELECT id FROM jobapp_user WHERE username = :username")
+                .bind("username", studentUsername)
+                .map(row -> row.get("id", Long.class))
+                .one()
+                .switchIfEmpty(Mono.error(() -> new ApiException("Student not found")))
+                .flatMapMany(studentId -> databaseClient.sql(OFFER_COLUMNS
+                                + ", EXISTS (SELECT 1 FROM applications a "
+                                + "WHERE a.offre_id = o.id AND a.student_id = :studentId) AS applied "
+                                + "FROM jobapp_offer o JOIN jobapp_user c ON c.id = o.user_id "
+                                + "WHERE o.status = 'OPEN' AND o.publish_at <= :now "
+                                + "AND (o.expires_at IS NULL OR o.expires_at > :now) ORDER BY o.id")
+                        .bind("studentId", studentId)
+                        .bind("now", LocalDateTime.now())
+                        .map(row -> toDto(row, Boolean.TRUE.equals(row.get("applied", Boolean.class)), null))
+                        .all());
+    }
+
+    /**
+     * Retrieves a single job offer by its ID.
+     *
+     * @param id the offer ID
+     * @return the offer, or an {@link ApiException} if it does not exist
+     */
+    public Mono<OfferResponse> getOfferById(Long id) {
+        return databaseClient.sql(OFFER_COLUMNS
+                        + "FROM jobapp_offer o JOIN jobapp_user c ON c.id = o.user_id WHERE o.id = :id")
+                .bind("id", id)
+                .map(row -> toDto(row, false, null))
+                .one()
+                .switchIfEmpty(Mono.error(() -> new ApiException("Offer not found")));
+    }
+
+    /**
+     * Retrieves all job offers created by a specific company, with their applicant counts.
+     *
+     * @param companyUserId the user ID of the company
+     * @return the company's offers
+     */
+    public Flux<OfferResponse> getOffersByCompany(Long companyUserId) {
+        return databaseClient.sql(OFFER_COLUMNS
+                        + ", (SELECT COALESCE(SUM(n.applicants), 0)::bigint FROM offer_applicant_count n "
+                        + "WHERE n.offer_id = o.id) AS applicant_count "
+                        + "FROM jobapp_offer o JOIN jobapp_user c ON c.id = o.user_id "
+                        + "WHERE o.user_id = :companyUserId ORDER BY o.id")
+                .bind("companyUserId", companyUserId)
+                .map(row -> toDto(row, false, row.get("applicant_count", Long.class)))
+                .all();
+    }
+
+    private static OfferResponse toDto(Readable row, boolean applied, Long applicantCount) {
+        return new OfferResponse(
+                row.get("id", Long.class),
+                row.get("title", String.class),
+                row.get("description", String.class),
+                row.get("logo_url", String.class),
+                row.get("website_url", String.class),
+                row.get("created_at", LocalDateTime.class),
+                row.get("company_name", String.class),
+                applied,
+                row.get("publish_at", LocalDateTime.class),
+                row.get("expires_at", LocalDateTime.class),
+                row.get("status", String.class),
+                applicantCount
+        );
+    }
+}
@@ -1,64 +1,95 @@
 package com.example.jobappbackend.service;
 
+import com.example.jobappbackend.event.ApplicationSubmitted;
 import com.example.jobappbackend.exception.ApiException;
+import com.example.jobappbackend.jfr.ApplicationSubmissionEvent;
 import com.example.jobappbackend.model.Application;
 import com.example.jobappbackend.model.Offer;
 import com.example.jobappbackend.model.User;
 import com.example.jobappbackend.repository.ApplicationRepository;
 import com.example.jobappbackend.repository.OfferRepository;
 import com.example.jobappbackend.repository.UserRepository;
-import jakarta.mail.MessagingException;
-import jakarta.mail.internet.MimeMessage;
+import io.micrometer.core.annotation.Timed;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.core.io.InputStreamSource;
-import org.springframework.mail.javamail.JavaMailSender;
-import org.springframework.mail.javamail.MimeMessageHelper;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.time.LocalDateTime;
+import java.util.List;
 
 /**
- * Service for handling student job applications: sends email and saves to database.
+ * Service for handling student job applications: saves them to the database and publishes an
+ * {@link ApplicationSubmitted} event, on which the company is notified by email once committed.
  */
 @Service
+@Timed(value = "jobapp.service", histogram = true)
 public class StudentApplicationService {
 
     private final OfferRepository offerRepository;
     private final UserRepository userRepository;
     private final ApplicationRepository applicationRepository;
-    private final JavaMailSender mailSender;
+    private final OfferApplicantCounter applicantCounter;
+    private final ApplicationAttachmentStore attachmentStore;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Autowired
     public StudentApplicationService(OfferRepository offerRepository,
                                      UserRepository userRepository,
                                      ApplicationRepository applicationRepository,
-                                     JavaMailSender mailSender) {
+                                     OfferApplicantCounter applicantCounter,
+                                     ApplicationAttachmentStore attachmentStore,
+                                     ApplicationEventPublisher eventPublisher) {
         this.offerRepository = offerRepository;
         this.userRepository = userRepository;
         this.applicationRepository = applicationRepository;
-        this.mailSender = mailSender;
+        this.applicantCounter = applicantCounter;
+        this.attachmentStore = attachmentStore;
+        this.eventPublisher = eventPublisher;
     }
 
     /**
-     * Sends an application email with attachments (CV + motivation letter) to the company,
-     * and saves the application in the database.
+     * Saves the application in the database and publishes it with its attachments
+     * (CV + motivation letter) for the company. Emits an {@link ApplicationSubmissionEvent}.
      *
      * @param offerId         the ID of the offer
      * @param cv              the CV file (required)
      * @param motivation      the motivation letter file (required)
      * @param studentUsername the username of the student (from Principal)
-     * @throws MessagingException if email sending fails
+     * @throws ApiException if the application is invalid or the files cannot be read
      */
-    @Transactional(rollbackFor = MessagingException.class)
-    public void applyToOffer(Long offerId, MultipartFile cv, MultipartFile motivation, String studentUsername) throws MessagingException {
+    @Transactional
+    public void applyToOffer(Long offerId, MultipartFile cv, MultipartFile motivation, String studentUsername) {
+        ApplicationSubmissionEvent event = new ApplicationSubmissionEvent();
+        event.begin();
+        try {
+            event.applicationId = submit(offerId, cv, motivation, studentUsername);
+            event.succeeded = true;
+        } finally {
+            event.offerId = offerId == null ? -1 : offerId;
+            event.studentUsername = studentUsername;
+            event.cvSize = cv == null ? 0 : cv.getSize();
+            event.motivationSize = motivation == null ? 0 : motivation.getSize();
+            event.commit();
+        }
+    }
+
+    /**
+     * Records the application and publishes it for the notification of the company.
+     *
+     * @return the ID of the new application
+     */
+    private long submit(Long offerId, MultipartFile cv, MultipartFile motivation, String studentUsername) {
         if (cv == null || cv.isEmpty() || motivation == null || motivation.isEmpty()) {
             throw new ApiException("CV and motivation letter are required.");
         }
 
         Offer offer = offerRepository.findById(offerId)
                 .orElseThrow(() -> new ApiException("Offer not found"));
+        if (!offer.isOpenAt(LocalDateTime.now())) {
+            throw new ApiException("This offer is not open for applications.");
+        }
 
         User student = userRepository.findByUsername(studentUsername)
                 .orElseThrow(() -> new ApiException("Student not found"));
@@ -68,46 +99,22 @@ public class StudentApplicationService {
             throw new ApiException("You have already applied to this offer.");
         }
 
-        Application application = new Application();
-        application.setStudent(student);
-        application.setOffer(offer);
-        application.setAppliedAt(LocalDateTime.now());
-        applicationRepository.save(application);
-
         User company = offer.getCreatedBy();
         if (company == null || company.getEmail() == null) {
             throw new ApiException("Company email not available.");
         }
+        List<ApplicationSubmitted.Attachment> attachments = List.of(attachmentStore.store(cv), attachmentStore.store(motivation));
 
-        MimeMessage message = mailSender.createMimeMessage();
-        MimeMessageHelper helper = new MimeMessageHelper(message, true);
-
-        helper.setTo(company.getEmail());
-        helper.setSubject("New Job Application for: " + offer.getTitle());
-        helper.setText("Dear " + (company.getCompanyName() != null ? company.getCompanyName() : "Company") + ",\n\n"
-                + "A student has applied to your offer \"" + offer.getTitle() + "\".\n"
-                + "Email: " + student.getEmail() + "\n\n"
-                + "Please find the attached CV and motivation letter.\n\nRegards,\nJobApp");
-
-        addAttachment(helper, cv);
-        addAttachment(helper, motivation);
-
-        mailSender.send(message);
-    }
+        Application application = new Application();
+        application.setStudent(student);
+        application.setOffer(offer);
+        application.setAppliedAt(LocalDateTime.now());
+        applicationRepository.save(application);
+        applicantCounter.increment(offer.getId());
 
-    /**
-     * Adds a file as an attachment to the email.
-     *
-     * @param helper the email message helper
-     * @param file   the file to attach
-     * @throws MessagingException if adding the attachment fails
-     */
-    private void addAttachment(MimeMessageHelper helper, MultipartFile file) throws MessagingException {
-        if (file == null || file.isEmpty()) return;
-        String filename = (file.getOriginalFilename() != null && !file.getOriginalFilename().isBlank())
-                ? file.getOriginalFilename()
-                : "attachment";
-        InputStreamSource source = file::getInputStream;
-        helper.addAttachment(filename, source);
+        eventPublisher.publishEvent(new ApplicationSubmitted(application.getId(), offer.getId(), offer.getTitle(),
+                student.getId(), student.getEmail(), company.getId(), company.getEmail(),
+                company.getCompanyName(), attachments));
+        return application.getId();
     }
 }
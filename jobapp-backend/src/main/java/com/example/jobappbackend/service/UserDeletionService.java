@@ -0,0 +1,177 @@
+package com.example.jobappbackend.service;
+
+import com.example.jobappbackend.dto.DeletionJobResponse;
+import com.example.jobappbackend.event.UserDeleted;
+import com.example.jobappbackend.exception.ApiException;
+import com.example.jobappbackend.repository.ApplicationRepository;
+import com.example.jobappbackend.repository.OfferRepository;
+import com.example.jobappbackend.repository.UserRepository;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Service running the deletion of users with a very large graph (offers and applications)
+ * as a background job.
+ * <p>
+ * Applications are deleted in batches, each in its own short transaction, so that memory
+ * and lock usage stay bounded whatever the size of the graph. Progress can be polled by job ID.
+ */
+@Service
+public class UserDeletionService {
+
+    /** How long finished jobs stay visible before being purged. */
+    private static final Duration FINISHED_JOB_RETENTION = Duration.ofHours(1);
+
+    private final UserRepository userRepository;
+    private final OfferRepository offerRepository;
+    private final ApplicationRepository applicationRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
+    private final TaskExecutor executor;
+    private final int batchSize;
+
+    /** Known jobs by ID. */
+    private final Map<String, Job> jobs = new ConcurrentHashMap<>();
+
+    public UserDeletionService(UserRepository userRepository,
+                               OfferRepository offerRepository,
+                               ApplicationRepository applicationRepository,
+                               ApplicationEventPublisher eventPublisher,
+                               PlatformTransactionManager transactionManager,
+                               @Qualifier("deletionTaskExecutor") TaskExecutor executor,
+                               @Value("${jobapp.deletion.batch-size:5000}") int batchSize) {
+        this.userRepository = userRepository;
+        this.offerRepository = offerRepository;
+        this.applicationRepository = applicationRepository;
+        this.eventPublisher = eventPublisher;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.executor = executor;
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * Submits the background deletion of a user.
+     * If a deletion of the same user is already in progress, that job is returned instead.
+     *
+     * @param userId the ID of the user to delete
+     * @return the state of the job
+     * @throws ApiException if the user does not exist or too many jobs are queued
+     */
+    public DeletionJobResponse submit(Long userId) {
+        purgeFinishedJobs();
+
+        for (Job existing : jobs.values()) {
+            if (existing.userId.equals(userId) && !existing.isFinished()) {
+                return existing.toResponse();
+            }
+        }
+
+        if (!userRepository.existsById(userId)) {
+            throw new ApiException("User not found");
+        }
+
+        Job job = new Job(UUID.randomUUID().toString(), userId);
+        jobs.put(job.id, job);
+        try {
+            executor.execute(() -> run(job));
+        } catch (TaskRejectedException e) {
+            jobs.remove(job.id);
+            throw new ApiException("Too many deletions in progress, please retry later.");
+        }
+        return job.toResponse();
+    }
+
+    /**
+     * Returns the current state of a deletion job.
+     *
+     * @param jobId the job ID
+     * @return the state of the job
+     * @throws ApiException if the job is unknown or has been purged
+     */
+    public DeletionJobResponse getJob(String jobId) {
+        Job job = jobs.get(jobId);
+        if (job == null) {
+            throw new ApiException("Deletion job not found");
+        }
+        return job.toResponse();
+    }
+
+    /**
+     * Runs the deletion: applications by batches, then offers, then the user.
+     *
+     * @param job the job to run
+     */
+    private void run(Job job) {
+        job.status = "RUNNING";
+        try {
+            UserRepository.Identifiers identifiers = userRepository.findIdentifiersById(job.userId)
+                    .orElseThrow(() -> new ApiException("User not found"));
+            job.totalApplications = applicationRepository.countInvolvingUser(job.userId);
+
+            int deleted;
+            do {
+                deleted = transactionTemplate.execute(status ->
+                        applicationRepository.deleteBatchInvolvingUser(job.userId, batchSize));
+                job.deletedApplications += deleted;
+            } while (deleted > 0);
+
+            transactionTemplate.executeWithoutResult(status -> {
+                job.deletedOffers = offerRepository.deleteAllByCreatedById(job.userId);
+                userRepository.deleteUserById(job.userId);
+                eventPublisher.publishEvent(new UserDeleted(
+                        job.userId, identifiers.getUsername(), identifiers.getEmail()));
+            });
+            job.status = "COMPLETED";
+        } catch (RuntimeException e) {
+            job.error = e.getMessage();
+            job.status = "FAILED";
+        } finally {
+            job.finishedAt = LocalDateTime.now();
+        }
+    }
+
+    /** Removes finished jobs older than the retention period. */
+    private void purgeFinishedJobs() {
+        LocalDateTime limit = LocalDateTime.now().minus(FINISHED_JOB_RETENTION);
+        jobs.values().removeIf(job -> job.isFinished() && job.finishedAt.isBefore(limit));
+    }
+
+    /** Mutable state of a job, updated by the worker thread and read by pollers. */
+    private static final class Job {
+        private final String id;
+        private final Long userId;
+        private final LocalDateTime submittedAt = LocalDateTime.now();
+        private volatile String status = "PENDING";
+        private volatile long totalApplications;
+        private volatile long deletedApplications;
+        private volatile long deletedOffers;
+        private volatile LocalDateTime finishedAt;
+        private volatile String error;
+
+        private Job(String id, Long userId) {
+            this.id = id;
+            this.userId = userId;
+        }
+
+        private boolean isFinished() {
+            return finishedAt != null;
+        }
+
+        private DeletionJobResponse toResponse() {
+            return new DeletionJobResponse(id, userId, status, totalApplications,
+                    deletedApplications, deletedOffers, submittedAt, finishedAt, error);
+        }
+    }
+}
@@ -0,0 +1,195 @@
+package com.example.jobappbackend.service;
+
+import com.example.jobappbackend.event.UserDeleted;
+import com.example.jobappbackend.event.UserRegistered;
+import com.example.jobappbackend.event.UserUpdated;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.util.Locale;
+
+/**
+ * In-memory index of the usernames and emails already taken, backed by counting Bloom filters.
+ * <p>
+ * A "definitely absent" answer lets registration and availability checks skip the database;
+ * a "maybe present" answer must be confirmed with a query. Values are normalized (trimmed,
+ * lower-cased), which can only add false positives. The index is rebuilt from the database
+ * at startup and kept up to date by the user events of this node, once committed, and by the
+ * {@link CacheInvalidationBus} for the other nodes.
+ * Until the first rebuild completes, every value is reported as maybe present.
+ * <p>
+ * A counting Bloom filter must only be asked to remove values it was given: the filters being
+ * rebuilt may not have streamed the row of a user deleted meanwhile, so they receive additions
+ * only, and an update removes just the identifiers that changed.
+ */
+@Component
+public class UserIdentifierIndex {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate readOnlyTransaction;
+    private final long expectedUsers;
+    private final double falsePositiveRate;
+
+    /** Filters answering queries; null until the first rebuild. */
+    private volatile Filters current;
+
+    /** Filters being rebuilt; receives the additions made to {@link #current} meanwhile. */
+    private volatile Filters building;
+
+    public UserIdentifierIndex(DataSource dataSource,
+                               PlatformTransactionManager transactionManager,
+                               @Value("${jobapp.availability.expected-users:200000}") long expectedUsers,
+                               @Value("${jobapp.availability.false-positive-rate:0.01}") double falsePositiveRate) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.jdbcTemplate.setFetchSize(10_000);
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.expectedUsers = expectedUsers;
+        this.falsePositiveRate = falsePositiveRate;
+    }
+
+    /**
+     * Rebuilds the filters from every user in the database, streaming the rows.
+     * Additions made while rebuilding are applied to both the old and the new filters, removals
+     * to the old ones only.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void rebuild() {
+        Filters fresh = new Filters(expectedUsers, falsePositiveRate);
+        building = fresh;
+        try {
+            readOnlyTransaction.executeWithoutResult(status -> jdbcTemplate.query(
+                    "SELECT username, email FROM jobapp_user",
+                    (RowCallbackHandler) rs -> fresh.add(rs.getString(1), rs.getString(2))
+            ));
+            current = fresh;
+        } finally {
+            building = null;
+        }
+    }
+
+    /**
+     * @param username the username to check
+     * @return false if no user has this username, true if one may have it
+     */
+    public boolean mightContainUsername(String username) {
+        Filters filters = current;
+        return filters == null || filters.usernames.mightContain(normalize(username));
+    }
+
+    /**
+     * @param email the email to check
+     * @return false if no user has this email, true if one may have it
+     */
+    public boolean mightContainEmail(String email) {
+        Filters filters = current;
+        return filters == null || filters.emails.mightContain(normalize(email));
+    }
+
+    /**
+     * Records a newly stored user.
+     *
+     * @param username the user's username
+     * @param email    the user's email
+     */
+    public void add(String username, String email) {
+        Filters filters = current;
+        if (filters != null) {
+            filters.add(username, email);
+        }
+        Filters pending = building;
+        if (pending != null && pending != filters) {
+            pending.add(username, email);
+        }
+    }
+
+    /**
+     * Forgets a deleted user.
+     *
+     * @param username the user's username
+     * @param email    the user's email
+     */
+    public void remove(String username, String email) {
+        Filters filters = current;
+        if (filters != null) {
+            filters.remove(username, email);
+        }
+    }
+
+    /**
+     * Records the new identifiers of an updated user, forgetting the previous ones.
+     * Identifiers left unchanged are not touched.
+     *
+     * @param previousUsername the username before the update
+     * @param previousEmail    the email before the update
+     * @param username         the username after the update
+     * @param email            the email after the update
+     */
+    public void replace(String previousUsername, String previousEmail, String username, String email) {
+        String removedUsername = changed(previousUsername, username) ? previousUsername : null;
+        String removedEmail = changed(previousEmail, email) ? previousEmail : null;
+        remove(removedUsername, removedEmail);
+        add(changed(previousUsername, username) ? username : null, changed(previousEmail, email) ? email : null);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void on(UserRegistered event) {
+        add(event.getUsername(), event.getEmail());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void on(UserUpdated event) {
+        replace(event.getPreviousUsername(), event.getPreviousEmail(), event.getUsername(), event.getEmail());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void on(UserDeleted event) {
+        remove(event.getUsername(), event.getEmail());
+    }
+
+    private static boolean changed(String previous, String value) {
+        return !normalize(previous).equals(normalize(value));
+    }
+
+    private static String normalize(String value) {
+        return value == null ? "" : value.trim().toLowerCase(Locale.ROOT);
+    }
+
+    /** The pair of filters for usernames and emails. */
+    private static final class Filters {
+        private final CountingBloomFilter usernames;
+        private final CountingBloomFilter emails;
+
+        private Filters(long expectedUsers, double falsePositiveRate) {
+            this.usernames = new CountingBloomFilter(expectedUsers, falsePositiveRate);
+            this.emails = new CountingBloomFilter(expectedUsers, falsePositiveRate);
+        }
+
+        private void add(String username, String email) {
+            if (username != null) {
+                usernames.add(normalize(username));
+            }
+            if (email != null) {
+                emails.add(normalize(email));
+            }
+        }
+
+        private void remove(String username, String email) {
+            if (username != null) {
+                usernames.remove(normalize(username));
+            }
+            if (email != null) {
+                emails.remove(normalize(email));
+            }
+        }
+    }
+}
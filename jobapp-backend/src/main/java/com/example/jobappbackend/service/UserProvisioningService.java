@@ -0,0 +1,275 @@
+package com.example.jobappbackend.service;
+
+import com.example.jobappbackend.dto.BulkImportResponse;
+import com.example.jobappbackend.dto.ImportRecordError;
+import com.example.jobappbackend.dto.RegisterRequest;
+import com.example.jobappbackend.event.UserRegistered;
+import com.example.jobappbackend.model.User;
+import com.example.jobappbackend.repository.UserRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.dataformat.csv.CsvMapper;
+import com.fasterxml.jackson.dataformat.csv.CsvSchema;
+import jakarta.persistence.EntityManager;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.stream.Collectors;
+
+/**
+ * Service creating many user accounts in one call (e.g. all students at semester start).
+ * <p>
+ * Rows are read as a stream (CSV with a header line, NDJSON or a JSON array) and processed
+ * by chunks: duplicates are checked with one query per chunk, passwords are hashed in
+ * parallel on a bounded pool, and the users are inserted as a JDBC batch.
+ */
+@Service
+public class UserProvisioningService {
+
+    private final UserRepository userRepository;
+    private final PasswordEncoder passwordEncoder;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ObjectMapper objectMapper;
+    private final Validator validator;
+    private final CsvMapper csvMapper = new CsvMapper();
+    private final EntityManager entityManager;
+    private final TransactionTemplate transactionTemplate;
+    private final Executor hashingExecutor;
+    private final int batchSize;
+    private final int maxReportedErrors;
+
+    public UserProvisioningService(UserRepository userRepository,
+                                   PasswordEncoder passwordEncoder,
+                                   ApplicationEventPublisher eventPublisher,
+                                   ObjectMapper objectMapper,
+                                   Validator validator,
+                                   EntityManager entityManager,
+                                   PlatformTransactionManager transactionManager,
+                                   @Qualifier("passwordHashingTaskExecutor") Executor hashingExecutor,
+                                   @Value("${jobapp.provisioning.batch-size:1000}") int batchSize,
+                                   @Value("${jobapp.import.max-reported-errors:1000}") int maxReportedErrors) {
+        this.userRepository = userRepository;
+        this.passwordEncoder = passwordEncoder;
+        this.eventPublisher = eventPublisher;
+        this.objectMapper = objectMapper;
+        this.validator = validator;
+        this.entityManager = entityManager;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.hashingExecutor = hashingExecutor;
+        this.batchSize = batchSize;
+        this.maxReportedErrors = maxReportedErrors;
+    }
+
+    /**
+     * Creates the users read from the given stream.
+     * Chunks already committed are kept if a later row cannot be parsed.
+     *
+     * @param body the rows, as CSV (with header) or as JSON records
+     * @param csv  whether the body is CSV
+     * @return the provisioning summary, with the rejected rows
+     */
+    public BulkImportResponse provision(InputStream body, boolean csv) {
+        BulkImportResponse summary = new BulkImportResponse();
+        Set<String> seenUsernames = new HashSet<>();
+        Set<String> seenEmails = new HashSet<>();
+        List<PendingUser> chunk = new ArrayList<>(batchSize);
+        long index = 0;
+
+        try (MappingIterator<RegisterRequest> rows = reader(csv).readValues(body)) {
+            while (rows.hasNextValue()) {
+                RegisterRequest request = rows.nextValue();
+                summary.setReceived(summary.getReceived() + 1);
+
+                String error = validate(request);
+                if (error == null && seenUsernames.contains(request.getUsername())) {
+                    error = "Username duplicated in the file";
+                }
+                if (error == null && seenEmails.contains(request.getEmail())) {
+                    error = "Email duplicated in the file";
+                }
+
+                if (error != null) {
+                    reject(summary, index, error);
+                } else {
+                    seenUsernames.add(request.getUsername());
+                    seenEmails.add(request.getEmail());
+                    chunk.add(new PendingUser(index, request));
+                    if (chunk.size() >= batchSize) {
+                        process(chunk, summary);
+                    }
+                }
+                index++;
+            }
+        } catch (JsonProcessingException e) {
+            summary.setReceived(summary.getReceived() + 1);
+            summary.setAborted(true);
+            reject(summary, index, "Malformed row: " + e.getOriginalMessage());
+        } catch (IOException e) {
+            summary.setAborted(true);
+            reject(summary, index, "Could not read the request body.");
+        }
+
+        process(chunk, summary);
+        return summary;
+    }
+
+    /**
+     * Builds the reader matching the body format.
+     *
+     * @param csv whether the body is CSV
+     * @return a reader producing {@link RegisterRequest} records
+     */
+    private ObjectReader reader(boolean csv) {
+        if (csv) {
+            return csvMapper.readerFor(RegisterRequest.class).with(CsvSchema.emptySchema().withHeader());
+        }
+        return objectMapper.readerFor(RegisterRequest.class);
+    }
+
+    /**
+     * Checks the fields required to create an account, with the constraints of the
+     * {@link RegisterRequest.Provisioning} group.
+     *
+     * @param request the row to check
+     * @return the merged violation messages, or null when the row is valid
+     */
+    private String validate(RegisterRequest request) {
+        if (request == null) {
+            return "Empty row.";
+        }
+        Set<ConstraintViolation<RegisterRequest>> violations =
+                validator.validate(request, RegisterRequest.Provisioning.class);
+        if (violations.isEmpty()) {
+            return null;
+        }
+        return violations.stream()
+                .map(v -> v.getPropertyPath() + ": " + v.getMessage())
+                .sorted()
+                .collect(Collectors.joining("; "));
+    }
+
+    /**
+     * Rejects the rows clashing with existing accounts, hashes the passwords of the others
+     * in parallel, and inserts them.
+     *
+     * @param chunk   the pending rows (emptied on return)
+     * @param summary the summary to update
+     */
+    private void process(List<PendingUser> chunk, BulkImportResponse summary) {
+        if (chunk.isEmpty()) {
+            return;
+        }
+
+        Set<String> takenUsernames = new HashSet<>(userRepository.findExistingUsernames(
+                chunk.stream().map(p -> p.request.getUsername()).toList()));
+        Set<String> takenEmails = new HashSet<>(userRepository.findExistingEmails(
+                chunk.stream().map(p -> p.request.getEmail()).toList()));
+
+        List<PendingUser> accepted = new ArrayList<>(chunk.size());
+        for (PendingUser pending : chunk) {
+            if (takenUsernames.contains(pending.request.getUsername())) {
+                reject(summary, pending.index, "Username already taken");
+            } else if (takenEmails.contains(pending.request.getEmail())) {
+                reject(summary, pending.index, "Email already in use");
+            } else {
+                accepted.add(pending);
+            }
+        }
+
+        List<CompletableFuture<User>> hashed = accepted.stream()
+                .map(pending -> CompletableFuture.supplyAsync(() -> toEntity(pending.request), hashingExecutor))
+                .toList();
+        List<User> users = hashed.stream().map(CompletableFuture::join).toList();
+
+        try {
+            insert(users);
+            summary.setImported(summary.getImported() + users.size());
+        } catch (DataIntegrityViolationException e) {
+            // An account was created concurrently: fall back to one insert per row.
+            for (int i = 0; i < users.size(); i++) {
+                User user = users.get(i);
+                user.setId(null);
+                try {
+                    insert(List.of(user));
+                    summary.setImported(summary.getImported() + 1);
+                } catch (DataIntegrityViolationException rowError) {
+                    reject(summary, accepted.get(i).index, "Username or email already exists");
+                }
+            }
+        }
+        chunk.clear();
+    }
+
+    /**
+     * Inserts users in one transaction, then frees the persistence context.
+     * Publishes a {@link UserRegistered} event for each user.
+     * The batch is flushed through the repository so that a unique-key violation is
+     * translated to a {@link DataIntegrityViolationException}.
+     *
+     * @param users the users to insert
+     */
+    private void insert(List<User> users) {
+        transactionTemplate.executeWithoutResult(status -> {
+            userRepository.saveAllAndFlush(users);
+            entityManager.clear();
+            users.forEach(user -> eventPublisher.publishEvent(
+                    new UserRegistered(user.getId(), user.getUsername(), user.getEmail(), user.getRole())));
+        });
+    }
+
+    /**
+     * Records a rejected row, keeping at most {@code maxReportedErrors} details.
+     */
+    private void reject(BulkImportResponse summary, long index, String message) {
+        summary.setFailed(summary.getFailed() + 1);
+        if (summary.getErrors().size() < maxReportedErrors) {
+            summary.getErrors().add(new ImportRecordError(index, message));
+        } else {
+            summary.setErrorsTruncated(true);
+        }
+    }
+
+    /** Maps a row to a new user; the BCrypt hash makes this the expensive step. */
+    private User toEntity(RegisterRequest request) {
+        User user = new User();
+        user.setUsername(request.getUsername());
+        user.setEmail(request.getEmail());
+        user.setPassword(passwordEncoder.encode(request.getPassword()));
+        user.setRole(request.getRole().toUpperCase());
+        user.setFirstName(request.getFirstName());
+        user.setLastName(request.getLastName());
+        user.setAddress(request.getAddress());
+        user.setCompanyName(request.getCompanyName());
+        user.setPhoneNumber(request.getPhoneNumber());
+        return user;
+    }
+
+    /** A valid row waiting for its chunk to be processed, with its position in the file. */
+    private static final class PendingUser {
+        private final long index;
+        private final RegisterRequest request;
+
+        private PendingUser(long index, RegisterRequest request) {
+            this.index = index;
+            this.request = request;
+        }
+    }
+}
@@ -1,15 +1,31 @@
 package com.example.jobappbackend.service;
 
+import com.example.jobappbackend.config.CacheConfig;
+import com.example.jobappbackend.dto.AvailabilityResponse;
+import com.example.jobappbackend.dto.PageResponse;
 import com.example.jobappbackend.dto.RegisterRequest;
 import com.example.jobappbackend.dto.UserResponse;
+import com.example.jobappbackend.dto.UserSummaryResponse;
+import com.example.jobappbackend.event.UserDeleted;
+import com.example.jobappbackend.event.UserRegistered;
+import com.example.jobappbackend.event.UserUpdated;
 import com.example.jobappbackend.exception.ApiException;
 import com.example.jobappbackend.model.User;
+import com.example.jobappbackend.repository.ApplicationRepository;
+import com.example.jobappbackend.repository.OfferRepository;
 import com.example.jobappbackend.repository.UserRepository;
+import io.micrometer.core.annotation.Timed;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
 import org.springframework.security.core.userdetails.*;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 import java.util.Optional;
@@ -19,22 +35,42 @@ import java.util.Optional;
  * Implements {@link UserDetailsService} to integrate with Spring Security.
  */
 @Service
+@Timed(value = "jobapp.service", histogram = true)
 public class UserService implements UserDetailsService {
 
+    /** Largest page the user directory returns. */
+    public static final int MAX_DIRECTORY_PAGE_SIZE = 100;
+
     private final UserRepository userRepository;
+    private final OfferRepository offerRepository;
+    private final ApplicationRepository applicationRepository;
     private final PasswordEncoder passwordEncoder;
+    private final UserIdentifierIndex userIdentifierIndex;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * Constructs a {@code UserService} with the required dependencies.
      *
-     * @param userRepository  the repository used to access user data
-     * @param passwordEncoder the encoder used to hash user passwords
+     * @param userRepository        the repository used to access user data
+     * @param offerRepository       the repository used to delete the offers of a company
+     * @param applicationRepository the repository used to delete the applications of a user
+     * @param passwordEncoder       the encoder used to hash user passwords
+     * @param userIdentifierIndex   the in-memory index of taken usernames and emails
+     * @param eventPublisher        the publisher of the user domain events
      */
     @Autowired
     public UserService(UserRepository userRepository,
-                       PasswordEncoder passwordEncoder) {
+                       OfferRepository offerRepository,
+                       ApplicationRepository applicationRepository,
+                       PasswordEncoder passwordEncoder,
+                       UserIdentifierIndex userIdentifierIndex,
+                       ApplicationEventPublisher eventPublisher) {
         this.userRepository = userRepository;
+        this.offerRepository = offerRepository;
+        this.applicationRepository = applicationRepository;
         this.passwordEncoder = passwordEncoder;
+        this.userIdentifierIndex = userIdentifierIndex;
+        this.eventPublisher = eventPublisher;
     }
 
     /**
@@ -56,18 +92,35 @@ public class UserService implements UserDetailsService {
                 .build();
     }
 
+    /**
+     * Tells whether a username and/or an email are still free.
+     * Values the in-memory index has never seen are answered without querying the database.
+     *
+     * @param username the username to check, or null
+     * @param email    the email to check, or null
+     * @return the availability of each given value
+     */
+    public AvailabilityResponse checkAvailability(String username, String email) {
+        Boolean usernameAvailable = username == null ? null : !isUsernameTaken(username);
+        Boolean emailAvailable = email == null ? null : !isEmailTaken(email);
+        return new AvailabilityResponse(usernameAvailable, emailAvailable);
+    }
+
     /**
      * Registers a new user using the provided registration request.
+     * <p>
+     * Existence queries only run when the in-memory index reports a possible clash;
+     * otherwise uniqueness is guaranteed by the database constraints on insert.
      *
      * @param request the registration request containing user credentials
      * @return the created user as a {@link UserResponse}
      * @throws ApiException if the username or email already exists
      */
     public UserResponse register(RegisterRequest request) {
-        if (userRepository.existsByUsername(request.getUsername())) {
+        if (isUsernameTaken(request.getUsername())) {
             throw new ApiException("Username already taken");
         }
-        if (userRepository.existsByEmail(request.getEmail())) {
+        if (isEmailTaken(request.getEmail())) {
             throw new ApiException("Email already in use");
         }
 
@@ -82,7 +135,14 @@ public class UserService implements UserDetailsService {
         user.setCompanyName(request.getCompanyName());
         user.setPhoneNumber(request.getPhoneNumber());
 
-        User savedUser = userRepository.save(user);
+        User savedUser;
+        try {
+            savedUser = userRepository.saveAndFlush(user);
+        } catch (DataIntegrityViolationException e) {
+            throw duplicateError(request.getUsername());
+        }
+        eventPublisher.publishEvent(new UserRegistered(savedUser.getId(), savedUser.getUsername(),
+                savedUser.getEmail(), savedUser.getRole()));
         return toResponse(savedUser);
     }
 
@@ -97,6 +157,33 @@ public class UserService implements UserDetailsService {
                 .toList();
     }
 
+    /**
+     * Searches the user directory with server-side pagination.
+     *
+     * @param role  the role to filter on (case-insensitive), or null/blank for all roles
+     * @param query text partially matching the username, email, names or company name, or null/blank
+     * @param page  zero-based page number
+     * @param size  page size (capped at {@value #MAX_DIRECTORY_PAGE_SIZE})
+     * @return one page of {@link UserSummaryResponse}, sorted by username
+     */
+    public PageResponse<UserSummaryResponse> searchUsers(String role, String query, int page, int size) {
+        String roleFilter = role == null || role.isBlank() ? null : role.trim().toUpperCase();
+        String pattern = query == null || query.isBlank() ? null : "%" + escapeLike(query.trim().toLowerCase()) + "%";
+        PageRequest pageRequest = PageRequest.of(
+                Math.max(page, 0),
+                Math.min(Math.max(size, 1), MAX_DIRECTORY_PAGE_SIZE),
+                Sort.by("username").and(Sort.by("id"))
+        );
+        return PageResponse.of(userRepository.searchDirectory(roleFilter, pattern, pageRequest));
+    }
+
+    /**
+     * Escapes the LIKE wildcards of user input (backslash is PostgreSQL's default escape character).
+     */
+    private static String escapeLike(String value) {
+        return value.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+    }
+
     /**
      * Updates an existing user by ID with the provided information (no password change here).
      *
@@ -109,12 +196,13 @@ public class UserService implements UserDetailsService {
         User user = userRepository.findById(id)
                 .orElseThrow(() -> new ApiException("User not found"));
 
-        if (!user.getUsername().equals(request.getUsername())
-                && userRepository.existsByUsername(request.getUsername())) {
+        String previousUsername = user.getUsername();
+        String previousEmail = user.getEmail();
+        boolean usernameChanged = !previousUsername.equals(request.getUsername());
+        if (usernameChanged && isUsernameTaken(request.getUsername())) {
             throw new ApiException("Username already taken");
         }
-        if (!user.getEmail().equals(request.getEmail())
-                && userRepository.existsByEmail(request.getEmail())) {
+        if (!previousEmail.equals(request.getEmail()) && isEmailTaken(request.getEmail())) {
             throw new ApiException("Email already in use");
         }
 
@@ -127,23 +215,68 @@ public class UserService implements UserDetailsService {
         user.setCompanyName(request.getCompanyName());
         user.setPhoneNumber(request.getPhoneNumber());
 
-        User savedUser = userRepository.save(user);
+        User savedUser;
+        try {
+            savedUser = userRepository.saveAndFlush(user);
+        } catch (DataIntegrityViolationException e) {
+            throw usernameChanged ? duplicateError(request.getUsername()) : new ApiException("Email already in use");
+        }
+        eventPublisher.publishEvent(new UserUpdated(savedUser.getId(), previousUsername, previousEmail,
+                savedUser.getUsername(), savedUser.getEmail()));
         return toResponse(savedUser);
     }
 
     /**
-     * Deletes a user from the database by their ID.
+     * Deletes a user from the database by their ID, together with their applications,
+     * their offers and the applications to those offers.
+     * <p>
+     * Runs three set-based statements instead of loading and removing each child entity.
+     * For very large graphs, prefer {@link UserDeletionService#submit(Long)}.
      *
      * @param id the ID of the user to delete
      * @throws ApiException if the user does not exist
      */
+    @Transactional
     public void deleteUser(Long id) {
-        if (!userRepository.existsById(id)) {
-            throw new ApiException("User not found");
-        }
-        userRepository.deleteById(id);
+        UserRepository.Identifiers identifiers = userRepository.findIdentifiersById(id)
+                .orElseThrow(() -> new ApiException("User not found"));
+
+        applicationRepository.deleteAllInvolvingUser(id);
+        offerRepository.deleteAllByCreatedById(id);
+        userRepository.deleteUserById(id);
+        eventPublisher.publishEvent(new UserDeleted(id, identifiers.getUsername(), identifiers.getEmail()));
+    }
+
+    /** Confirms a possible username clash reported by the index against the database. */
+    private boolean isUsernameTaken(String username) {
+        return userIdentifierIndex.mightContainUsername(username) && userRepository.existsByUsername(username);
+    }
+
+    /** Confirms a possible email clash reported by the index against the database. */
+    private boolean isEmailTaken(String email) {
+        return userIdentifierIndex.mightContainEmail(email) && userRepository.existsByEmail(email);
     }
 
+    /**
+     * Builds the error for an insert or update rejected by a unique constraint.
+     *
+     * @param username the username that was written
+     * @return the exception to throw
+     */
+    private ApiException duplicateError(String username) {
+        return userRepository.existsByUsername(username)
+                ? new ApiException("Username already taken")
+                : new ApiException("Email already in use");
+    }
+
+    /**
+     * Looks up a user by username, for the authentication of each request.
+     * Cached, including misses; the returned entity is shared and must not be modified.
+     *
+     * @param username the username
+     * @return the user, if any
+     */
+    @Cacheable(cacheNames = CacheConfig.USERS, key = "#username")
     public Optional<User> findByUsername(String username) {
         return userRepository.findByUsername(username);
     }
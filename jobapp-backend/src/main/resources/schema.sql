@@ -0,0 +1,63 @@
+-- Idempotent schema additions, run after Hibernate's schema update
+-- (spring.jpa.defer-datasource-initialization=true).
+
+-- Moves the ID sequences past the existing rows: tables created when IDs were IDENTITY columns
+-- already hold rows, while the sequences created by the schema update start at 1. This runs
+-- before the web server accepts requests, so no insert can draw an ID from an unaligned block.
+SELECT setval('jobapp_user_seq', m) FROM (SELECT MAX(id) AS m FROM jobapp_user) t
+    WHERE m IS NOT NULL AND m >= (SELECT last_value FROM jobapp_user_seq);
+SELECT setval('jobapp_offer_seq', m) FROM (SELECT MAX(id) AS m FROM jobapp_offer) t
+    WHERE m IS NOT NULL AND m >= (SELECT last_value FROM jobapp_offer_seq);
+SELECT setval('applications_seq', m) FROM (SELECT MAX(id) AS m FROM applications) t
+    WHERE m IS NOT NULL AND m >= (SELECT last_value FROM applications_seq);
+
+-- Trigram indexes backing the partial-match search of the admin user directory.
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+CREATE INDEX IF NOT EXISTS idx_jobapp_user_username_trgm ON jobapp_user USING gin (lower(username) gin_trgm_ops);
+CREATE INDEX IF NOT EXISTS idx_jobapp_user_email_trgm ON jobapp_user USING gin (lower(email) gin_trgm_ops);
+CREATE INDEX IF NOT EXISTS idx_jobapp_user_first_name_trgm ON jobapp_user USING gin (lower(first_name) gin_trgm_ops);
+CREATE INDEX IF NOT EXISTS idx_jobapp_user_last_name_trgm ON jobapp_user USING gin (lower(last_name) gin_trgm_ops);
+CREATE INDEX IF NOT EXISTS idx_jobapp_user_company_name_trgm ON jobapp_user USING gin (lower(company_name) gin_trgm_ops);
+CREATE INDEX IF NOT EXISTS idx_jobapp_user_role_username ON jobapp_user (role, username);
+
+-- Offer lifecycle. Offers created before the lifecycle columns existed are open since their creation.
+-- The partial indexes only cover open offers: the feed and the expiry job never read the
+-- closed or expired history, however large it grows.
+UPDATE jobapp_offer SET status = 'OPEN', publish_at = created_at WHERE status IS NULL;
+CREATE INDEX IF NOT EXISTS idx_jobapp_offer_open ON jobapp_offer (id) WHERE status = 'OPEN';
+CREATE INDEX IF NOT EXISTS idx_jobapp_offer_open_expiry ON jobapp_offer (expires_at)
+    WHERE status = 'OPEN' AND expires_at IS NOT NULL;
+
+-- Striped applicant counters of the offers (see OfferApplicantCounter). Filled once from the
+-- existing applications when the table is first created.
+CREATE TABLE IF NOT EXISTS offer_applicant_count (
+    offer_id   BIGINT   NOT NULL REFERENCES jobapp_offer (id) ON DELETE CASCADE,
+    stripe     SMALLINT NOT NULL,
+    applicants BIGINT   NOT NULL,
+    PRIMARY KEY (offer_id, stripe)
+);
+INSERT INTO offer_applicant_count (offer_id, stripe, applicants)
+    SELECT offre_id, 0, count(*) FROM applications
+    WHERE NOT EXISTS (SELECT 1 FROM offer_applicant_count)
+    GROUP BY offre_id
+    ON CONFLICT (offer_id, stripe) DO NOTHING;
+
+-- Leases and run history of the cluster jobs (see ClusterJobScheduler).
+CREATE TABLE IF NOT EXISTS scheduled_job_lease (
+    name         VARCHAR(100) PRIMARY KEY,
+    locked_at    TIMESTAMPTZ  NOT NULL,
+    locked_until TIMESTAMPTZ  NOT NULL,
+    locked_by    VARCHAR(100) NOT NULL
+);
+CREATE TABLE IF NOT EXISTS scheduled_job_run (
+    id          BIGSERIAL PRIMARY KEY,
+    job_name    VARCHAR(100) NOT NULL,
+    node_id     VARCHAR(100) NOT NULL,
+    started_at  TIMESTAMPTZ  NOT NULL,
+    deadline    TIMESTAMPTZ  NOT NULL,
+    finished_at TIMESTAMPTZ,
+    status      VARCHAR(20)  NOT NULL,
+    error       TEXT
+);
+CREATE INDEX IF NOT EXISTS idx_scheduled_job_run_job_started ON scheduled_job_run (job_name, started_at DESC);
+CREATE INDEX IF NOT EXISTS idx_scheduled_job_run_running ON scheduled_job_run (deadline) WHERE status = 'RUNNING';
@@ -0,0 +1,112 @@
+package com.example.jobappbackend;
+
+import com.example.jobappbackend.controller.AdminExportController;
+import com.example.jobappbackend.dto.ExportFormat;
+import com.example.jobappbackend.exception.GlobalExceptionHandler;
+import com.example.jobappbackend.service.ExportService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * Unit tests for {@link AdminExportController} using standalone {@link MockMvc}.
+ * <p>
+ * The export service is mocked; the streamed body is produced through an async dispatch,
+ * as with a real servlet container.
+ */
+@ExtendWith(MockitoExtension.class)
+class AdminExportControllerTest {
+
+    /** Mocked service writing the exports. */
+    @Mock
+    private ExportService exportService;
+
+    /** Controller under test with mocked dependencies injected by Mockito. */
+    @InjectMocks
+    private AdminExportController adminExportController;
+
+    /** Standalone MockMvc client bound to the controller under test. */
+    private MockMvc mockMvc;
+
+    /**
+     * Initializes {@link MockMvc} with the controller and global exception handler.
+     */
+    @BeforeEach
+    void setUp() {
+        mockMvc = MockMvcBuilders
+                .standaloneSetup(adminExportController)
+                .setControllerAdvice(new GlobalExceptionHandler())
+                .build();
+    }
+
+    /**
+     * Should stream the users as CSV by default, as a downloadable file.
+     *
+     * @throws Exception if the HTTP call fails
+     */
+    @Test
+    void shouldExportUsersAsCsv() throws Exception {
+        doAnswer(invocation -> {
+            OutputStream out = invocation.getArgument(0);
+            out.write("id,username\n1,johnDoe\n".getBytes(StandardCharsets.UTF_8));
+            return null;
+        }).when(exportService).exportUsers(any(OutputStream.class), eq(ExportFormat.CSV));
+
+        MvcResult result = mockMvc.perform(get("/admin/exports/users"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Content-Disposition", "attachment; filename=\"users.csv\""))
+                .andExpect(content().string("id,username\n1,johnDoe\n"));
+
+        verify(exportService).exportUsers(any(OutputStream.class), eq(ExportFormat.CSV));
+    }
+
+    /**
+     * Should stream all applications as NDJSON when requested.
+     *
+     * @throws Exception if the HTTP call fails
+     */
+    @Test
+    void shouldExportApplicationsAsNdjson() throws Exception {
+        MvcResult result = mockMvc.perform(get("/admin/exports/applications").param("format", "ndjson"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Content-Type", "application/x-ndjson"));
+
+        verify(exportService).exportApplications(any(OutputStream.class), eq(ExportFormat.NDJSON), isNull());
+    }
+
+    /**
+     * Should return 400 Bad Request for an unsupported format, without touching the database.
+     *
+     * @throws Exception if the HTTP call fails
+     */
+    @Test
+    void shouldReturnBadRequestForUnsupportedFormat() throws Exception {
+        mockMvc.perform(get("/admin/exports/users").param("format", "xml"))
+                .andExpect(status().isBadRequest());
+
+        verifyNoInteractions(exportService);
+    }
+}
@@ -0,0 +1,106 @@
+package com.example.jobappbackend;
+
+import com.example.jobappbackend.controller.AdminJobController;
+import com.example.jobappbackend.dto.JobRunResponse;
+import com.example.jobappbackend.dto.ScheduledJobResponse;
+import com.example.jobappbackend.exception.ApiException;
+import com.example.jobappbackend.exception.GlobalExceptionHandler;
+import com.example.jobappbackend.service.ClusterJobScheduler;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * Unit tests for {@link AdminJobController} using standalone {@link MockMvc}.
+ * <p>
+ * The scheduler is mocked: no job is triggered.
+ */
+@ExtendWith(MockitoExtension.class)
+class AdminJobControllerTest {
+
+    /** Mocked scheduler of the cluster jobs. */
+    @Mock
+    private ClusterJobScheduler clusterJobScheduler;
+
+    /** Controller under test with mocked dependencies injected by Mockito. */
+    @InjectMocks
+    private AdminJobController adminJobController;
+
+    /** Standalone MockMvc client bound to the controller under test. */
+    private MockMvc mockMvc;
+
+    /**
+     * Initializes {@link MockMvc} with the controller and global exception handler.
+     */
+    @BeforeEach
+    void setUp() {
+        mockMvc = MockMvcBuilders
+                .standaloneSetup(adminJobController)
+                .setControllerAdvice(new GlobalExceptionHandler())
+                .build();
+    }
+
+    /**
+     * Should list the jobs with the node holding their lease.
+     *
+     * @throws Exception if the HTTP call fails
+     */
+    @Test
+    void shouldListJobs() throws Exception {
+        when(clusterJobScheduler.getJobs()).thenReturn(List.of(
+                new ScheduledJobResponse("job-run-history-cleanup", "cron 0 0 * * * *", 300, "node-a",
+                        LocalDateTime.now().plusMinutes(5))));
+
+        mockMvc.perform(get("/admin/jobs"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].name").value("job-run-history-cleanup"))
+                .andExpect(jsonPath("$[0].lockedBy").value("node-a"));
+    }
+
+    /**
+     * Should return the latest runs of a job with the requested limit.
+     *
+     * @throws Exception if the HTTP call fails
+     */
+    @Test
+    void shouldReturnRuns() throws Exception {
+        LocalDateTime start = LocalDateTime.now().minusMinutes(1);
+        when(clusterJobScheduler.getRuns("job-run-history-cleanup", 5)).thenReturn(List.of(
+                new JobRunResponse(42L, "job-run-history-cleanup", "node-b", "TIMED_OUT", start, start.plusMinutes(5),
+                        "Timed out after PT5M")));
+
+        mockMvc.perform(get("/admin/jobs/job-run-history-cleanup/runs").param("limit", "5"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].id").value(42))
+                .andExpect(jsonPath("$[0].nodeId").value("node-b"))
+                .andExpect(jsonPath("$[0].status").value("TIMED_OUT"));
+
+        verify(clusterJobScheduler).getRuns("job-run-history-cleanup", 5);
+    }
+
+    /**
+     * Should return 400 Bad Request for an unknown job.
+     *
+     * @throws Exception if the HTTP call fails
+     */
+    @Test
+    void shouldRejectUnknownJob() throws Exception {
+        when(clusterJobScheduler.getRuns("nope", 20)).thenThrow(new ApiException("Job not found"));
+
+        mockMvc.perform(get("/admin/jobs/nope/runs"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value("Job not found"));
+    }
+}
@@ -0,0 +1,104 @@
+package com.example.jobappbackend;
+
+import com.example.jobappbackend.controller.AdminProfilingController;
+import com.example.jobappbackend.dto.ProfilingRecordingResponse;
+import com.example.jobappbackend.exception.ApiException;
+import com.example.jobappbackend.exception.GlobalExceptionHandler;
+import com.example.jobappbackend.service.ProfilingService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * Unit tests for {@link AdminProfilingController} using standalone {@link MockMvc}.
+ * <p>
+ * The profiling service is mocked: no flight recording is started.
+ */
+@ExtendWith(MockitoExtension.class)
+class AdminProfilingControllerTest {
+
+    /** Mocked service managing the recordings. */
+    @Mock
+    private ProfilingService profilingService;
+
+    /** Controller under test with mocked dependencies injected by Mockito. */
+    @InjectMocks
+    private AdminProfilingController adminProfilingController;
+
+    /** Standalone MockMvc client bound to the controller under test. */
+    private MockMvc mockMvc;
+
+    /**
+     * Initializes {@link MockMvc} with the controller and global exception handler.
+     */
+    @BeforeEach
+    void setUp() {
+        mockMvc = MockMvcBuilders
+                .standaloneSetup(adminProfilingController)
+                .setControllerAdvice(new GlobalExceptionHandler())
+                .build();
+    }
+
+    /**
+     * Should return 202 Accepted with the running recording.
+     *
+     * @throws Exception if the HTTP call fails
+     */
+    @Test
+    void shouldStartRecording() throws Exception {
+        when(profilingService.start(30L)).thenReturn(
+                new ProfilingRecordingResponse(7L, "RUNNING", LocalDateTime.now(), 30L, null));
+
+        mockMvc.perform(post("/admin/profiling/recordings").param("durationSeconds", "30"))
+                .andExpect(status().isAccepted())
+                .andExpect(jsonPath("$.id").value(7))
+                .andExpect(jsonPath("$.state").value("RUNNING"));
+
+        verify(profilingService).start(30L);
+    }
+
+    /**
+     * Should download a finished recording as an attachment.
+     *
+     * @param tempDir temporary directory holding the fake recording
+     * @throws Exception if the HTTP call fails
+     */
+    @Test
+    void shouldDownloadFinishedRecording(@TempDir Path tempDir) throws Exception {
+        Path file = Files.write(tempDir.resolve("jobapp-7.jfr"), new byte[]{1, 2, 3});
+        when(profilingService.getFile(7L)).thenReturn(file);
+
+        mockMvc.perform(get("/admin/profiling/recordings/7/file"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Content-Disposition", "attachment; filename=\"jobapp-7.jfr\""))
+                .andExpect(content().bytes(new byte[]{1, 2, 3}));
+    }
+
+    /**
+     * Should return 400 Bad Request when the recording is still running.
+     *
+     * @throws Exception if the HTTP call fails
+     */
+    @Test
+    void shouldRejectDownloadWhileRunning() throws Exception {
+        when(profilingService.getFile(7L)).thenThrow(new ApiException("The recording is not finished yet."));
+
+        mockMvc.perform(get("/admin/profiling/recordings/7/file"))
+                .andExpect(status().isBadRequest());
+    }
+}
@@ -1,9 +1,16 @@
 package com.example.jobappbackend;
 
 import com.example.jobappbackend.controller.AdminUserController;
+import com.example.jobappbackend.dto.BulkImportResponse;
+import com.example.jobappbackend.dto.DeletionJobResponse;
+import com.example.jobappbackend.dto.PageResponse;
 import com.example.jobappbackend.dto.RegisterRequest;
 import com.example.jobappbackend.dto.UserResponse;
+import com.example.jobappbackend.dto.UserSummaryResponse;
+import com.example.jobappbackend.exception.ApiException;
 import com.example.jobappbackend.exception.GlobalExceptionHandler;
+import com.example.jobappbackend.service.UserDeletionService;
+import com.example.jobappbackend.service.UserProvisioningService;
 import com.example.jobappbackend.service.UserService;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.BeforeEach;
@@ -15,6 +22,9 @@ import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.*;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 
+import java.io.InputStream;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.assertTrue;
@@ -39,6 +49,14 @@ class AdminUserControllerTest {
     @Mock
     private UserService userService;
 
+    /** Mocked service running background user deletions. */
+    @Mock
+    private UserDeletionService userDeletionService;
+
+    /** Mocked service creating users in bulk. */
+    @Mock
+    private UserProvisioningService userProvisioningService;
+
     /** Controller under test with mocked dependencies injected by Mockito. */
     @InjectMocks
     private AdminUserController adminUserController;
@@ -295,4 +313,130 @@ class AdminUserControllerTest {
         verify(userService).getAllUsers();
         verifyNoMoreInteractions(userService);
     }
+
+    /**
+     * Should return 202 Accepted and the job state when a background deletion is started.
+     *
+     * @throws Exception if the HTTP call fails
+     */
+    @Test
+    void shouldStartDeletionJob() throws Exception {
+        DeletionJobResponse job = new DeletionJobResponse(
+                "job-1", 1L, "PENDING", 0, 0, 0, LocalDateTime.now(), null, null
+        );
+        when(userDeletionService.submit(1L)).thenReturn(job);
+
+        MvcResult result = mockMvc.perform(post("/admin/users/1/deletion-jobs"))
+                .andExpect(status().isAccepted())
+                .andReturn();
+
+        assertTrue(result.getResponse().getContentAsString().contains("job-1"));
+
+        verify(userDeletionService).submit(1L);
+        verifyNoInteractions(userService);
+    }
+
+    /**
+     * Should return 400 Bad Request when the polled deletion job is unknown.
+     *
+     * @throws Exception if the HTTP call fails
+     */
+    @Test
+    void shouldReturnBadRequestForUnknownDeletionJob() throws Exception {
+        when(userDeletionService.getJob("missing"))
+                .thenThrow(new ApiException("Deletion job not found"));
+
+        mockMvc.perform(get("/admin/users/deletion-jobs/missing"))
+                .andExpect(status().isBadRequest());
+
+        verify(userDeletionService).getJob("missing");
+        verifyNoMoreInteractions(userDeletionService);
+    }
+
+    /**
+     * Should return 200 OK and the summary when a CSV file of users is posted.
+     *
+     * @throws Exception if the HTTP call fails
+     */
+    @Test
+    void shouldImportUsersFromCsv() throws Exception {
+        BulkImportResponse summary = new BulkImportResponse(2, 2, 0, false, new ArrayList<>(), false);
+        when(userProvisioningService.provision(any(InputStream.class), eq(true))).thenReturn(summary);
+
+        MvcResult result = mockMvc.perform(post("/admin/users/import")
+                        .contentType("text/csv")
+                        .content("username,email,password,role\n"
+                                + "alice,alice@example.com,secret1,STUDENT\n"
+                                + "bob,bob@example.com,secret2,STUDENT\n"))
+                .andExpect(status().isOk())
+                .andReturn();
+
+        assertTrue(result.getResponse().getContentAsString().contains("\"imported\":2"));
+
+        verify(userProvisioningService).provision(any(InputStream.class), eq(true));
+        verifyNoInteractions(userService);
+    }
+
+    /**
+     * Should treat an NDJSON body as JSON records, not CSV.
+     *
+     * @throws Exception if the HTTP call fails
+     */
+    @Test
+    void shouldImportUsersFromNdjson() throws Exception {
+        BulkImportResponse summary = new BulkImportResponse(1, 1, 0, false, new ArrayList<>(), false);
+        when(userProvisioningService.provision(any(InputStream.class), eq(false))).thenReturn(summary);
+
+        mockMvc.perform(post("/admin/users/import")
+                        .contentType(MediaType.APPLICATION_NDJSON)
+                        .content("{\"username\":\"alice\",\"email\":\"alice@example.com\",\"password\":\"s\",\"role\":\"STUDENT\"}\n"))
+                .andExpect(status().isOk());
+
+        verify(userProvisioningService).provision(any(InputStream.class), eq(false));
+    }
+
+    /**
+     * Should return 200 OK and one page of the directory, forwarding filters and paging.
+     *
+     * @throws Exception if the HTTP call fails
+     */
+    @Test
+    void shouldSearchUserDirectory() throws Exception {
+        UserSummaryResponse summary = new UserSummaryResponse(
+                1L, "johnDoe", "john@example.com", "STUDENT", "John", "Doe", null
+        );
+        when(userService.searchUsers("STUDENT", "john", 2, 50))
+                .thenReturn(new PageResponse<>(List.of(summary), 2, 50, 101, 3));
+
+        MvcResult result = mockMvc.perform(get("/admin/users/directory")
+                        .param("role", "STUDENT")
+                        .param("q", "john")
+                        .param("page", "2")
+                        .param("size", "50"))
+                .andExpect(status().isOk())
+                .andReturn();
+
+        String response = result.getResponse().getContentAsString();
+        assertTrue(response.contains("johnDoe"));
+        assertTrue(response.contains("\"totalElements\":101"));
+
+        verify(userService).searchUsers("STUDENT", "john", 2, 50);
+        verifyNoMoreInteractions(userService);
+    }
+
+    /**
+     * Should use the first page of 20 users without filters by default.
+     *
+     * @throws Exception if the HTTP call fails
+     */
+    @Test
+    void shouldSearchUserDirectoryWithDefaults() throws Exception {
+        when(userService.searchUsers(null, null, 0, 20))
+                .thenReturn(new PageResponse<>(List.of(), 0, 20, 0, 0));
+
+        mockMvc.perform(get("/admin/users/directory"))
+                .andExpect(status().isOk());
+
+        verify(userService).searchUsers(null, null, 0, 20);
+    }
 }
@@ -0,0 +1,74 @@
+package com.example.jobappbackend;
+
+import com.example.jobappbackend.service.ApplicationAttachmentStore;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.scheduling.TaskScheduler;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Duration;
+import java.time.Instant;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Unit tests for the sweep of {@link ApplicationAttachmentStore}, which deletes the files left
+ * behind by a node that stopped before sending their notification.
+ */
+@ExtendWith(MockitoExtension.class)
+class ApplicationAttachmentStoreTest {
+
+    @Mock
+    private TaskScheduler taskScheduler;
+
+    @TempDir
+    private Path directory;
+
+    /**
+     * Should delete the stored files older than the retention, and only them.
+     *
+     * @throws IOException if the files cannot be created
+     */
+    @Test
+    void shouldDeleteStoredFilesOlderThanTheRetention() throws IOException {
+        Path stale = file("attachment-1.upload", Duration.ofHours(25));
+        Path recent = file("attachment-2.upload", Duration.ofHours(1));
+        Path other = file("notes.txt", Duration.ofDays(30));
+
+        int deleted = store().sweep();
+
+        assertEquals(1, deleted);
+        assertFalse(Files.exists(stale));
+        assertTrue(Files.exists(recent));
+        assertTrue(Files.exists(other));
+    }
+
+    /**
+     * Should do nothing while no file was ever stored.
+     */
+    @Test
+    void shouldIgnoreAMissingDirectory() {
+        ApplicationAttachmentStore store = new ApplicationAttachmentStore(directory.resolve("missing"),
+                Duration.ofHours(24), Duration.ofHours(1), taskScheduler, true);
+
+        assertEquals(0, store.sweep());
+    }
+
+    private ApplicationAttachmentStore store() {
+        return new ApplicationAttachmentStore(directory, Duration.ofHours(24), Duration.ofHours(1), taskScheduler, true);
+    }
+
+    private Path file(String name, Duration age) throws IOException {
+        Path file = Files.writeString(directory.resolve(name), "CV");
+        Files.setLastModifiedTime(file, FileTime.from(Instant.now().minus(age)));
+        return file;
+    }
+}
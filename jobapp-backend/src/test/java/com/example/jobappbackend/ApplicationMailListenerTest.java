@@ -0,0 +1,120 @@
+package com.example.jobappbackend;
+
+import com.example.jobappbackend.event.ApplicationSubmitted;
+import com.example.jobappbackend.service.ApplicationAttachmentStore;
+import com.example.jobappbackend.service.ApplicationMailListener;
+import com.example.jobappbackend.service.EmailService;
+import jakarta.mail.Multipart;
+import jakarta.mail.Session;
+import jakarta.mail.internet.MimeMessage;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mail.MailSendException;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for {@link ApplicationMailListener}, which emails committed applications to the company.
+ */
+@ExtendWith(MockitoExtension.class)
+class ApplicationMailListenerTest {
+
+    @Mock
+    private EmailService emailService;
+
+    @Mock
+    private ApplicationAttachmentStore attachmentStore;
+
+    @InjectMocks
+    private ApplicationMailListener listener;
+
+    @TempDir
+    private Path uploads;
+
+    @BeforeEach
+    void setUp() {
+        when(emailService.createMessage()).thenAnswer(invocation -> new MimeMessage((Session) null));
+    }
+
+    private ApplicationSubmitted application() throws IOException {
+        return new ApplicationSubmitted(10L, 1L, "Internship", 2L, "student@example.com",
+                3L, "hr@acme.com", "Acme", List.of(
+                new ApplicationSubmitted.Attachment("cv.pdf", "application/pdf",
+                        Files.writeString(uploads.resolve("cv.upload"), "CV")),
+                new ApplicationSubmitted.Attachment("motivation.pdf", null,
+                        Files.writeString(uploads.resolve("motivation.upload"), "Motivation"))));
+    }
+
+    /**
+     * Should send one email to the company with both uploaded files attached.
+     *
+     * @throws Exception if the message cannot be read
+     */
+    @Test
+    void shouldEmailApplicationWithAttachments() throws Exception {
+        ApplicationSubmitted application = application();
+
+        listener.on(application);
+
+        ArgumentCaptor<MimeMessage> sent = ArgumentCaptor.forClass(MimeMessage.class);
+        verify(emailService).send(sent.capture());
+        MimeMessage message = sent.getValue();
+        message.saveChanges();
+
+        assertEquals("hr@acme.com", message.getAllRecipients()[0].toString());
+        assertEquals("New Job Application for: Internship", message.getSubject());
+        Multipart mixed = (Multipart) message.getContent();
+        assertEquals(3, mixed.getCount());
+        assertEquals("cv.pdf", mixed.getBodyPart(1).getFileName());
+        assertEquals("motivation.pdf", mixed.getBodyPart(2).getFileName());
+        verify(attachmentStore).delete(application.getAttachments());
+    }
+
+    /**
+     * Should notify the company of an application made without files.
+     *
+     * @throws Exception if the message cannot be read
+     */
+    @Test
+    void shouldEmailApplicationWithoutAttachments() throws Exception {
+        listener.on(new ApplicationSubmitted(11L, 1L, "Internship", 2L, "student@example.com",
+                3L, "hr@acme.com", "Acme", List.of()));
+
+        ArgumentCaptor<MimeMessage> sent = ArgumentCaptor.forClass(MimeMessage.class);
+        verify(emailService).send(sent.capture());
+        MimeMessage message = sent.getValue();
+        message.saveChanges();
+
+        assertEquals(1, ((Multipart) message.getContent()).getCount());
+    }
+
+    /**
+     * Should not propagate a failed send: the application is already committed.
+     *
+     * @throws Exception if the message cannot be built
+     */
+    @Test
+    void shouldSwallowSendFailure() throws Exception {
+        doThrow(new MailSendException("SMTP error")).when(emailService).send(any());
+        ApplicationSubmitted application = application();
+
+        assertDoesNotThrow(() -> listener.on(application));
+        verify(attachmentStore).delete(application.getAttachments());
+    }
+}
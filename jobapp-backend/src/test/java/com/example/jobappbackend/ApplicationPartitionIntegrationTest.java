@@ -0,0 +1,162 @@
+package com.example.jobappbackend;
+
+import com.example.jobappbackend.service.ApplicationPartitionManager;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.BufferedReader;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Monthly partitioning of {@code applications} against a real PostgreSQL container
+ * ({@code ./gradlew integrationTest}).
+ * <p>
+ * The table created by Hibernate must be converted at startup, rows must land in the partition
+ * of their month, and old partitions must be detached and archived as gzipped CSV, unless they
+ * still hold applications to open offers.
+ */
+class ApplicationPartitionIntegrationTest extends PostgresIntegrationTest {
+
+    @TempDir
+    static Path archiveDir;
+
+    private static ConfigurableApplicationContext node;
+
+    @BeforeAll
+    static void startApplication() {
+        node = startNode(
+                "jobapp.scheduler.enabled=false",
+                "jobapp.applications.partitions.archive-after-months=24",
+                "jobapp.applications.partitions.archive-dir=" + archiveDir
+        );
+    }
+
+    @Test
+    void tableIsPartitionedWithUpcomingMonths() {
+        assertEquals("p", jdbc().queryForObject(
+                "SELECT relkind::text FROM pg_class WHERE relname = 'applications'", String.class));
+        List<YearMonth> months = manager().getPartitionMonths();
+        YearMonth now = YearMonth.now();
+        assertTrue(months.contains(now) && months.contains(now.plusMonths(3)), "partitions: " + months);
+    }
+
+    @Test
+    void queriesBoundedByDateOnlyScanMatchingPartitions() {
+        long[] ids = companyOfferAndStudent("prune");
+        insertApplication(ids[1], ids[2], LocalDateTime.now());
+
+        String plan = String.join("\n", jdbc().queryForList(
+                "EXPLAIN SELECT * FROM applications WHERE student_id = ? "
+                        + "AND applied_at >= date_trunc('month', LOCALTIMESTAMP) "
+                        + "AND applied_at < date_trunc('month', LOCALTIMESTAMP) + interval '1 month'",
+                String.class, ids[2]));
+        assertTrue(plan.contains(partition(YearMonth.now())), plan);
+        assertFalse(plan.contains(partition(YearMonth.now().plusMonths(1))), plan);
+    }
+
+    @Test
+    void rowsOfAMissingMonthAreMovedOutOfTheDefaultPartition() {
+        long[] ids = companyOfferAndStudent("late");
+        YearMonth month = YearMonth.now().plusMonths(8);
+        insertApplication(ids[1], ids[2], month.atDay(10).atStartOfDay());
+        assertEquals(1, count("applications_default"));
+
+        manager().ensurePartitions(month, month);
+
+        assertEquals(0, count("applications_default"));
+        assertEquals(1, count(partition(month)));
+    }
+
+    @Test
+    void oldPartitionsAreDetachedAndArchived() throws Exception {
+        long[] ids = companyOfferAndStudent("old");
+        jdbc().update("UPDATE jobapp_offer SET status = 'CLOSED' WHERE id = ?", ids[1]);
+        YearMonth old = YearMonth.now().minusMonths(30);
+        manager().ensurePartitions(old, old);
+        insertApplication(ids[1], ids[2], old.atDay(5).atStartOfDay());
+        String partition = partition(old);
+
+        manager().maintain();
+
+        assertFalse(manager().getPartitionMonths().contains(old));
+        assertEquals(0, jdbc().queryForObject(
+                "SELECT count(*) FROM pg_class WHERE relname = ?", Integer.class, partition));
+        Path file = archiveDir.resolve(partition + ".csv.gz");
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(
+                new GZIPInputStream(Files.newInputStream(file)), StandardCharsets.UTF_8))) {
+            assertEquals(2, reader.lines().count(), "header and one row");
+        }
+    }
+
+    @Test
+    void partitionsLeftDetachedAreArchived() {
+        long[] ids = companyOfferAndStudent("left");
+        YearMonth old = YearMonth.now().minusMonths(50);
+        manager().ensurePartitions(old, old);
+        insertApplication(ids[1], ids[2], old.atDay(5).atStartOfDay());
+        String partition = partition(old);
+        // As left by a node stopped between the detach and the export.
+        jdbc().execute("ALTER TABLE applications DETACH PARTITION " + partition);
+
+        manager().maintain();
+
+        assertEquals(0, jdbc().queryForObject(
+                "SELECT count(*) FROM pg_class WHERE relname = ?", Integer.class, partition));
+        assertTrue(Files.exists(archiveDir.resolve(partition + ".csv.gz")));
+    }
+
+    @Test
+    void oldPartitionsReferencingOpenOffersAreKept() {
+        long[] ids = companyOfferAndStudent("kept");
+        YearMonth old = YearMonth.now().minusMonths(40);
+        manager().ensurePartitions(old, old);
+        insertApplication(ids[1], ids[2], old.atDay(5).atStartOfDay());
+
+        manager().maintain();
+
+        assertTrue(manager().getPartitionMonths().contains(old), "the partition should stay attached");
+        assertEquals(1, count(partition(old)));
+    }
+
+    /** @return the IDs of a new company, of an open offer of it and of a new student */
+    private static long[] companyOfferAndStudent(String prefix) {
+        long company = insertUser(prefix + "-company", "COMPANY");
+        long offer = jdbc().queryForObject("INSERT INTO jobapp_offer (id, title, description, created_at, publish_at, "
+                + "status, user_id) VALUES (nextval('jobapp_offer_seq'), 'Intern', 'Partition test', now(), now(), "
+                + "'OPEN', ?) RETURNING id",
+                Long.class, company);
+        long student = insertUser(prefix + "-student", "STUDENT");
+        return new long[]{company, offer, student};
+    }
+
+    private static void insertApplication(long offerId, long studentId, LocalDateTime appliedAt) {
+        jdbc().update("INSERT INTO applications (id, applied_at, offre_id, student_id) "
+                + "VALUES (nextval('applications_seq'), ?, ?, ?)", Timestamp.valueOf(appliedAt), offerId, studentId);
+    }
+
+    private static String partition(YearMonth month) {
+        return String.format("applications_p%d_%02d", month.getYear(), month.getMonthValue());
+    }
+
+    private static int count(String table) {
+        return jdbc().queryForObject("SELECT count(*) FROM " + table, Integer.class);
+    }
+
+    private static ApplicationPartitionManager manager() {
+        return node.getBean(ApplicationPartitionManager.class);
+    }
+}
@@ -27,6 +27,7 @@ import java.util.Optional;
 
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 
 
 
@@ -142,6 +143,27 @@ class AuthControllerTest {
         verify(userService).register(any(RegisterRequest.class));
         verifyNoMoreInteractions(userService, jwtService, authService, authManager);
     }
+    /**
+     * Should return 200 OK and the availability of the username and email.
+     *
+     * @throws Exception if the HTTP call fails
+     */
+    @Test
+    void shouldReturnAvailability() throws Exception {
+        when(userService.checkAvailability("newuser", "taken@example.com"))
+                .thenReturn(new AvailabilityResponse(true, false));
+
+        mockMvc.perform(get("/auth/availability")
+                        .param("username", "newuser")
+                        .param("email", "taken@example.com"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.usernameAvailable").value(true))
+                .andExpect(jsonPath("$.emailAvailable").value(false));
+
+        verify(userService).checkAvailability("newuser", "taken@example.com");
+        verifyNoMoreInteractions(userService, userRepository);
+    }
+
     /**
      * Should return 200 OK and a JWT token when login succeeds.
      * <p>
@@ -0,0 +1,163 @@
+package com.example.jobappbackend;
+
+import com.example.jobappbackend.model.Application;
+import com.example.jobappbackend.model.Offer;
+import com.example.jobappbackend.model.User;
+import com.example.jobappbackend.repository.ApplicationRepository;
+import com.example.jobappbackend.repository.OfferRepository;
+import com.example.jobappbackend.repository.UserRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Benchmark proving that bulk inserts of offers and applications are sent as JDBC batches.
+ * <p>
+ * Runs against a real PostgreSQL container ({@code ./gradlew integrationTest}).
+ * Hibernate statistics are used to count the prepared statements: without batching,
+ * there would be at least one statement per inserted row.
+ */
+@Tag("integration")
+@Testcontainers
+@SpringBootTest(properties = {
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.show-sql=false",
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        "logging.level.org.hibernate.SQL=WARN",
+        "logging.level.org.hibernate.type.descriptor.sql.BasicBinder=WARN"
+})
+class BatchInsertBenchmarkTest {
+
+    private static final Logger log = LoggerFactory.getLogger(BatchInsertBenchmarkTest.class);
+
+    /** PostgreSQL container, with pgjdbc rewriting batched inserts into multi-row inserts. */
+    @Container
+    @ServiceConnection
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:16-alpine")
+            .withUrlParam("reWriteBatchedInserts", "true");
+
+    private static final int OFFER_COUNT = 2_000;
+    private static final int STUDENT_COUNT = 100;
+    private static final int APPLICATIONS_PER_STUDENT = 50;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private OfferRepository offerRepository;
+
+    @Autowired
+    private ApplicationRepository applicationRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private Statistics statistics;
+
+    private TransactionTemplate tx;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        tx = new TransactionTemplate(transactionManager);
+    }
+
+    /**
+     * Inserts offers then applications in bulk and checks that the number of prepared
+     * statements stays far below the number of inserted rows.
+     */
+    @Test
+    void bulkInsertsAreBatched() {
+        User company = tx.execute(status -> userRepository.save(user("company", "COMPANY")));
+        List<User> students = tx.execute(status -> {
+            List<User> batch = new ArrayList<>();
+            for (int i = 0; i < STUDENT_COUNT; i++) {
+                batch.add(user("student" + i, "STUDENT"));
+            }
+            return userRepository.saveAll(batch);
+        });
+
+        statistics.clear();
+        long start = System.nanoTime();
+        List<Offer> offers = tx.execute(status -> {
+            List<Offer> batch = new ArrayList<>();
+            for (int i = 0; i < OFFER_COUNT; i++) {
+                Offer offer = new Offer();
+                offer.setTitle("Offer " + i);
+                offer.setDescription("Description of offer " + i);
+                offer.setCreatedBy(company);
+                batch.add(offer);
+            }
+            return offerRepository.saveAll(batch);
+        });
+        report("offers", OFFER_COUNT, start);
+
+        statistics.clear();
+        start = System.nanoTime();
+        tx.executeWithoutResult(status -> {
+            List<Application> batch = new ArrayList<>();
+            for (int s = 0; s < STUDENT_COUNT; s++) {
+                for (int a = 0; a < APPLICATIONS_PER_STUDENT; a++) {
+                    Application application = new Application();
+                    application.setStudent(students.get(s));
+                    application.setOffer(offers.get((s * APPLICATIONS_PER_STUDENT + a) % OFFER_COUNT));
+                    application.setAppliedAt(LocalDateTime.now());
+                    batch.add(application);
+                }
+            }
+            applicationRepository.saveAll(batch);
+        });
+        report("applications", STUDENT_COUNT * APPLICATIONS_PER_STUDENT, start);
+
+        assertEquals(STUDENT_COUNT * APPLICATIONS_PER_STUDENT, applicationRepository.count());
+    }
+
+    /**
+     * Logs the figures of one bulk insert and asserts it was batched.
+     *
+     * @param label   what was inserted
+     * @param rows    number of inserted rows
+     * @param startNs start time in nanoseconds
+     */
+    private void report(String label, int rows, long startNs) {
+        long elapsedMs = (System.nanoTime() - startNs) / 1_000_000;
+        long statements = statistics.getPrepareStatementCount();
+        log.info("batch-benchmark: {} {} inserted in {} ms with {} prepared statements",
+                rows, label, elapsedMs, statements);
+        assertTrue(statements < rows / 10,
+                "Expected batched inserts for " + label + " but got " + statements + " statements");
+    }
+
+    private static User user(String username, String role) {
+        User user = new User();
+        user.setUsername(username);
+        user.setEmail(username + "@example.com");
+        user.setPassword("{noop}password");
+        user.setRole(role);
+        user.setCompanyName("COMPANY".equals(role) ? "ACME Corp" : null);
+        return user;
+    }
+}
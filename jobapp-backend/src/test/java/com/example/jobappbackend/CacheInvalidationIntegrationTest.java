@@ -0,0 +1,129 @@
+package com.example.jobappbackend;
+
+import com.example.jobappbackend.config.CacheConfig;
+import com.example.jobappbackend.dto.OfferRequest;
+import com.example.jobappbackend.dto.RegisterRequest;
+import com.example.jobappbackend.dto.UserResponse;
+import com.example.jobappbackend.service.CacheInvalidationBus;
+import com.example.jobappbackend.service.OfferService;
+import com.example.jobappbackend.service.UserService;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Two application nodes sharing one PostgreSQL, each with its own in-process caches.
+ * <p>
+ * Runs against a real PostgreSQL container ({@code ./gradlew integrationTest}). Writes made
+ * through one node must be visible through the other in less than a second, and a node whose
+ * listener connection is killed must resynchronize once it is back.
+ */
+class CacheInvalidationIntegrationTest extends PostgresIntegrationTest {
+
+    private static final Duration COHERENCE_BUDGET = Duration.ofSeconds(1);
+
+    private static ConfigurableApplicationContext nodeA;
+    private static ConfigurableApplicationContext nodeB;
+
+    @BeforeAll
+    static void startNodes() {
+        nodeA = start("node-a");
+        nodeB = start("node-b");
+        assertTrue(await(Duration.ofSeconds(10), () -> bus(nodeA).isConnected() && bus(nodeB).isConnected()),
+                "both nodes should listen");
+    }
+
+    private static ConfigurableApplicationContext start(String nodeId) {
+        return startNode(
+                "jobapp.cluster.node-id=" + nodeId,
+                "jobapp.cluster.invalidation.validation-interval=1s",
+                "jobapp.cluster.invalidation.max-reconnect-delay=1s"
+        );
+    }
+
+    @Test
+    void offerUpdateOnOneNodeIsSeenByTheOtherWithinOneSecond() {
+        Long companyId = register(nodeA, "acme-update", "COMPANY").getId();
+        Long offerId = offers(nodeA).createOffer(offer("Intern v1"), companyId).getId();
+
+        assertEquals("Intern v1", offers(nodeB).getOfferById(offerId).getTitle());
+        assertNotNull(cacheManager(nodeB).getCache(CacheConfig.OFFERS).get(offerId), "node B should cache the offer");
+
+        offers(nodeA).updateOffer(offerId, offer("Intern v2"), companyId);
+
+        assertTrue(await(COHERENCE_BUDGET, () -> "Intern v2".equals(offers(nodeB).getOfferById(offerId).getTitle())),
+                "node B should see the update within " + COHERENCE_BUDGET.toMillis() + " ms");
+    }
+
+    @Test
+    void registrationOnOneNodeIsSeenByTheOtherWithinOneSecond() {
+        assertTrue(users(nodeB).checkAvailability("carol", null).getUsernameAvailable());
+        assertTrue(users(nodeB).findByUsername("carol").isEmpty(), "node B caches the miss");
+
+        register(nodeA, "carol", "STUDENT");
+
+        assertTrue(await(COHERENCE_BUDGET, () -> users(nodeB).findByUsername("carol").isPresent()),
+                "node B should find the new user");
+        assertFalse(users(nodeB).checkAvailability("carol", null).getUsernameAvailable(),
+                "node B's identifier index should know the new username");
+    }
+
+    @Test
+    void nodeResynchronizesAfterItsListenerConnectionIsKilled() {
+        Long companyId = register(nodeA, "acme-reconnect", "COMPANY").getId();
+        Long offerId = offers(nodeA).createOffer(offer("Junior v1"), companyId).getId();
+        assertEquals("Junior v1", offers(nodeB).getOfferById(offerId).getTitle());
+        double resyncsBefore = resyncs(nodeB);
+
+        nodeA.getBean(JdbcTemplate.class).queryForList(
+                "SELECT pg_terminate_backend(pid) FROM pg_stat_activity WHERE application_name = ?",
+                "jobapp-invalidation-node-b");
+        offers(nodeA).updateOffer(offerId, offer("Junior v2"), companyId);
+
+        assertTrue(await(Duration.ofSeconds(5), () -> resyncs(nodeB) > resyncsBefore && bus(nodeB).isConnected()),
+                "node B should reconnect and resynchronize");
+        assertEquals("Junior v2", offers(nodeB).getOfferById(offerId).getTitle());
+    }
+
+    private static UserResponse register(ConfigurableApplicationContext node, String username, String role) {
+        return users(node).register(new RegisterRequest(username, username + "@example.com", "secret123", role,
+                null, null, null, "COMPANY".equals(role) ? username : null, null));
+    }
+
+    private static OfferRequest offer(String title) {
+        OfferRequest request = new OfferRequest();
+        request.setTitle(title);
+        request.setDescription("Cache invalidation test");
+        return request;
+    }
+
+    private static OfferService offers(ConfigurableApplicationContext node) {
+        return node.getBean(OfferService.class);
+    }
+
+    private static UserService users(ConfigurableApplicationContext node) {
+        return node.getBean(UserService.class);
+    }
+
+    private static CacheInvalidationBus bus(ConfigurableApplicationContext node) {
+        return node.getBean(CacheInvalidationBus.class);
+    }
+
+    private static CacheManager cacheManager(ConfigurableApplicationContext node) {
+        return node.getBean(CacheManager.class);
+    }
+
+    private static double resyncs(ConfigurableApplicationContext node) {
+        return node.getBean(MeterRegistry.class).counter("jobapp.cache.invalidation.resyncs").count();
+    }
+}
@@ -0,0 +1,160 @@
+package com.example.jobappbackend;
+
+import com.example.jobappbackend.service.ClusterJob;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.support.GenericApplicationContext;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Two application nodes running the same cluster jobs against one PostgreSQL.
+ * <p>
+ * Runs against a real PostgreSQL container ({@code ./gradlew integrationTest}). A job must never
+ * run on both nodes at once, a lease left by a dead node must be taken over once it expires, and
+ * a run exceeding its timeout must be interrupted and recorded as such, and keep the lease until
+ * its thread actually ends.
+ */
+class ClusterJobSchedulerIntegrationTest extends PostgresIntegrationTest {
+
+    /** Runs of the exclusive job in progress, across both nodes. */
+    private static final AtomicInteger exclusiveRunning = new AtomicInteger();
+    private static final AtomicInteger exclusiveMaxRunning = new AtomicInteger();
+    private static final AtomicInteger exclusiveRuns = new AtomicInteger();
+    private static final AtomicInteger failoverRuns = new AtomicInteger();
+    private static final AtomicInteger interruptedRuns = new AtomicInteger();
+    private static final AtomicInteger stubbornRunning = new AtomicInteger();
+    private static final AtomicInteger stubbornMaxRunning = new AtomicInteger();
+    private static final AtomicInteger stubbornRuns = new AtomicInteger();
+
+    private static ConfigurableApplicationContext nodeA;
+    private static ConfigurableApplicationContext nodeB;
+
+    @BeforeAll
+    static void startNodes() {
+        nodeA = start("node-a");
+        nodeB = start("node-b");
+    }
+
+    private static ConfigurableApplicationContext start(String nodeId) {
+        return startNode(
+                context -> registerJobs((GenericApplicationContext) context),
+                "jobapp.cluster.node-id=" + nodeId,
+                "jobapp.scheduler.jobs.job-run-history-cleanup.enabled=false"
+        );
+    }
+
+    private static void registerJobs(GenericApplicationContext context) {
+        context.registerBean("exclusiveJob", ClusterJob.class, () -> job("exclusive", Duration.ofMillis(200),
+                Duration.ofSeconds(5), () -> {
+                    int running = exclusiveRunning.incrementAndGet();
+                    exclusiveMaxRunning.accumulateAndGet(running, Math::max);
+                    try {
+                        Thread.sleep(150);
+                    } finally {
+                        exclusiveRunning.decrementAndGet();
+                        exclusiveRuns.incrementAndGet();
+                    }
+                }));
+        context.registerBean("failoverJob", ClusterJob.class, () -> job("failover", Duration.ofMillis(100),
+                Duration.ofSeconds(1), failoverRuns::incrementAndGet));
+        context.registerBean("slowJob", ClusterJob.class, () -> job("slow", Duration.ofMillis(500),
+                Duration.ofMillis(300), () -> {
+                    try {
+                        Thread.sleep(10_000);
+                    } catch (InterruptedException e) {
+                        interruptedRuns.incrementAndGet();
+                        throw e;
+                    }
+                }));
+        // Ignores the interruption, like a thread blocked in a JDBC call.
+        context.registerBean("stubbornJob", ClusterJob.class, () -> job("stubborn", Duration.ofMillis(200),
+                Duration.ofMillis(300), () -> {
+                    int running = stubbornRunning.incrementAndGet();
+                    stubbornMaxRunning.accumulateAndGet(running, Math::max);
+                    try {
+                        long end = System.nanoTime() + Duration.ofMillis(1_200).toNanos();
+                        while (System.nanoTime() < end) {
+                            Thread.onSpinWait();
+                        }
+                    } finally {
+                        stubbornRunning.decrementAndGet();
+                        stubbornRuns.incrementAndGet();
+                    }
+                }));
+    }
+
+    @Test
+    void jobNeverRunsOnBothNodesAtOnce() throws InterruptedException {
+        Thread.sleep(3_000);
+
+        assertTrue(exclusiveRuns.get() >= 5, "the job should keep running, ran " + exclusiveRuns.get() + " times");
+        assertEquals(1, exclusiveMaxRunning.get(), "at most one run at a time");
+        List<String> nodes = jdbc().queryForList(
+                "SELECT DISTINCT node_id FROM scheduled_job_run WHERE job_name = 'exclusive'", String.class);
+        assertTrue(nodes.stream().allMatch(node -> node.equals("node-a") || node.equals("node-b")));
+    }
+
+    @Test
+    void leaseOfDeadNodeIsTakenOverOnceExpired() throws InterruptedException {
+        jdbc().update("UPDATE scheduled_job_lease SET locked_by = 'node-dead', locked_at = now(), "
+                + "locked_until = now() + interval '1 second' WHERE name = 'failover'");
+        Thread.sleep(200);
+        int runsBefore = failoverRuns.get();
+        Thread.sleep(500);
+        assertEquals(runsBefore, failoverRuns.get(), "no node should run the job while the lease is held");
+
+        assertTrue(await(Duration.ofSeconds(2), () -> failoverRuns.get() > runsBefore),
+                "a live node should take over once the lease expires");
+    }
+
+    @Test
+    void runExceedingTimeoutIsInterruptedAndRecorded() {
+        assertTrue(await(Duration.ofSeconds(5), () -> interruptedRuns.get() > 0), "the run should be interrupted");
+        assertTrue(await(Duration.ofSeconds(2), () -> jdbc().queryForObject(
+                "SELECT count(*) FROM scheduled_job_run WHERE job_name = 'slow' AND status = 'TIMED_OUT'",
+                Integer.class) > 0), "the run should be recorded as timed out");
+    }
+
+    @Test
+    void runIgnoringInterruptionKeepsTheLeaseUntilItEnds() {
+        assertTrue(await(Duration.ofSeconds(8), () -> stubbornRuns.get() >= 3), "the job should run again after each run");
+
+        assertEquals(1, stubbornMaxRunning.get(), "no node should start the job while a timed out run goes on");
+    }
+
+    /** A job body that may throw. */
+    private interface Body {
+        void run() throws Exception;
+    }
+
+    private static ClusterJob job(String name, Duration fixedRate, Duration timeout, Body body) {
+        return new ClusterJob() {
+            @Override
+            public String getName() {
+                return name;
+            }
+
+            @Override
+            public Duration getFixedRate() {
+                return fixedRate;
+            }
+
+            @Override
+            public Duration getTimeout() {
+                return timeout;
+            }
+
+            @Override
+            public void run() throws Exception {
+                body.run();
+            }
+        };
+    }
+}
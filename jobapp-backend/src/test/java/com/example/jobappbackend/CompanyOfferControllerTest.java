@@ -1,9 +1,15 @@
 package com.example.jobappbackend;
 
 import com.example.jobappbackend.controller.CompanyOfferController;
+import com.example.jobappbackend.dto.BulkImportResponse;
+import com.example.jobappbackend.dto.ExportFormat;
+import com.example.jobappbackend.dto.ImportRecordError;
 import com.example.jobappbackend.dto.OfferRequest;
 import com.example.jobappbackend.dto.OfferResponse;
+import com.example.jobappbackend.exception.ApiException;
 import com.example.jobappbackend.exception.GlobalExceptionHandler;
+import com.example.jobappbackend.service.ExportService;
+import com.example.jobappbackend.service.OfferImportService;
 import com.example.jobappbackend.service.OfferService;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.*;
@@ -21,13 +27,17 @@ import org.springframework.web.context.request.NativeWebRequest;
 import org.springframework.web.method.support.HandlerMethodArgumentResolver;
 import org.springframework.web.method.support.ModelAndViewContainer;
 
+import java.io.InputStream;
+import java.io.OutputStream;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 /**
@@ -42,6 +52,14 @@ class CompanyOfferControllerTest {
     @Mock
     private OfferService offerService;
 
+    /** Mocked service handling bulk offer imports. */
+    @Mock
+    private OfferImportService offerImportService;
+
+    /** Mocked service streaming exports. */
+    @Mock
+    private ExportService exportService;
+
     /** Controller under test with mocked dependencies injected by Mockito. */
     @InjectMocks
     private CompanyOfferController companyOfferController;
@@ -144,6 +162,24 @@ class CompanyOfferControllerTest {
         verifyNoMoreInteractions(offerService);
     }
 
+    /**
+     * Should expose the applicant count of each offer in the company view.
+     *
+     * @throws Exception if the HTTP call fails
+     */
+    @Test
+    void shouldIncludeApplicantCountsInCompanyOffers() throws Exception {
+        mockMvc = createMockMvcWithJwt(USER_ID);
+        sampleOffer.setApplicantCount(42L);
+        when(offerService.getOffersByCompany(USER_ID)).thenReturn(List.of(sampleOffer));
+
+        MvcResult result = mockMvc.perform(get("/company/offers"))
+                .andExpect(status().isOk())
+                .andReturn();
+
+        assertTrue(result.getResponse().getContentAsString().contains("\"applicantCount\":42"));
+    }
+
     /**
      * Should return 200 OK and the created offer when creation succeeds.
      *
@@ -347,4 +383,70 @@ class CompanyOfferControllerTest {
 
         verifyNoInteractions(offerService);
     }
-}
\ No newline at end of file
+
+    /**
+     * Should return 200 OK and the import summary when an NDJSON body is posted.
+     *
+     * @throws Exception if the HTTP call fails
+     */
+    @Test
+    void shouldImportOffersFromNdjson() throws Exception {
+        mockMvc = createMockMvcWithJwt(USER_ID);
+        List<ImportRecordError> errors = new ArrayList<>(List.of(new ImportRecordError(1, "title: must not be blank")));
+        BulkImportResponse summary = new BulkImportResponse(2, 1, 1, false, errors, false);
+
+        when(offerImportService.importOffers(any(InputStream.class), eq(USER_ID))).thenReturn(summary);
+
+        MvcResult result = mockMvc.perform(post("/company/offers/import")
+                        .contentType(MediaType.APPLICATION_NDJSON)
+                        .content("{\"title\":\"Java Dev\"}\n{\"title\":\"\"}\n"))
+                .andExpect(status().isOk())
+                .andReturn();
+
+        String response = result.getResponse().getContentAsString();
+        assertTrue(response.contains("\"imported\":1"));
+        assertTrue(response.contains("must not be blank"));
+
+        verify(offerImportService).importOffers(any(InputStream.class), eq(USER_ID));
+        verifyNoInteractions(offerService);
+    }
+
+    /**
+     * Should return 400 Bad Request when the company of the import does not exist.
+     *
+     * @throws Exception if the HTTP call fails
+     */
+    @Test
+    void shouldReturnBadRequestWhenImportCompanyMissing() throws Exception {
+        mockMvc = createMockMvcWithJwt(USER_ID);
+        when(offerImportService.importOffers(any(InputStream.class), eq(USER_ID)))
+                .thenThrow(new ApiException("Company not found"));
+
+        mockMvc.perform(post("/company/offers/import")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("[]"))
+                .andExpect(status().isBadRequest());
+
+        verify(offerImportService).importOffers(any(InputStream.class), eq(USER_ID));
+    }
+
+    /**
+     * Should stream only the applications of the authenticated company.
+     *
+     * @throws Exception if the HTTP call fails
+     */
+    @Test
+    void shouldExportCompanyApplications() throws Exception {
+        mockMvc = createMockMvcWithJwt(USER_ID);
+
+        MvcResult result = mockMvc.perform(get("/company/offers/applications/export"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk());
+
+        verify(exportService).exportApplications(any(OutputStream.class), eq(ExportFormat.CSV), eq(USER_ID));
+        verifyNoInteractions(offerService);
+    }
+}
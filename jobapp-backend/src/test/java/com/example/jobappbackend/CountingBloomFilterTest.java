@@ -0,0 +1,52 @@
+package com.example.jobappbackend;
+
+import com.example.jobappbackend.service.CountingBloomFilter;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Unit tests for {@link CountingBloomFilter}, the removable Bloom filter of the identifier index.
+ */
+class CountingBloomFilterTest {
+
+    @Test
+    void shouldForgetRemovedElements() {
+        CountingBloomFilter filter = new CountingBloomFilter(1_000, 0.01);
+        filter.add("alice");
+        filter.add("bob");
+
+        filter.remove("alice");
+
+        assertFalse(filter.mightContain("alice"));
+        assertTrue(filter.mightContain("bob"));
+    }
+
+    @Test
+    void shouldKeepElementsAddedTwiceUntilRemovedTwice() {
+        CountingBloomFilter filter = new CountingBloomFilter(1_000, 0.01);
+        filter.add("alice");
+        filter.add("alice");
+
+        filter.remove("alice");
+        assertTrue(filter.mightContain("alice"));
+
+        filter.remove("alice");
+        assertFalse(filter.mightContain("alice"));
+    }
+
+    @Test
+    void shouldNeverDecrementSaturatedCounters() {
+        CountingBloomFilter filter = new CountingBloomFilter(1_000, 0.01);
+        for (int i = 0; i < 300; i++) {
+            filter.add("alice");
+        }
+
+        for (int i = 0; i < 300; i++) {
+            filter.remove("alice");
+        }
+
+        assertTrue(filter.mightContain("alice"));
+    }
+}
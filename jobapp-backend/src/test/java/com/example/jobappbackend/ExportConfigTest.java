@@ -0,0 +1,119 @@
+package com.example.jobappbackend;
+
+import com.example.jobappbackend.config.ExportConfig;
+import com.example.jobappbackend.exception.GlobalExceptionHandler;
+import jakarta.servlet.DispatcherType;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.autoconfigure.AutoConfigurations;
+import org.springframework.boot.autoconfigure.http.HttpMessageConvertersAutoConfiguration;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.autoconfigure.task.TaskExecutionAutoConfiguration;
+import org.springframework.boot.autoconfigure.web.servlet.WebMvcAutoConfiguration;
+import org.springframework.boot.test.context.runner.WebApplicationContextRunner;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.RequestBuilder;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.async.WebAsyncUtils;
+import org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerAdapter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Tests of {@link ExportConfig}: streamed exports must run on the export executor, not on the
+ * application task executor, and be refused with 503 once the export pool and its queue are full.
+ */
+class ExportConfigTest {
+
+    private final WebApplicationContextRunner runner = new WebApplicationContextRunner()
+            .withConfiguration(AutoConfigurations.of(WebMvcAutoConfiguration.class,
+                    TaskExecutionAutoConfiguration.class, HttpMessageConvertersAutoConfiguration.class,
+                    JacksonAutoConfiguration.class))
+            .withUserConfiguration(ExportConfig.class, BlockingExportController.class, GlobalExceptionHandler.class)
+            .withPropertyValues(
+                    "spring.task.execution.mode=force",
+                    "jobapp.export.pool-size=1",
+                    "jobapp.export.queue-capacity=0");
+
+    @Test
+    void shouldRunStreamedExportsOnTheExportExecutor() {
+        runner.run(context -> assertSame(context.getBean("exportTaskExecutor"),
+                ReflectionTestUtils.getField(context.getBean(RequestMappingHandlerAdapter.class), "taskExecutor")));
+    }
+
+    @Test
+    void shouldRefuseAnExportWhenEveryExportThreadIsBusy() {
+        runner.run(context -> {
+            MockMvc mockMvc = MockMvcBuilders.webAppContextSetup(context).build();
+            BlockingExportController controller = context.getBean(BlockingExportController.class);
+
+            MvcResult running = mockMvc.perform(get("/export")).andExpect(request().asyncStarted()).andReturn();
+            controller.started.await(5, TimeUnit.SECONDS);
+            MvcResult refused = mockMvc.perform(get("/export")).andExpect(request().asyncStarted()).andReturn();
+
+            assertInstanceOf(TaskRejectedException.class,
+                    WebAsyncUtils.getAsyncManager(refused.getRequest()).getConcurrentResult());
+            mockMvc.perform(dispatchOf(refused))
+                    .andExpect(status().isServiceUnavailable())
+                    .andExpect(jsonPath("$.message").value("Too many exports in progress, try again later."));
+            controller.release.countDown();
+            running.getAsyncResult(5_000);
+            mockMvc.perform(asyncDispatch(running)).andExpect(status().isOk());
+        });
+    }
+
+    /**
+     * The async dispatch of a request whose task was rejected. MockMvc only records the results
+     * of the tasks that ran, so {@code asyncDispatch} cannot be used.
+     */
+    private static RequestBuilder dispatchOf(MvcResult result) {
+        return servletContext -> {
+            MockHttpServletRequest request = result.getRequest();
+            request.setDispatcherType(DispatcherType.ASYNC);
+            request.setAsyncStarted(false);
+            return request;
+        };
+    }
+
+    @Configuration
+    @RestController
+    static class BlockingExportController {
+
+        final CountDownLatch started = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+
+        @GetMapping("/export")
+        ResponseEntity<StreamingResponseBody> export() {
+            return ResponseEntity.ok()
+                    .contentType(MediaType.parseMediaType("text/csv"))
+                    .body(out -> {
+                        started.countDown();
+                        try {
+                            release.await(5, TimeUnit.SECONDS);
+                        } catch (InterruptedException e) {
+                            Thread.currentThread().interrupt();
+                        }
+                        out.write("id\n".getBytes());
+                    });
+        }
+    }
+}
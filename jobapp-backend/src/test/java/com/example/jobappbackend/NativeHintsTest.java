@@ -0,0 +1,106 @@
+package com.example.jobappbackend;
+
+import com.example.jobappbackend.config.NativeHintsConfig;
+import com.example.jobappbackend.dto.OfferRequest;
+import com.example.jobappbackend.dto.RegisterRequest;
+import com.example.jobappbackend.model.User;
+import com.example.jobappbackend.repository.UserRepository;
+import com.example.jobappbackend.service.JwtService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.csv.CsvMapper;
+import com.fasterxml.jackson.dataformat.csv.CsvSchema;
+import net.ttddyy.dsproxy.proxy.ProxyJdbcObject;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.SpringProxy;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.TypeReference;
+import org.springframework.aot.hint.predicate.RuntimeHintsPredicates;
+import org.springframework.core.DecoratingProxy;
+import org.springframework.data.projection.TargetAware;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests of the native image support.
+ * <p>
+ * Tagged "native": {@code ./gradlew -Pnative nativeImageTest} also runs them as a native image,
+ * where the JWT and Jackson round trips only pass if the hints of {@link NativeHintsConfig}
+ * reach the image. The controller tests rely on Mockito and stay on the JVM.
+ */
+@Tag("native")
+class NativeHintsTest {
+
+    private static RuntimeHints registeredHints() {
+        RuntimeHints hints = new RuntimeHints();
+        new NativeHintsConfig.Hints().registerHints(hints, NativeHintsTest.class.getClassLoader());
+        return hints;
+    }
+
+    @Test
+    void registersJjwtImplementationsAndServices() {
+        RuntimeHints hints = registeredHints();
+
+        assertTrue(RuntimeHintsPredicates.reflection()
+                .onType(TypeReference.of("io.jsonwebtoken.impl.DefaultJwtBuilder"))
+                .withMemberCategory(MemberCategory.INVOKE_DECLARED_CONSTRUCTORS).test(hints));
+        assertTrue(RuntimeHintsPredicates.reflection()
+                .onType(TypeReference.of("io.jsonwebtoken.jackson.io.JacksonSerializer")).test(hints));
+        assertTrue(RuntimeHintsPredicates.resource()
+                .forResource("META-INF/services/io.jsonwebtoken.io.Serializer").test(hints));
+    }
+
+    @Test
+    void registersJdbcAndProjectionProxies() {
+        RuntimeHints hints = registeredHints();
+
+        assertTrue(RuntimeHintsPredicates.proxies()
+                .forInterfaces(ProxyJdbcObject.class, Connection.class).test(hints));
+        assertTrue(RuntimeHintsPredicates.proxies()
+                .forInterfaces(ProxyJdbcObject.class, PreparedStatement.class).test(hints));
+        assertTrue(RuntimeHintsPredicates.proxies().forInterfaces(UserRepository.Identifiers.class,
+                TargetAware.class, SpringProxy.class, DecoratingProxy.class).test(hints));
+    }
+
+    @Test
+    void registersEntitiesAndDtosForBinding() {
+        RuntimeHints hints = registeredHints();
+
+        assertTrue(RuntimeHintsPredicates.reflection().onType(User.class)
+                .withMemberCategories(MemberCategory.DECLARED_FIELDS, MemberCategory.INVOKE_DECLARED_METHODS)
+                .test(hints));
+        assertTrue(RuntimeHintsPredicates.reflection().onMethod(RegisterRequest.class, "setUsername").test(hints));
+        assertTrue(RuntimeHintsPredicates.reflection().onMethod(OfferRequest.class, "getTitle").test(hints));
+    }
+
+    @Test
+    void signsAndParsesToken() {
+        JwtService jwtService = new JwtService("native-image-test-secret-of-32-chars-min", 60_000);
+        User user = new User();
+        user.setId(7L);
+        user.setUsername("alice");
+        user.setRole("STUDENT");
+
+        String token = jwtService.generateToken(user);
+
+        assertEquals("alice", jwtService.extractUsername(token));
+        assertTrue(jwtService.isTokenValid(token, "alice"));
+    }
+
+    @Test
+    void readsImportRecords() throws Exception {
+        OfferRequest offer = new ObjectMapper()
+                .readValue("{\"title\":\"Intern\",\"description\":\"Java\"}", OfferRequest.class);
+        RegisterRequest user = new CsvMapper().readerFor(RegisterRequest.class)
+                .with(CsvSchema.emptySchema().withHeader())
+                .readValue("username,email\nbob,bob@example.com\n");
+
+        assertEquals("Intern", offer.getTitle());
+        assertEquals("bob@example.com", user.getEmail());
+    }
+}
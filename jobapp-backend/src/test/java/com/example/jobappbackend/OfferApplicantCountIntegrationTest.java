@@ -0,0 +1,114 @@
+package com.example.jobappbackend;
+
+import com.example.jobappbackend.dto.OfferRequest;
+import com.example.jobappbackend.dto.OfferResponse;
+import com.example.jobappbackend.service.ApplicationService;
+import com.example.jobappbackend.service.OfferApplicantCounter;
+import com.example.jobappbackend.service.OfferService;
+import com.example.jobappbackend.service.UserService;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Striped applicant counters against a real PostgreSQL container ({@code ./gradlew integrationTest}).
+ * <p>
+ * Concurrent applications to one offer must all be counted, deleting a student must subtract
+ * their applications, and the company view must carry the counts.
+ */
+class OfferApplicantCountIntegrationTest extends PostgresIntegrationTest {
+
+    private static final int STRIPES = 4;
+
+    private static ConfigurableApplicationContext node;
+
+    @BeforeAll
+    static void startApplication() {
+        node = startNode(
+                "jobapp.scheduler.enabled=false",
+                "jobapp.offers.applicant-count.stripes=" + STRIPES
+        );
+    }
+
+    @Test
+    void concurrentApplicationsAreAllCounted() throws Exception {
+        long company = insertUser("hot-company", "COMPANY");
+        Long offerId = createOffer(company, "Hot offer");
+        List<Long> students = new ArrayList<>();
+        for (int i = 0; i < 40; i++) {
+            students.add(insertUser("hot-student-" + i, "STUDENT"));
+        }
+
+        ExecutorService pool = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (Long student : students) {
+                futures.add(pool.submit(() -> node.getBean(ApplicationService.class).apply(student, offerId)));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            pool.shutdown();
+        }
+
+        assertEquals(40, counter().count(offerId));
+        int rows = jdbc().queryForObject(
+                "SELECT count(*) FROM offer_applicant_count WHERE offer_id = ?", Integer.class, offerId);
+        assertTrue(rows <= STRIPES, "at most one row per stripe, got " + rows);
+    }
+
+    @Test
+    void deletingAStudentSubtractsTheirApplications() {
+        long company = insertUser("delete-company", "COMPANY");
+        Long first = createOffer(company, "First");
+        Long second = createOffer(company, "Second");
+        long leaving = insertUser("delete-leaving", "STUDENT");
+        long staying = insertUser("delete-staying", "STUDENT");
+        ApplicationService applications = node.getBean(ApplicationService.class);
+        applications.apply(leaving, first);
+        applications.apply(leaving, second);
+        applications.apply(staying, first);
+
+        node.getBean(UserService.class).deleteUser(leaving);
+
+        assertEquals(1, counter().count(first));
+        assertEquals(0, counter().count(second));
+    }
+
+    @Test
+    void companyViewCarriesTheCounts() {
+        long company = insertUser("view-company", "COMPANY");
+        Long popular = createOffer(company, "Popular");
+        createOffer(company, "Ignored");
+        for (int i = 0; i < 3; i++) {
+            node.getBean(ApplicationService.class).apply(insertUser("view-student-" + i, "STUDENT"), popular);
+        }
+
+        List<OfferResponse> offers = node.getBean(OfferService.class).getOffersByCompany(company);
+
+        assertEquals(2, offers.size());
+        for (OfferResponse offer : offers) {
+            assertEquals(offer.getId().equals(popular) ? 3L : 0L, offer.getApplicantCount(), "offer " + offer.getId());
+        }
+    }
+
+    private static Long createOffer(long company, String title) {
+        return node.getBean(OfferService.class)
+                .createOffer(new OfferRequest(title, "Applicant count test", null, null), company)
+                .getId();
+    }
+
+    private static OfferApplicantCounter counter() {
+        return node.getBean(OfferApplicantCounter.class);
+    }
+}
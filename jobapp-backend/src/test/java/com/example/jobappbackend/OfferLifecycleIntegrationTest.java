@@ -0,0 +1,150 @@
+package com.example.jobappbackend;
+
+import com.example.jobappbackend.dto.OfferRequest;
+import com.example.jobappbackend.dto.OfferResponse;
+import com.example.jobappbackend.exception.ApiException;
+import com.example.jobappbackend.service.ApplicationService;
+import com.example.jobappbackend.service.OfferExpiryJob;
+import com.example.jobappbackend.service.OfferService;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.ConnectionCallback;
+
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Offer lifecycle against a real PostgreSQL container ({@code ./gradlew integrationTest}).
+ * <p>
+ * The feed must only list open, published and unexpired offers, through the partial index on
+ * open offers, and the expiry job must expire every due offer by batches.
+ */
+class OfferLifecycleIntegrationTest extends PostgresIntegrationTest {
+
+    private static ConfigurableApplicationContext node;
+
+    @BeforeAll
+    static void startApplication() {
+        node = startNode(
+                "jobapp.scheduler.enabled=false",
+                "jobapp.offers.expiry.batch-size=2"
+        );
+    }
+
+    @Test
+    void feedListsOnlyOpenPublishedAndUnexpiredOffers() {
+        long company = insertUser("feed-company", "COMPANY");
+        insertUser("feed-student", "STUDENT");
+        LocalDateTime now = LocalDateTime.now();
+        Long open = offers().createOffer(offer("Open", null, now.plusDays(30), null), company).getId();
+        Long scheduled = offers().createOffer(offer("Scheduled", now.plusDays(2), null, null), company).getId();
+        Long closed = offers().createOffer(offer("Closed", null, null, "CLOSED"), company).getId();
+        Long lapsed = insertOffer(company, now.minusDays(10), now.minusMinutes(1));
+
+        Set<Long> feed = offers().getAllOffers("feed-student").stream()
+                .map(OfferResponse::getId)
+                .collect(Collectors.toSet());
+
+        assertTrue(feed.contains(open));
+        assertTrue(!feed.contains(scheduled) && !feed.contains(closed) && !feed.contains(lapsed), "feed: " + feed);
+        assertEquals("CLOSED", offers().getOfferById(closed).getStatus());
+    }
+
+    @Test
+    void expiryJobExpiresDueOffersByBatches() {
+        long company = insertUser("expiry-company", "COMPANY");
+        List<Long> due = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            due.add(insertOffer(company, LocalDateTime.now().minusDays(5), LocalDateTime.now().minusHours(i + 1)));
+        }
+        Long future = insertOffer(company, LocalDateTime.now().minusDays(5), LocalDateTime.now().plusDays(1));
+
+        node.getBean(OfferExpiryJob.class).run();
+
+        for (Long id : due) {
+            assertEquals("EXPIRED", status(id));
+        }
+        assertEquals("OPEN", status(future));
+    }
+
+    @Test
+    void applicationsToExpiredOffersAreRejected() {
+        long company = insertUser("apply-company", "COMPANY");
+        long student = insertUser("apply-student", "STUDENT");
+        Long expired = offers().createOffer(
+                offer("Gone", LocalDateTime.now().minusDays(3), LocalDateTime.now().minusDays(1), null), company)
+                .getId();
+
+        assertEquals("EXPIRED", status(expired));
+        assertThrows(ApiException.class, () -> node.getBean(ApplicationService.class).apply(student, expired));
+    }
+
+    @Test
+    void partialUpdateKeepsTheLifecycleOfTheOffer() {
+        long company = insertUser("edit-company", "COMPANY");
+        LocalDateTime publishAt = LocalDateTime.now().plusDays(2).withNano(0);
+        LocalDateTime expiresAt = LocalDateTime.now().plusDays(30).withNano(0);
+        Long closed = offers().createOffer(offer("Scheduled", publishAt, expiresAt, "CLOSED"), company).getId();
+
+        OfferResponse updated = offers().updateOffer(closed, new OfferRequest("Renamed", "Edited", null, null), company);
+
+        assertEquals("Renamed", updated.getTitle());
+        assertEquals("CLOSED", updated.getStatus());
+        assertEquals(publishAt, updated.getPublishAt());
+        assertEquals(expiresAt, updated.getExpiresAt());
+    }
+
+    @Test
+    void feedQueryUsesThePartialIndexOnOpenOffers() {
+        String plan = jdbc().execute((ConnectionCallback<String>) connection -> {
+            StringBuilder lines = new StringBuilder();
+            try (Statement statement = connection.createStatement()) {
+                statement.execute("SET enable_seqscan = off");
+                try (ResultSet rs = statement.executeQuery("EXPLAIN SELECT o.id FROM jobapp_offer o "
+                        + "WHERE o.status = 'OPEN' AND o.publish_at <= LOCALTIMESTAMP "
+                        + "AND (o.expires_at IS NULL OR o.expires_at > LOCALTIMESTAMP) ORDER BY o.id")) {
+                    while (rs.next()) {
+                        lines.append(rs.getString(1)).append('\n');
+                    }
+                }
+                statement.execute("RESET enable_seqscan");
+            }
+            return lines.toString();
+        });
+        assertTrue(plan.contains("idx_jobapp_offer_open"), plan);
+    }
+
+    private static OfferRequest offer(String title, LocalDateTime publishAt, LocalDateTime expiresAt, String status) {
+        OfferRequest request = new OfferRequest(title, "Lifecycle test", null, null);
+        request.setPublishAt(publishAt);
+        request.setExpiresAt(expiresAt);
+        request.setStatus(status);
+        return request;
+    }
+
+    /** Inserts an open offer directly, as left behind by a node before the expiry job ran. */
+    private static long insertOffer(long company, LocalDateTime publishAt, LocalDateTime expiresAt) {
+        return jdbc().queryForObject("INSERT INTO jobapp_offer (id, title, description, created_at, publish_at, "
+                        + "expires_at, status, user_id) VALUES (nextval('jobapp_offer_seq'), 'Intern', 'Lifecycle test', "
+                        + "?, ?, ?, 'OPEN', ?) RETURNING id",
+                Long.class, publishAt, publishAt, expiresAt, company);
+    }
+
+    private static String status(Long offerId) {
+        return jdbc().queryForObject("SELECT status FROM jobapp_offer WHERE id = ?", String.class, offerId);
+    }
+
+    private static OfferService offers() {
+        return node.getBean(OfferService.class);
+    }
+}
@@ -0,0 +1,132 @@
+package com.example.jobappbackend;
+
+import com.example.jobappbackend.dto.OfferRequest;
+import com.example.jobappbackend.dto.OfferResponse;
+import com.example.jobappbackend.exception.ApiException;
+import com.example.jobappbackend.repository.ApplicationRepository;
+import com.example.jobappbackend.repository.OfferRepository;
+import com.example.jobappbackend.repository.UserRepository;
+import com.example.jobappbackend.service.OfferApplicantCounter;
+import com.example.jobappbackend.service.OfferService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.projection.SpelAwareProxyProjectionFactory;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for {@link OfferService#updateOffer}, which updates an offer and reads it back in
+ * one statement, changing its lifecycle fields only when the request sets them.
+ */
+@ExtendWith(MockitoExtension.class)
+class OfferServiceTest {
+
+    private static final Long OFFER_ID = 1L;
+    private static final Long COMPANY_ID = 10L;
+
+    @Mock
+    private OfferRepository offerRepository;
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private ApplicationRepository applicationRepository;
+
+    @Mock
+    private OfferApplicantCounter applicantCounter;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    private OfferService service;
+
+    @BeforeEach
+    void setUp() {
+        service = new OfferService(offerRepository, userRepository, applicationRepository, applicantCounter,
+                eventPublisher);
+    }
+
+    /**
+     * Should keep the status, publication date and expiry date of a closed, scheduled offer
+     * when the request only edits its text.
+     */
+    @Test
+    void shouldKeepTheLifecycleOfAClosedScheduledOfferOnAPartialUpdate() {
+        LocalDateTime publishAt = LocalDateTime.now().plusDays(2);
+        LocalDateTime expiresAt = LocalDateTime.now().plusDays(30);
+        when(offerRepository.updateOwnedOffer(eq(OFFER_ID), eq(COMPANY_ID), eq("Renamed"), eq("Desc"),
+                isNull(), isNull(), isNull(), isNull(), isNull()))
+                .thenReturn(Optional.of(updatedOffer(publishAt, expiresAt, "CLOSED")));
+
+        OfferResponse response = service.updateOffer(OFFER_ID, new OfferRequest("Renamed", "Desc", null, null), COMPANY_ID);
+
+        assertEquals("CLOSED", response.getStatus());
+        assertEquals(publishAt, response.getPublishAt());
+        assertEquals(expiresAt, response.getExpiresAt());
+        assertEquals("ACME", response.getCompanyName());
+        assertEquals(3L, response.getApplicantCount());
+    }
+
+    /**
+     * Should expire the offer when the request sets an expiry date already passed,
+     * even without a status.
+     */
+    @Test
+    void shouldExpireAnOfferWhoseNewExpiryHasPassed() {
+        OfferRequest request = new OfferRequest("Late", "Desc", null, null);
+        request.setExpiresAt(LocalDateTime.now().minusHours(1));
+        when(offerRepository.updateOwnedOffer(eq(OFFER_ID), eq(COMPANY_ID), any(), any(), any(), any(), any(),
+                any(), eq("EXPIRED"))).thenReturn(Optional.of(updatedOffer(null, request.getExpiresAt(), "EXPIRED")));
+
+        OfferResponse response = service.updateOffer(OFFER_ID, request, COMPANY_ID);
+
+        assertEquals("EXPIRED", response.getStatus());
+    }
+
+    /**
+     * Should tell a missing offer from one owned by another company when nothing was updated.
+     */
+    @Test
+    void shouldRejectTheUpdateOfAnOfferOfAnotherCompany() {
+        when(offerRepository.updateOwnedOffer(eq(OFFER_ID), eq(COMPANY_ID), any(), any(), any(), any(), any(),
+                any(), any())).thenReturn(Optional.empty());
+        when(offerRepository.existsById(OFFER_ID)).thenReturn(true);
+
+        ApiException error = assertThrows(ApiException.class,
+                () -> service.updateOffer(OFFER_ID, new OfferRequest("Title", null, null, null), COMPANY_ID));
+
+        assertEquals("You are not authorized to update this offer.", error.getMessage());
+        verify(eventPublisher, never()).publishEvent(any());
+    }
+
+    private static OfferRepository.UpdatedOffer updatedOffer(LocalDateTime publishAt, LocalDateTime expiresAt,
+                                                             String status) {
+        Map<String, Object> row = new HashMap<>();
+        row.put("id", OFFER_ID);
+        row.put("title", "Renamed");
+        row.put("description", "Desc");
+        row.put("companyName", "ACME");
+        row.put("publishAt", publishAt);
+        row.put("expiresAt", expiresAt);
+        row.put("status", status);
+        row.put("applicantCount", 3L);
+        return new SpelAwareProxyProjectionFactory().createProjection(OfferRepository.UpdatedOffer.class, row);
+    }
+}
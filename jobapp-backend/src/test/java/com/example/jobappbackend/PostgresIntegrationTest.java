@@ -0,0 +1,130 @@
+package com.example.jobappbackend;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Tag;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ApplicationContextInitializer;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.testcontainers.containers.PostgreSQLContainer;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.BooleanSupplier;
+
+/**
+ * Base of the tests running against a real PostgreSQL container ({@code ./gradlew integrationTest}).
+ * <p>
+ * Each test class gets its own database, started before its {@code @BeforeAll} methods, and starts
+ * one or more application nodes on it with {@link #startNode(String...)}. The nodes are closed
+ * after the class, the most recent first, then the database is stopped.
+ * <p>
+ * The node properties are passed as command-line arguments: default properties would be
+ * overridden by application.properties, and the nodes would connect to the configured database.
+ */
+@Tag("integration")
+abstract class PostgresIntegrationTest {
+
+    /** Database of the running test class. */
+    static PostgreSQLContainer<?> postgres;
+
+    /** Nodes started by the running test class, oldest first. */
+    private static final List<ConfigurableApplicationContext> nodes = new ArrayList<>();
+
+    @BeforeAll
+    static void startDatabase() {
+        postgres = new PostgreSQLContainer<>("postgres:16-alpine");
+        postgres.start();
+    }
+
+    @AfterAll
+    static void stopNodesAndDatabase() {
+        for (int i = nodes.size() - 1; i >= 0; i--) {
+            nodes.get(i).close();
+        }
+        nodes.clear();
+        if (postgres != null) {
+            postgres.stop();
+        }
+    }
+
+    /**
+     * Starts an application node on the database of the class.
+     *
+     * @param properties properties added to (or overriding) the connection and logging settings
+     * @return the started node
+     */
+    static ConfigurableApplicationContext startNode(String... properties) {
+        return startNode(context -> { }, properties);
+    }
+
+    /**
+     * Starts an application node on the database of the class.
+     *
+     * @param initializer initializer run on the context before it is refreshed
+     * @param properties  properties added to (or overriding) the connection and logging settings
+     * @return the started node
+     */
+    static ConfigurableApplicationContext startNode(ApplicationContextInitializer<ConfigurableApplicationContext> initializer,
+                                                    String... properties) {
+        String r2dbcUrl = "r2dbc:postgresql://" + postgres.getHost() + ":" + postgres.getMappedPort(5432)
+                + "/" + postgres.getDatabaseName();
+        List<String> all = new ArrayList<>(List.of(
+                "server.port=0",
+                "spring.datasource.url=" + postgres.getJdbcUrl(),
+                "spring.datasource.username=" + postgres.getUsername(),
+                "spring.datasource.password=" + postgres.getPassword(),
+                "spring.r2dbc.url=" + r2dbcUrl,
+                "spring.r2dbc.username=" + postgres.getUsername(),
+                "spring.r2dbc.password=" + postgres.getPassword(),
+                "spring.jpa.show-sql=false",
+                "logging.level.org.hibernate.SQL=WARN",
+                "logging.level.org.hibernate.type.descriptor.sql.BasicBinder=WARN"
+        ));
+        all.addAll(List.of(properties));
+        ConfigurableApplicationContext node = new SpringApplicationBuilder(JobappBackendApplication.class)
+                .initializers(initializer)
+                .run(all.stream().map(property -> "--" + property).toArray(String[]::new));
+        nodes.add(node);
+        return node;
+    }
+
+    /** @return a JDBC template on the database, through the first node */
+    static JdbcTemplate jdbc() {
+        return nodes.get(0).getBean(JdbcTemplate.class);
+    }
+
+    /**
+     * Inserts a user directly, with its username as email prefix and company name.
+     *
+     * @return the ID of the user
+     */
+    static long insertUser(String username, String role) {
+        return jdbc().queryForObject("INSERT INTO jobapp_user (id, username, email, password, role, company_name) "
+                        + "VALUES (nextval('jobapp_user_seq'), ?, ?, 'x', ?, ?) RETURNING id",
+                Long.class, username, username + "@example.com", role, username);
+    }
+
+    /**
+     * Polls a condition until it holds or the timeout elapses.
+     *
+     * @return whether the condition held in time
+     */
+    static boolean await(Duration timeout, BooleanSupplier condition) {
+        long deadline = System.nanoTime() + timeout.toNanos();
+        while (System.nanoTime() < deadline) {
+            if (condition.getAsBoolean()) {
+                return true;
+            }
+            try {
+                Thread.sleep(10);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return false;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,76 @@
+package com.example.jobappbackend;
+
+import com.example.jobappbackend.config.R2dbcConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import io.r2dbc.spi.ConnectionFactory;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.autoconfigure.AutoConfigurations;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceAutoConfiguration;
+import org.springframework.boot.autoconfigure.jdbc.JdbcConnectionDetails;
+import org.springframework.boot.autoconfigure.r2dbc.R2dbcAutoConfiguration;
+import org.springframework.boot.autoconfigure.sql.init.SqlInitializationProperties;
+import org.springframework.boot.sql.init.DatabaseInitializationMode;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+
+import javax.sql.DataSource;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+
+/**
+ * Tests of {@link R2dbcConfig}: the JDBC pool must be created by Spring Boot next to the
+ * R2DBC connection factory. No connection is opened.
+ */
+class R2dbcConfigTest {
+
+    private final ApplicationContextRunner runner = new ApplicationContextRunner()
+            .withConfiguration(AutoConfigurations.of(R2dbcAutoConfiguration.class, DataSourceAutoConfiguration.class))
+            .withUserConfiguration(R2dbcConfig.class)
+            .withBean(SqlInitializationProperties.class, () -> {
+                SqlInitializationProperties properties = new SqlInitializationProperties();
+                properties.setMode(DatabaseInitializationMode.NEVER);
+                return properties;
+            })
+            .withPropertyValues(
+                    "spring.r2dbc.url=r2dbc:postgresql://localhost:5433/jobapp",
+                    "spring.r2dbc.username=postgres",
+                    "spring.datasource.url=jdbc:postgresql://localhost:5433/jobapp",
+                    "spring.datasource.username=postgres",
+                    "spring.datasource.hikari.maximum-pool-size=7");
+
+    @Test
+    void shouldCreateTheHikariPoolFromTheDatasourceProperties() {
+        runner.run(context -> {
+            assertNotNull(context.getBean(ConnectionFactory.class));
+            HikariDataSource dataSource = assertInstanceOf(HikariDataSource.class, context.getBean(DataSource.class));
+            assertEquals("jdbc:postgresql://localhost:5433/jobapp", dataSource.getJdbcUrl());
+            assertEquals("postgres", dataSource.getUsername());
+            assertEquals(7, dataSource.getMaximumPoolSize());
+        });
+    }
+
+    @Test
+    void shouldPreferTheConnectionDetailsOfAServiceConnection() {
+        runner.withBean(JdbcConnectionDetails.class, () -> new JdbcConnectionDetails() {
+            @Override
+            public String getUsername() {
+                return "test";
+            }
+
+            @Override
+            public String getPassword() {
+                return "secret";
+            }
+
+            @Override
+            public String getJdbcUrl() {
+                return "jdbc:postgresql://container:5432/test";
+            }
+        }).run(context -> {
+            HikariDataSource dataSource = context.getBean(HikariDataSource.class);
+            assertEquals("jdbc:postgresql://container:5432/test", dataSource.getJdbcUrl());
+            assertEquals("test", dataSource.getUsername());
+        });
+    }
+}
@@ -0,0 +1,157 @@
+package com.example.jobappbackend;
+
+import com.example.jobappbackend.controller.ReactiveOfferController;
+import com.example.jobappbackend.dto.OfferResponse;
+import com.example.jobappbackend.exception.ApiException;
+import com.example.jobappbackend.exception.GlobalExceptionHandler;
+import com.example.jobappbackend.service.ReactiveOfferService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.web.method.annotation.AuthenticationPrincipalArgumentResolver;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.security.Principal;
+import java.time.LocalDateTime;
+
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * Unit tests for {@link ReactiveOfferController} using standalone {@link MockMvc}.
+ * <p>
+ * The reactive service is mocked. Each request starts asynchronous processing; the response
+ * is checked after the async dispatch, as it would be written once the rows arrive.
+ */
+@ExtendWith(MockitoExtension.class)
+class ReactiveOfferControllerTest {
+
+    /** Mocked service running the reactive queries. */
+    @Mock
+    private ReactiveOfferService reactiveOfferService;
+
+    /** Controller under test with mocked dependencies injected. */
+    @InjectMocks
+    private ReactiveOfferController reactiveOfferController;
+
+    /** Standalone MockMvc instance used to perform HTTP requests against the controller. */
+    private MockMvc mockMvc;
+
+    /** Reusable sample offer returned by the mocked service. */
+    private OfferResponse sampleOffer;
+
+    /**
+     * Builds a standalone {@link MockMvc} with the production principal resolver: without a JWT
+     * authentication, the company is taken from the userId parameter.
+     */
+    @BeforeEach
+    void setUp() {
+        mockMvc = MockMvcBuilders
+                .standaloneSetup(reactiveOfferController)
+                .setControllerAdvice(new GlobalExceptionHandler())
+                .setCustomArgumentResolvers(new AuthenticationPrincipalArgumentResolver())
+                .build();
+
+        sampleOffer = new OfferResponse(
+                1L,
+                "Internship",
+                "Great opportunity",
+                "http://logo.com/logo.png",
+                "http://company.com",
+                LocalDateTime.now(),
+                "ACME Corp",
+                true
+        );
+    }
+
+    /**
+     * Should return the student feed as a JSON array once the offers are emitted,
+     * without any blocking JDBC statement.
+     */
+    @Test
+    void shouldGetAllOffers() throws Exception {
+        Principal principal = () -> "student1";
+        when(reactiveOfferService.getAllOffers("student1")).thenReturn(Flux.just(sampleOffer));
+
+        MvcResult result = mockMvc.perform(get("/reactive/offers").principal(principal))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].title").value("Internship"))
+                .andExpect(jsonPath("$[0].applied").value(true));
+
+        verify(reactiveOfferService).getAllOffers("student1");
+    }
+
+    /**
+     * Should return the offer details.
+     */
+    @Test
+    void shouldGetOfferById() throws Exception {
+        when(reactiveOfferService.getOfferById(1L)).thenReturn(Mono.just(sampleOffer));
+
+        MvcResult result = mockMvc.perform(get("/reactive/offers/1"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.companyName").value("ACME Corp"));
+    }
+
+    /**
+     * Should map an error signal of the service to 400 through {@link GlobalExceptionHandler}.
+     */
+    @Test
+    void shouldReturnBadRequestWhenOfferNotFound() throws Exception {
+        when(reactiveOfferService.getOfferById(99L)).thenReturn(Mono.error(new ApiException("Offer not found")));
+
+        MvcResult result = mockMvc.perform(get("/reactive/offers/99"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value("Offer not found"));
+    }
+
+    /**
+     * Should list the offers of the company given by the userId fallback parameter.
+     */
+    @Test
+    void shouldGetCompanyOffers() throws Exception {
+        when(reactiveOfferService.getOffersByCompany(101L)).thenReturn(Flux.just(sampleOffer));
+
+        MvcResult result = mockMvc.perform(get("/reactive/company/offers").param("userId", "101"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].id").value(1));
+
+        verify(reactiveOfferService).getOffersByCompany(101L);
+    }
+
+    /**
+     * Should return 400 when the company cannot be resolved, before any query is started.
+     */
+    @Test
+    void shouldReturnBadRequestWithoutCompanyUserId() throws Exception {
+        mockMvc.perform(get("/reactive/company/offers"))
+                .andExpect(status().isBadRequest());
+
+        verifyNoInteractions(reactiveOfferService);
+    }
+}
@@ -0,0 +1,59 @@
+package com.example.jobappbackend;
+
+import com.example.jobappbackend.config.ScrapeTokenAuthenticationFilter;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+/**
+ * Tests of {@link ScrapeTokenAuthenticationFilter}: only the configured scrape token grants the
+ * scrape authority.
+ */
+class ScrapeTokenAuthenticationFilterTest {
+
+    @AfterEach
+    void clearContext() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void shouldGrantTheScrapeAuthorityToTheScrapeToken() throws Exception {
+        Authentication authentication = filter("s3cret", "Bearer s3cret");
+
+        assertNotNull(authentication);
+        assertEquals(ScrapeTokenAuthenticationFilter.AUTHORITY,
+                authentication.getAuthorities().stream().map(GrantedAuthority::getAuthority).findFirst().orElseThrow());
+    }
+
+    @Test
+    void shouldIgnoreAnyOtherBearerToken() throws Exception {
+        assertNull(filter("s3cret", "Bearer eyJhbGciOiJIUzI1NiJ9.admin.signature"));
+        assertNull(filter("s3cret", null));
+    }
+
+    @Test
+    void shouldRefuseEveryoneWhenNoTokenIsConfigured() throws Exception {
+        assertNull(filter("", "Bearer "));
+        assertNull(filter(null, "Bearer "));
+    }
+
+    private static Authentication filter(String configuredToken, String authorization) throws Exception {
+        SecurityContextHolder.clearContext();
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/actuator/prometheus");
+        if (authorization != null) {
+            request.addHeader("Authorization", authorization);
+        }
+        new ScrapeTokenAuthenticationFilter(configuredToken)
+                .doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+        return SecurityContextHolder.getContext().getAuthentication();
+    }
+}
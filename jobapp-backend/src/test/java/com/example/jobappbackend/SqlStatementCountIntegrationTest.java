@@ -0,0 +1,91 @@
+package com.example.jobappbackend;
+
+import com.example.jobappbackend.dto.OfferRequest;
+import com.example.jobappbackend.model.Offer;
+import com.example.jobappbackend.repository.OfferRepository;
+import com.example.jobappbackend.service.OfferService;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * SQL statement counts against a real PostgreSQL container ({@code ./gradlew integrationTest}).
+ * <p>
+ * The student feed must run the same number of statements whatever the number of offers, an
+ * offer update must read the offer back in its own statement, and the {@link SqlStatementCounter}
+ * must catch an N+1 loading of the offers' companies.
+ */
+@ExtendWith(SqlStatementCounter.class)
+class SqlStatementCountIntegrationTest extends PostgresIntegrationTest {
+
+    private static ConfigurableApplicationContext node;
+
+    @BeforeAll
+    static void startApplication() {
+        node = startNode();
+    }
+
+    @Test
+    void feedRunsTheSameStatementsWhateverTheNumberOfOffers() {
+        insertUser("sql-student", "STUDENT");
+        createOffers("sql-company-a", 2);
+        SqlStatementCounter.reset();
+
+        node.getBean(OfferService.class).getAllOffers("sql-student");
+
+        // The student, their applications to open offers, and the open offers with their companies.
+        SqlStatementCounter.assertStatementCount(3);
+
+        createOffers("sql-company-b", 3);
+        createOffers("sql-company-c", 3);
+        SqlStatementCounter.reset();
+
+        node.getBean(OfferService.class).getAllOffers("sql-student");
+
+        SqlStatementCounter.assertStatementCount(3);
+        SqlStatementCounter.assertNoRepeatedStatement(1);
+    }
+
+    @Test
+    void offerUpdateReadsTheOfferBackInTheSameStatement() {
+        long companyId = insertUser("sql-update-company", "COMPANY");
+        Long offerId = node.getBean(OfferService.class)
+                .createOffer(new OfferRequest("Intern", "Statement count test", null, null), companyId).getId();
+        SqlStatementCounter.reset();
+
+        node.getBean(OfferService.class)
+                .updateOffer(offerId, new OfferRequest("Intern v2", "Statement count test", null, null), companyId);
+
+        // The update returning the offer, and the cache invalidation notified before commit.
+        SqlStatementCounter.assertStatementCount(2);
+    }
+
+    @Test
+    void loadingCompaniesOneByOneIsDetected() {
+        createOffers("n1-company-a", 1);
+        createOffers("n1-company-b", 1);
+        createOffers("n1-company-c", 1);
+        SqlStatementCounter.reset();
+
+        // Offer.createdBy is not fetched by findAll: each company is selected on its own.
+        new TransactionTemplate(node.getBean(PlatformTransactionManager.class)).executeWithoutResult(status ->
+                node.getBean(OfferRepository.class).findAll().stream()
+                        .map(Offer::getCreatedBy)
+                        .forEach(company -> company.getCompanyName()));
+
+        assertThrows(AssertionError.class, () -> SqlStatementCounter.assertNoRepeatedStatement(1));
+    }
+
+    private static void createOffers(String company, int count) {
+        long companyId = insertUser(company, "COMPANY");
+        for (int i = 0; i < count; i++) {
+            node.getBean(OfferService.class)
+                    .createOffer(new OfferRequest(company + " offer " + i, "Statement count test", null, null), companyId);
+        }
+    }
+}
@@ -0,0 +1,77 @@
+package com.example.jobappbackend;
+
+import com.example.jobappbackend.config.SqlStatementStats;
+import org.junit.jupiter.api.extension.AfterEachCallback;
+import org.junit.jupiter.api.extension.BeforeEachCallback;
+import org.junit.jupiter.api.extension.ExtensionContext;
+
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+
+/**
+ * JUnit extension counting the SQL statements executed by the test thread.
+ * <p>
+ * Register it with {@code @ExtendWith(SqlStatementCounter.class)}, run the code under test on
+ * the test thread (a service call, or a request performed with
+ * {@link org.springframework.test.web.servlet.MockMvc}), then call {@link #assertStatementCount(int)}. Statements are recorded by the datasource
+ * proxy of {@code SqlMonitoringConfig}, so the counter is only meaningful in tests running
+ * against the real datasource, such as {@link SqlStatementCountIntegrationTest}.
+ */
+public class SqlStatementCounter implements BeforeEachCallback, AfterEachCallback {
+
+    private static final ExtensionContext.Namespace NAMESPACE =
+            ExtensionContext.Namespace.create(SqlStatementCounter.class);
+
+    @Override
+    public void beforeEach(ExtensionContext context) {
+        context.getStore(NAMESPACE).put("stats", SqlStatementStats.start());
+    }
+
+    @Override
+    public void afterEach(ExtensionContext context) {
+        SqlStatementStats stats = context.getStore(NAMESPACE).remove("stats", SqlStatementStats.class);
+        if (stats != null) {
+            stats.stop();
+        }
+    }
+
+    /** Forgets the statements executed so far (e.g. by the test fixture). */
+    public static void reset() {
+        stats().reset();
+    }
+
+    /**
+     * Asserts the exact number of statements executed since the start of the test
+     * or the last {@link #reset()}, listing the executed shapes on failure.
+     *
+     * @param expected the expected number of statements
+     */
+    public static void assertStatementCount(int expected) {
+        SqlStatementStats stats = stats();
+        assertEquals(expected, stats.getStatementCount(), () -> "Unexpected number of SQL statements:\n"
+                + stats.getCountsByShape().entrySet().stream()
+                .map(e -> e.getValue() + " x " + e.getKey())
+                .collect(Collectors.joining("\n")));
+    }
+
+    /**
+     * Asserts that no statement shape was executed more than the given number of times.
+     *
+     * @param maxRepeats the allowed executions of a single shape
+     */
+    public static void assertNoRepeatedStatement(int maxRepeats) {
+        Map.Entry<String, Integer> repeated = stats().getMostRepeatedShape();
+        if (repeated != null && repeated.getValue() > maxRepeats) {
+            throw new AssertionError("Statement executed " + repeated.getValue() + " times: " + repeated.getKey());
+        }
+    }
+
+    private static SqlStatementStats stats() {
+        SqlStatementStats stats = SqlStatementStats.current();
+        assertNotNull(stats, "SqlStatementCounter is not registered on this test class");
+        return stats;
+    }
+}
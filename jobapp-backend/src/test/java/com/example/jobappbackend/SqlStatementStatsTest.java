@@ -0,0 +1,54 @@
+package com.example.jobappbackend;
+
+import com.example.jobappbackend.config.SqlStatementStats;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+/**
+ * Unit tests for {@link SqlStatementStats}: statement shapes and nested recording scopes.
+ */
+class SqlStatementStatsTest {
+
+    @Test
+    void shouldCollapseLiterals() {
+        assertEquals("select * from jobapp_user where username = ? and id > ? and score = ?",
+                SqlStatementStats.shape("select * from jobapp_user where username = 'o''brien' and id > 42 and score = 1.5"));
+    }
+
+    @Test
+    void shouldGiveTheSameShapeToAnyInList() {
+        String one = SqlStatementStats.shape("select * from jobapp_offer where id in (?)");
+        String many = SqlStatementStats.shape("select * from jobapp_offer where id IN ( ?, ?,? )");
+
+        assertEquals("select * from jobapp_offer where id in (?)", one);
+        assertEquals(one, many);
+    }
+
+    @Test
+    void shouldKeepIdentifiersContainingDigits() {
+        assertEquals("select o1_0.id from jobapp_offer o1_0 where o1_0.id = ?",
+                SqlStatementStats.shape("select o1_0.id from jobapp_offer o1_0 where o1_0.id = 7"));
+    }
+
+    @Test
+    void shouldCollapseWhitespace() {
+        assertEquals("select id from applications where student_id = ?",
+                SqlStatementStats.shape("\n  select id\n\tfrom applications\n  where student_id = ?  "));
+    }
+
+    @Test
+    void shouldRestoreTheEnclosingScopeOnStop() {
+        SqlStatementStats outer = SqlStatementStats.start();
+        SqlStatementStats inner = SqlStatementStats.start();
+        assertSame(inner, SqlStatementStats.current());
+
+        inner.stop();
+        assertSame(outer, SqlStatementStats.current());
+
+        outer.stop();
+        assertNull(SqlStatementStats.current());
+    }
+}
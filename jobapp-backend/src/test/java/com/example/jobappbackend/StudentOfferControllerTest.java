@@ -1,11 +1,12 @@
 package com.example.jobappbackend;
 
+import com.example.jobappbackend.config.ServerTimingFilter;
 import com.example.jobappbackend.controller.StudentOfferController;
 import com.example.jobappbackend.dto.OfferResponse;
 import com.example.jobappbackend.exception.GlobalExceptionHandler;
 import com.example.jobappbackend.service.OfferService;
 import com.example.jobappbackend.service.StudentApplicationService;
-import jakarta.mail.MessagingException;
+import com.example.jobappbackend.exception.ApiException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -21,6 +22,7 @@ import java.security.Principal;
 import java.time.LocalDateTime;
 import java.util.List;
 
+import static org.hamcrest.Matchers.containsString;
 import static org.mockito.Mockito.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
@@ -97,7 +99,8 @@ class StudentOfferControllerTest {
                         .contentType(MediaType.APPLICATION_JSON))
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$[0].title").value("Internship"))
-                .andExpect(jsonPath("$[0].applied").value(true));
+                .andExpect(jsonPath("$[0].applied").value(true))
+                .andExpect(jsonPath("$[0].applicantCount").doesNotExist());
 
         verify(offerService).getAllOffers("student1");
     }
@@ -118,6 +121,44 @@ class StudentOfferControllerTest {
         verify(offerService).getOfferById(1L);
     }
 
+    /**
+     * Should report the latency breakdown in a Server-Timing header when the timing filter is installed.
+     *
+     * @throws Exception if the request fails
+     */
+    @Test
+    void shouldAddServerTimingHeader() throws Exception {
+        when(offerService.getOfferById(1L)).thenReturn(sampleOffer);
+        MockMvc timedMockMvc = MockMvcBuilders
+                .standaloneSetup(studentOfferController)
+                .addFilters(new ServerTimingFilter(-1, "http://localhost:4200"))
+                .build();
+
+        timedMockMvc.perform(get("/offers/1"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Server-Timing", containsString("total;dur=")))
+                .andExpect(header().string("Timing-Allow-Origin", "http://localhost:4200"));
+    }
+
+    /**
+     * Should keep the timings unreadable from other origins when no origin is configured.
+     *
+     * @throws Exception if the request fails
+     */
+    @Test
+    void shouldOmitTimingAllowOriginByDefault() throws Exception {
+        when(offerService.getOfferById(1L)).thenReturn(sampleOffer);
+        MockMvc timedMockMvc = MockMvcBuilders
+                .standaloneSetup(studentOfferController)
+                .addFilters(new ServerTimingFilter(-1, ""))
+                .build();
+
+        timedMockMvc.perform(get("/offers/1"))
+                .andExpect(status().isOk())
+                .andExpect(header().exists("Server-Timing"))
+                .andExpect(header().doesNotExist("Timing-Allow-Origin"));
+    }
+
     /**
      * Should return 400 Bad Request when the service signals an invalid request for a missing offer.
      * <p>
@@ -160,17 +201,18 @@ class StudentOfferControllerTest {
     }
 
     /**
-     * Should return 500 Internal Server Error when email sending fails during application.
+     * Should return 400 Bad Request when the uploaded files cannot be read.
+     * The email to the company is sent after the commit and cannot fail the request.
      *
      * @throws Exception if the request fails
      */
     @Test
-    void shouldReturnServerErrorWhenEmailFails() throws Exception {
+    void shouldReturnBadRequestWhenFilesCannotBeRead() throws Exception {
         MockMultipartFile cv = new MockMultipartFile("cv", "cv.pdf", "application/pdf", "CV".getBytes());
         MockMultipartFile motivation = new MockMultipartFile("motivation", "motivation.pdf", "application/pdf", "Motivation".getBytes());
 
         mockPrincipal = () -> "student123";
-        doThrow(new MessagingException("SMTP error"))
+        doThrow(new ApiException("Could not read the uploaded files."))
                 .when(applicationService).applyToOffer(eq(1L), any(), any(), eq("student123"));
 
         mockMvc.perform(multipart("/offers/1/apply")
@@ -178,7 +220,8 @@ class StudentOfferControllerTest {
                         .file(motivation)
                         .principal(mockPrincipal)
                         .contentType(MediaType.MULTIPART_FORM_DATA))
-                .andExpect(status().isInternalServerError());
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value("Could not read the uploaded files."));
 
         verify(applicationService).applyToOffer(eq(1L), any(), any(), eq("student123"));
     }
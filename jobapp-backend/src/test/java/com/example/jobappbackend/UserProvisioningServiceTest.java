@@ -0,0 +1,123 @@
+package com.example.jobappbackend;
+
+import com.example.jobappbackend.dto.BulkImportResponse;
+import com.example.jobappbackend.model.User;
+import com.example.jobappbackend.repository.UserRepository;
+import com.example.jobappbackend.service.UserProvisioningService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
+import jakarta.validation.Validation;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for {@link UserProvisioningService}, which creates user accounts by batches.
+ */
+@ExtendWith(MockitoExtension.class)
+class UserProvisioningServiceTest {
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private PasswordEncoder passwordEncoder;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private EntityManager entityManager;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private UserProvisioningService service;
+
+    @BeforeEach
+    void setUp() {
+        when(transactionManager.getTransaction(any())).thenAnswer(invocation -> new SimpleTransactionStatus());
+        when(passwordEncoder.encode(anyString())).thenAnswer(invocation -> "hashed-" + invocation.getArgument(0));
+        service = new UserProvisioningService(userRepository, passwordEncoder, eventPublisher, new ObjectMapper(),
+                Validation.buildDefaultValidatorFactory().getValidator(), entityManager, transactionManager,
+                Runnable::run, 1000, 1000);
+    }
+
+    /**
+     * Should fall back to one insert per row when an account is created concurrently,
+     * rejecting only the clashing row.
+     */
+    @Test
+    void shouldRejectOnlyTheRowCreatedConcurrently() {
+        when(userRepository.findExistingUsernames(anyList())).thenReturn(List.of());
+        when(userRepository.findExistingEmails(anyList())).thenReturn(List.of());
+        when(userRepository.saveAllAndFlush(anyList())).thenAnswer(invocation -> {
+            List<User> users = invocation.getArgument(0);
+            if (users.stream().anyMatch(user -> "bob".equals(user.getUsername()))) {
+                throw new DataIntegrityViolationException("duplicate key value violates unique constraint");
+            }
+            return users;
+        });
+        String body = """
+                {"username":"alice","email":"alice@example.com","password":"secret","role":"STUDENT"}
+                {"username":"bob","email":"bob@example.com","password":"secret","role":"STUDENT"}
+                {"username":"carol","email":"carol@example.com","password":"secret","role":"STUDENT"}
+                """;
+
+        BulkImportResponse summary = service.provision(
+                new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8)), false);
+
+        assertEquals(3, summary.getReceived());
+        assertEquals(2, summary.getImported());
+        assertEquals(1, summary.getFailed());
+        assertEquals(1, summary.getErrors().get(0).getIndex());
+        assertEquals("Username or email already exists", summary.getErrors().get(0).getMessage());
+        verify(userRepository, times(4)).saveAllAndFlush(anyList());
+    }
+
+    /**
+     * Should reject the rows breaking the constraints of the provisioning group, unknown roles
+     * and passwords too long for BCrypt included, and create the others.
+     */
+    @Test
+    void shouldRejectInvalidRowsAndUnknownRoles() {
+        String body = """
+                {"username":"dave","email":"dave@example.com","password":"secret","role":"MANAGER"}
+                {"username":"erin","email":"not-an-email","role":"STUDENT"}
+                {"username":"frank","email":"frank@example.com","password":"secret","role":"company"}
+                {"username":"gina","email":"gina@example.com","password":"%s","role":"STUDENT"}
+                """.formatted("x".repeat(80));
+
+        BulkImportResponse summary = service.provision(
+                new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8)), false);
+
+        assertEquals(4, summary.getReceived());
+        assertEquals(1, summary.getImported());
+        assertEquals(3, summary.getFailed());
+        assertEquals(0, summary.getErrors().get(0).getIndex());
+        assertEquals("role: must be STUDENT, COMPANY or ADMIN", summary.getErrors().get(0).getMessage());
+        assertEquals(1, summary.getErrors().get(1).getIndex());
+        assertEquals("email: must be a well-formed email address; password: must not be blank",
+                summary.getErrors().get(1).getMessage());
+        assertEquals("password: size must be between 0 and 72", summary.getErrors().get(2).getMessage());
+    }
+}